@@ -0,0 +1,137 @@
+package controller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes the content of a file on a background thread, so that saving never stalls a frame.
+ * Each write goes to a temporary file which is flushed to the disk and then renamed over the old file: a crash leaves
+ * either the old content or the new one, never a partial file. Contents submitted while a write is pending replace
+ * each other, so a burst of saves costs a single write.
+ */
+public final class AsyncFileWriter {
+
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  private final Path file;
+  private final Path temporary;
+  private final Executor executor;
+  private final AtomicReference<byte[]> pending;
+  private final AtomicBoolean scheduled;
+  private final AtomicLong writes;
+  private final Object lock;
+
+  /**
+   *
+   * @param file
+   *              the file to be written, on a thread of its own.
+   */
+  public AsyncFileWriter(final Path file) {
+    this(file, Executors.newSingleThreadExecutor(r -> {
+      final var thread = new Thread(r, "writer-" + file.getFileName());
+      thread.setDaemon(true);
+      return thread;
+    }));
+  }
+
+  /**
+   *
+   * @param file
+   *              the file to be written.
+   * @param executor
+   *              where the writes run, shared by the writers of many files: writes of the same file never overlap.
+   */
+  public AsyncFileWriter(final Path file, final Executor executor) {
+    this.file = file;
+    this.temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+    this.executor = executor;
+    this.pending = new AtomicReference<>();
+    this.scheduled = new AtomicBoolean();
+    this.writes = new AtomicLong();
+    this.lock = new Object();
+  }
+
+  /**
+   * Schedules a write of the file, replacing the content of a write still pending.
+   *
+   * @param content
+   *              the new content of the file: it must not be changed afterwards.
+   */
+  public void submit(final byte[] content) {
+    this.pending.set(content);
+    if (this.scheduled.compareAndSet(false, true)) {
+      this.executor.execute(() -> {
+        this.scheduled.set(false);
+        this.writePending();
+      });
+    }
+  }
+
+  /**
+   * Writes the pending content, if any, on the calling thread, after waiting for the write in progress (I.e. on shutdown).
+   */
+  public void flush() {
+    this.writePending();
+  }
+
+  private void writePending() {
+    synchronized (this.lock) {
+      final byte[] content = this.pending.getAndSet(null);
+      if (content != null) {
+        try {
+          this.write(content);
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      }
+    }
+  }
+
+  private void write(final byte[] content) throws IOException {
+    Files.createDirectories(this.file.toAbsolutePath().getParent());
+    try (FileChannel channel = FileChannel.open(this.temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      final var buffer = ByteBuffer.wrap(content);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    try {
+      Files.move(this.temporary, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(this.temporary, this.file, StandardCopyOption.REPLACE_EXISTING);
+    }
+    this.writes.incrementAndGet();
+  }
+
+  /**
+   * Waits for the write in progress, if any.
+   *
+   * @return whether no write is pending or in progress.
+   */
+  public boolean isIdle() {
+    synchronized (this.lock) {
+      return this.pending.get() == null && !this.scheduled.get();
+    }
+  }
+
+  /**
+   *
+   * @return how many times the file has been written.
+   */
+  public long getWrites() {
+    return this.writes.get();
+  }
+}
@@ -79,7 +79,7 @@ public abstract class Controller {
     this.audio.stop();
   }
   /**
-   * Save the Gson file user.
+   * Save the profile of the user.
    * @param user
    */
   public void saveUser(final User user) {
@@ -0,0 +1,306 @@
+package controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.badlogic.gdx.math.Vector2;
+
+import com.google.gson.stream.JsonReader;
+
+import model.entities.cards.CardType;
+import model.entities.users.User;
+import model.entities.users.UserLevel;
+
+/**
+ * The binary format of the profile of the user. After the magic number and the version, a profile holds the number of its
+ * fields, then each field as its tag, the type of its value and the value: readers skip the fields they do not know and
+ * give the default value to the missing ones, so a field can be added without breaking older profiles or older games.
+ * The version changes only when a field changes meaning: profiles of an older version are then upgraded while they are read,
+ * while profiles of a newer one are refused rather than misread.
+ * The deck of the user is a field of the profile too, kept encoded until it is needed.
+ * Profiles saved as Json by the first versions of the game are read field by field as well, and then saved in this format.
+ */
+final class ProfileFormat {
+
+  /**
+   * The first bytes of every profile.
+   */
+  static final int MAGIC = 0x4352_5546;
+
+  /**
+   * The version of the profile format.
+   */
+  static final int VERSION = 1;
+
+  /**
+   * The name of a new user.
+   */
+  static final String DEFAULT_NAME = "Dream";
+
+  private static final byte INT = 1;
+  private static final byte BYTE = 2;
+  private static final byte STRING = 3;
+  private static final byte BYTES = 4;
+
+  private static final int NAME = 1;
+  private static final int XP = 2;
+  private static final int LEVEL = 3;
+  private static final int PLAYS = 4;
+  private static final int WINS = 5;
+  private static final int DESTROYED_TOWERS = 6;
+  private static final int DECK = 7;
+  private static final int USER_FIELDS = 6;
+
+  private ProfileFormat() {
+  }
+
+  /**
+   * A user read from a profile, with its deck still encoded.
+   */
+  static final class Profile {
+
+    private final User user;
+    private final byte[] deck;
+
+    Profile(final User user, final byte[] deck) {
+      this.user = user;
+      this.deck = deck;
+    }
+
+    /**
+     *
+     * @return the user of the profile.
+     */
+    User getUser() {
+      return this.user;
+    }
+
+    /**
+     *
+     * @return the deck as written by {@link ProfileFormat#writeDeck(Map)}, empty if the profile has no deck.
+     */
+    byte[] getDeck() {
+      return this.deck;
+    }
+  }
+
+  /**
+   *
+   * @param user
+   *              the user to be saved.
+   * @param deck
+   *              the deck of the user as written by {@link #writeDeck(Map)}, empty if the user has no deck yet.
+   * @return the profile of the user.
+   */
+  static byte[] write(final User user, final byte[] deck) {
+    final var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeShort(VERSION);
+      out.writeShort(deck.length == 0 ? USER_FIELDS : USER_FIELDS + 1);
+      out.writeShort(NAME);
+      out.writeByte(STRING);
+      out.writeUTF(user.getName());
+      out.writeShort(LEVEL);
+      out.writeByte(BYTE);
+      out.writeByte(user.getCurrentLevel().ordinal());
+      ProfileFormat.writeInt(out, XP, user.getCurrentXP());
+      ProfileFormat.writeInt(out, PLAYS, user.getPlays());
+      ProfileFormat.writeInt(out, WINS, user.getWins());
+      ProfileFormat.writeInt(out, DESTROYED_TOWERS, user.getDestroyedTowers());
+      if (deck.length > 0) {
+        out.writeShort(DECK);
+        out.writeByte(BYTES);
+        out.writeShort(deck.length);
+        out.write(deck);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void writeInt(final DataOutputStream out, final int tag, final int value) throws IOException {
+    out.writeShort(tag);
+    out.writeByte(INT);
+    out.writeInt(value);
+  }
+
+  /**
+   * Reads a profile written by {@link #write(User, byte[])}, by this version of the game or by an older one.
+   *
+   * @param stream
+   *              where the profile is read from.
+   * @return the user of the profile and its deck.
+   * @throws IOException
+   *              if the profile cannot be read or has been written by a newer version of the game.
+   */
+  static Profile read(final InputStream stream) throws IOException {
+    final var in = new DataInputStream(stream);
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a profile");
+    }
+    final int version = in.readUnsignedShort();
+    if (version > VERSION) {
+      throw new IOException("The profile has been saved by a newer version of the game: " + version);
+    }
+    String name = DEFAULT_NAME;
+    var level = UserLevel.LVL1;
+    int xp = 0;
+    int plays = 0;
+    int wins = 0;
+    int towers = 0;
+    byte[] deck = new byte[0];
+    final int fields = in.readUnsignedShort();
+    for (int i = 0; i < fields; i++) {
+      final int tag = in.readUnsignedShort();
+      final Object value = ProfileFormat.readValue(in, in.readByte());
+      if (tag == NAME && value instanceof String) {
+        name = (String) value;
+      } else if (tag == LEVEL && value instanceof Byte && (Byte) value >= 0 && (Byte) value < UserLevel.values().length) {
+        level = UserLevel.values()[(Byte) value];
+      } else if (tag == DECK && value instanceof byte[]) {
+        deck = (byte[]) value;
+      } else if (value instanceof Integer) {
+        final int number = (Integer) value;
+        switch (tag) {
+          case XP:
+            xp = number;
+            break;
+          case PLAYS:
+            plays = number;
+            break;
+          case WINS:
+            wins = number;
+            break;
+          case DESTROYED_TOWERS:
+            towers = number;
+            break;
+          default:
+            break;
+        }
+      }
+    }
+    return new Profile(new User(name, xp, level, plays, wins, towers), deck);
+  }
+
+  private static Object readValue(final DataInputStream in, final byte type) throws IOException {
+    switch (type) {
+      case INT:
+        return in.readInt();
+      case BYTE:
+        return in.readByte();
+      case STRING:
+        return in.readUTF();
+      case BYTES:
+        return ProfileFormat.readBytes(in);
+      default:
+        throw new IOException("Unknown type of a field of the profile: " + type);
+    }
+  }
+
+  private static byte[] readBytes(final DataInputStream in) throws IOException {
+    final byte[] bytes = new byte[in.readUnsignedShort()];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  /**
+   * Reads a profile saved as Json by the first versions of the game, ignoring unknown fields.
+   *
+   * @param reader
+   *              where the Json is read from.
+   * @return the user of the profile.
+   * @throws IOException
+   *              if the Json cannot be read.
+   */
+  static User readJson(final Reader reader) throws IOException {
+    final var in = new JsonReader(reader);
+    String name = DEFAULT_NAME;
+    var level = UserLevel.LVL1;
+    int xp = 0;
+    int plays = 0;
+    int wins = 0;
+    int towers = 0;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "name":
+          name = in.nextString();
+          break;
+        case "currentLevel":
+          level = UserLevel.valueOf(in.nextString());
+          break;
+        case "currentXP":
+          xp = in.nextInt();
+          break;
+        case "plays":
+          plays = in.nextInt();
+          break;
+        case "wins":
+          wins = in.nextInt();
+          break;
+        case "destroyedTowers":
+          towers = in.nextInt();
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new User(name, xp, level, plays, wins, towers);
+  }
+
+  /**
+   * Encodes a deck as the identifier of each card type, followed by the position of the card.
+   *
+   * @param deck
+   *              the position of each card type of the deck.
+   * @return the deck to be saved in the profile.
+   */
+  static byte[] writeDeck(final Map<CardType, Vector2> deck) {
+    final var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      out.writeByte(deck.size());
+      for (final var card : deck.entrySet()) {
+        out.writeByte(card.getKey().ordinal());
+        out.writeShort(Math.round(card.getValue().x));
+        out.writeShort(Math.round(card.getValue().y));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   *
+   * @param deck
+   *              a deck written by {@link #writeDeck(Map)}.
+   * @return the position of each card type of the deck.
+   * @throws IOException
+   *              if the deck cannot be read.
+   */
+  static Map<CardType, Vector2> readDeck(final byte[] deck) throws IOException {
+    final var in = new DataInputStream(new ByteArrayInputStream(deck));
+    final Map<CardType, Vector2> cards = new EnumMap<>(CardType.class);
+    final int size = in.readUnsignedByte();
+    for (int i = 0; i < size; i++) {
+      final int type = in.readUnsignedByte();
+      if (type >= CardType.values().length) {
+        throw new IOException("Unknown card type in the deck: " + type);
+      }
+      cards.put(CardType.values()[type], new Vector2(in.readShort(), in.readShort()));
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,364 @@
+package controller;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.cards.CardType;
+import model.entities.users.User;
+
+/**
+ * The profiles of many users, each one saved in a file of its own named after the user. A profile is read when it is first
+ * asked for and is kept in a cache holding the most recently used ones only, so any number of profiles can be kept on disk.
+ * Profiles are written by {@link AsyncFileWriter}s sharing a single background thread: a writer exists only while a save
+ * of its profile is pending, and is dropped once the profile has been written.
+ * A profile which cannot be read is set aside with the {@value #UNREADABLE_SUFFIX} suffix, so that it is not overwritten,
+ * and replaced by a new user.
+ */
+public final class ProfileRepository {
+
+  /**
+   * The extension of the files of the profiles.
+   */
+  public static final String EXTENSION = ".profile";
+
+  private static final String UNREADABLE_SUFFIX = ".unreadable";
+
+  private final Path directory;
+  private final Map<String, Cached> cache;
+  private final Map<String, AsyncFileWriter> writers;
+  private final ExecutorService executor;
+  private volatile Thread thread;
+
+  /**
+   * A profile in the cache: its deck is kept encoded until it is needed.
+   */
+  private static final class Cached {
+    private final User user;
+    private volatile byte[] deck;
+
+    Cached(final User user, final byte[] deck) {
+      this.user = user;
+      this.deck = deck;
+    }
+  }
+
+  /**
+   *
+   * @param directory
+   *              where the profiles are saved.
+   * @param capacity
+   *              how many profiles are kept in memory at most.
+   */
+  public ProfileRepository(final Path directory, final int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("The cache must hold a profile at least");
+    }
+    this.directory = directory;
+    this.cache = new LinkedHashMap<>(capacity, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, Cached> eldest) {
+        return this.size() > capacity;
+      }
+    };
+    this.writers = new ConcurrentHashMap<>();
+    this.executor = Executors.newSingleThreadExecutor(r -> {
+      this.thread = new Thread(r, "profile-writer");
+      this.thread.setDaemon(true);
+      return this.thread;
+    });
+  }
+
+  /**
+   * Reads a profile, unless it is cached, creating and saving a new user if there is no profile with that name.
+   *
+   * @param name
+   *              the name of the user.
+   * @return the user.
+   */
+  public User get(final String name) {
+    return this.entry(name).user;
+  }
+
+  private Cached entry(final String name) {
+    synchronized (this.cache) {
+      final var cached = this.cache.get(name);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    final var loaded = this.load(name);
+    synchronized (this.cache) {
+      return this.cache.computeIfAbsent(name, n -> loaded);
+    }
+  }
+
+  private Cached load(final String name) {
+    this.flush(name);
+    final var file = this.fileOf(name);
+    if (Files.exists(file)) {
+      try (var in = new BufferedInputStream(Files.newInputStream(file))) {
+        final var profile = ProfileFormat.read(in);
+        return new Cached(profile.getUser(), profile.getDeck());
+      } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+        e.printStackTrace();
+        ProfileRepository.setAside(file);
+      }
+    }
+    final var entry = new Cached(new User(name), new byte[0]);
+    this.write(entry);
+    this.flush(name);
+    return entry;
+  }
+
+  /**
+   * Reads a saved profile without caching it, unless it is already cached (I.e. to go through every profile
+   * without pushing the recent ones out of the cache).
+   *
+   * @param name
+   *              the name of the user.
+   * @return the user, or empty if there is no profile with that name or it cannot be read.
+   */
+  public Optional<User> peek(final String name) {
+    synchronized (this.cache) {
+      if (this.cache.containsKey(name)) {
+        return Optional.of(this.cache.get(name).user);
+      }
+    }
+    this.flush(name);
+    final var file = this.fileOf(name);
+    if (!Files.exists(file)) {
+      return Optional.empty();
+    }
+    try (var in = new BufferedInputStream(Files.newInputStream(file))) {
+      return Optional.of(ProfileFormat.read(in).getUser());
+    } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+      e.printStackTrace();
+      return Optional.empty();
+    }
+  }
+
+  private static void setAside(final Path unreadable) {
+    try {
+      Files.move(unreadable, unreadable.resolveSibling(unreadable.getFileName() + UNREADABLE_SUFFIX),
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Saves the profile of a user with its deck, making it the cached profile of that name. The user is serialized
+   * right away, while the file is written on a background thread.
+   *
+   * @param user
+   *              the user to be saved.
+   */
+  public void save(final User user) {
+    final var entry = this.entry(user.getName());
+    final Cached saved;
+    if (entry.user == user) {
+      saved = entry;
+    } else {
+      saved = new Cached(user, entry.deck);
+      synchronized (this.cache) {
+        this.cache.put(user.getName(), saved);
+      }
+    }
+    this.write(saved);
+  }
+
+  /**
+   * Saves a profile read from elsewhere (I.e. from the single profile of older versions of the game), replacing
+   * the one of the same name without reading it.
+   */
+  void importProfile(final User user, final byte[] deck) {
+    final var entry = new Cached(user, deck);
+    synchronized (this.cache) {
+      this.cache.put(user.getName(), entry);
+    }
+    this.write(entry);
+  }
+
+  /**
+   *
+   * @return whether the profile of a user has been written.
+   */
+  boolean isSaved(final String name) {
+    return Files.exists(this.fileOf(name));
+  }
+
+  /**
+   * Submits the profile to the writer of its name, creating it if there is none, then schedules the writer to be dropped
+   * after the write: the executor has a single thread, so the writer is checked once its write is over.
+   */
+  private void write(final Cached entry) {
+    final var name = entry.user.getName();
+    final var content = ProfileFormat.write(entry.user, entry.deck);
+    this.writers.compute(name, (n, writer) -> {
+      final var current = writer == null ? new AsyncFileWriter(this.fileOf(n), this.executor) : writer;
+      current.submit(content);
+      return current;
+    });
+    this.executor.execute(() -> this.release(name));
+  }
+
+  /**
+   * Writes the pending save of a profile, if any, on the calling thread.
+   */
+  private void flush(final String name) {
+    final var writer = this.writers.get(name);
+    if (writer != null) {
+      writer.flush();
+      this.release(name);
+    }
+  }
+
+  /**
+   * Drops the writer of a profile, unless a save is still pending.
+   */
+  private void release(final String name) {
+    this.writers.computeIfPresent(name, (n, writer) -> writer.isIdle() ? null : writer);
+  }
+
+  /**
+   * Decodes the deck of a profile, which is done only when the deck is needed.
+   *
+   * @param name
+   *              the name of the user.
+   * @return the position of each card type of the deck, empty if no deck has been saved or it cannot be read.
+   */
+  public Optional<Map<CardType, Vector2>> getDeck(final String name) {
+    final var deck = this.entry(name).deck;
+    if (deck.length == 0) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(ProfileFormat.readDeck(deck));
+    } catch (IOException e) {
+      e.printStackTrace();
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Saves the deck of a user along with its profile.
+   *
+   * @param name
+   *              the name of the user.
+   * @param composition
+   *              the position of each card type of the deck.
+   */
+  public void saveDeck(final String name, final Map<CardType, Vector2> composition) {
+    final var entry = this.entry(name);
+    entry.deck = ProfileFormat.writeDeck(composition);
+    this.write(entry);
+  }
+
+  /**
+   * Lists the names of the saved profiles, without reading them.
+   *
+   * @return the names of the users.
+   * @throws IOException
+   *              if the directory of the profiles cannot be read.
+   */
+  public List<String> names() throws IOException {
+    if (!Files.isDirectory(this.directory)) {
+      return List.of();
+    }
+    try (var files = Files.list(this.directory)) {
+      return files.map(file -> file.getFileName().toString())
+          .filter(file -> file.endsWith(EXTENSION))
+          .map(file -> URLDecoder.decode(file.substring(0, file.length() - EXTENSION.length()), StandardCharsets.UTF_8))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   *
+   * @return how many profiles are in memory.
+   */
+  public int getCachedProfiles() {
+    synchronized (this.cache) {
+      return this.cache.size();
+    }
+  }
+
+  /**
+   * Runs a task on the thread writing the profiles, after the saves already submitted (I.e. to update what depends
+   * on a profile without stalling a frame).
+   *
+   * @param task
+   *              the task, which must not wait for the profiles to be flushed.
+   */
+  public void runInBackground(final Runnable task) {
+    this.executor.execute(task);
+  }
+
+  /**
+   * Computes a result on the thread writing the profiles, after the saves already submitted (I.e. to read or export
+   * the saves without stalling a frame).
+   *
+   * @param <T>
+   *              the type of the result.
+   * @param task
+   *              the task, which must not wait for the profiles to be flushed.
+   * @return the result, once computed.
+   */
+  public <T> CompletableFuture<T> supplyInBackground(final Supplier<T> task) {
+    return CompletableFuture.supplyAsync(task, this.executor);
+  }
+
+  /**
+   * Waits for the tasks already submitted, then writes the saves still pending on the calling thread
+   * (I.e. when the game is closed).
+   */
+  public void flush() {
+    if (Thread.currentThread() != this.thread) {
+      try {
+        this.executor.submit(() -> { }).get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        e.printStackTrace();
+      }
+    }
+    this.writers.keySet().forEach(this::flush);
+  }
+
+  /**
+   *
+   * @return how many profiles have a save pending.
+   */
+  int getPendingWriters() {
+    return this.writers.size();
+  }
+
+  /**
+   * Escapes the name, so that any name is a valid file name.
+   */
+  private Path fileOf(final String name) {
+    return this.directory.resolve(URLEncoder.encode(name, StandardCharsets.UTF_8).replace("*", "%2A") + EXTENSION);
+  }
+}
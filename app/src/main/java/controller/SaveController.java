@@ -1,78 +1,254 @@
 package controller;
 
+import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.badlogic.gdx.math.Vector2;
 
+import model.entities.cards.CardType;
 import model.entities.users.User;
+import model.history.MatchHistory;
+import model.history.MatchRecord;
+import model.leaderboard.Leaderboard;
+import model.leaderboard.Standing;
 
 /**
- * Class used to save and load User and Deck.
+ * Class used to save and load User and Deck. The profile of the player is read from the {@link ProfileRepository}
+ * when it is first needed, never while classes are loaded.
  */
 public final class SaveController  {
 
-  private static final Gson GSON = new GsonBuilder().create();
   private static final String USER_DIR_PATH = System.getProperty("user.home") + File.separator + "royaleData" + File.separator;
-  private static final String FILE_NAME = "user.json";
+  private static final String PROFILES_DIR = "profiles";
+  private static final String LEGACY_PROFILE_FILE = "user.profile";
+  private static final String LEGACY_JSON_FILE = "user.json";
+  private static final String UNREADABLE_SUFFIX = ".unreadable";
+  private static final String REPLAYS_DIR = "replays";
+  private static final String EXPORTS_DIR = "exports";
+  private static final String COMBAT_LOGS_DIR = "combatlogs";
+  private static final int CACHED_PROFILES = 64;
+  private static final ProfileRepository PROFILES = new ProfileRepository(Path.of(USER_DIR_PATH, PROFILES_DIR), CACHED_PROFILES);
+  private static final MatchHistory MATCH_HISTORY = new MatchHistory(Path.of(USER_DIR_PATH));
+  private static final Leaderboard LEADERBOARD = new Leaderboard(Path.of(USER_DIR_PATH));
+  private static boolean legacyChecked;
+  private static boolean leaderboardChecked;
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(SaveController::flush, "save-flush"));
+  }
 
   private SaveController() {
   }
 
-  private static boolean checkDirectoryExistance() {
-    return new File(USER_DIR_PATH).exists();
+  /**
+   * Creates the directory of the replays, if missing.
+   * 
+   * @return a new file where the replay of a match can be recorded.
+   */
+  public static File newReplayFile() {
+    final var directory = new File(USER_DIR_PATH + REPLAYS_DIR);
+    directory.mkdirs();
+    return new File(directory, System.currentTimeMillis() + ".replay");
+  }
+
+  /**
+   * Creates the directory of the combat logs, if missing.
+   * 
+   * @return a new file where the combat log of a match can be dumped.
+   */
+  public static File newCombatLogFile() {
+    final var directory = new File(USER_DIR_PATH + COMBAT_LOGS_DIR);
+    directory.mkdirs();
+    return new File(directory, System.currentTimeMillis() + ".log");
+  }
+
+  /**
+   * Creates a new directory for the files of an export of the statistics.
+   * 
+   * @return the directory, named after the current time.
+   * @throws IOException if the directory cannot be created.
+   */
+  public static Path newExportDirectory() throws IOException {
+    return Files.createDirectories(Path.of(USER_DIR_PATH, EXPORTS_DIR, Long.toString(System.currentTimeMillis())));
+  }
+
+  /**
+   * 
+   * @return the history of the matches played by the user.
+   */
+  public static MatchHistory getMatchHistory() {
+    return MATCH_HISTORY;
+  }
+
+  /**
+   * Runs a task reading the saves (I.e. an export of the match history) on the thread writing the profiles, after
+   * the matches and saves already submitted, so that it never stalls a frame.
+   * 
+   * @param <T> the type of the result.
+   * @param task the task.
+   * @return the result of the task, once computed.
+   */
+  public static <T> CompletableFuture<T> supplyInBackground(final Supplier<T> task) {
+    return PROFILES.supplyInBackground(task);
+  }
+
+  /**
+   * Appends a finished match to the history on the thread writing the profiles, so that recording a match never stalls
+   * a frame.
+   * 
+   * @param record the match.
+   */
+  public static void recordMatch(final MatchRecord record) {
+    PROFILES.runInBackground(() -> {
+      try {
+        MATCH_HISTORY.append(record);
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    });
+  }
+
+  /**
+   * 
+   * @return the ranking of the users, after adding the profiles saved before the leaderboard existed: they are read
+   *         without going through the cache of the profiles.
+   */
+  public static synchronized Leaderboard getLeaderboard() {
+    if (!leaderboardChecked) {
+      leaderboardChecked = true;
+      if (!LEADERBOARD.exists()) {
+        try {
+          final var names = SaveController.getProfiles().names();
+          LEADERBOARD.addAll(() -> names.stream().map(PROFILES::peek).flatMap(Optional::stream).iterator());
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      }
+    }
+    return LEADERBOARD;
   }
 
-  private static void createDirectory() {
-    new File(USER_DIR_PATH).mkdir();
+  /**
+   * 
+   * @return the profiles of the users, after moving there the single profile of older versions of the game.
+   */
+  public static ProfileRepository getProfiles() {
+    SaveController.importLegacyProfile();
+    return PROFILES;
   }
 
-  private static boolean checkFileExistance() {
-    return new File(USER_DIR_PATH + File.separator + FILE_NAME).exists();
+  /**
+   * Moves the profile saved by older versions of the game, in the binary format or as Json, to the repository. 
+   * A profile which cannot be read is set aside with the {@value #UNREADABLE_SUFFIX} suffix.
+   */
+  private static synchronized void importLegacyProfile() {
+    if (legacyChecked) {
+      return;
+    }
+    legacyChecked = true;
+    final var profile = Path.of(USER_DIR_PATH, LEGACY_PROFILE_FILE);
+    final var json = Path.of(USER_DIR_PATH, LEGACY_JSON_FILE);
+    final var source = Files.exists(profile) ? profile : json;
+    if (!Files.exists(source)) {
+      return;
+    }
+    try {
+      final User user;
+      if (source == profile) {
+        try (var in = new BufferedInputStream(Files.newInputStream(profile))) {
+          final var loaded = ProfileFormat.read(in);
+          user = loaded.getUser();
+          PROFILES.importProfile(user, loaded.getDeck());
+        }
+      } else if (Files.size(json) > 0) {
+        try (Reader reader = Files.newBufferedReader(json, StandardCharsets.UTF_8)) {
+          user = ProfileFormat.readJson(reader);
+          PROFILES.importProfile(user, new byte[0]);
+        }
+      } else {
+        Files.delete(json);
+        return;
+      }
+      PROFILES.flush();
+      if (PROFILES.isSaved(user.getName())) {
+        Files.deleteIfExists(profile);
+        Files.deleteIfExists(json);
+      }
+    } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+      e.printStackTrace();
+      SaveController.setAside(source);
+    }
   }
 
-  private static void createFile() {
+  private static void setAside(final Path unreadable) {
     try {
-      new File(USER_DIR_PATH + File.separator + FILE_NAME).createNewFile();
+      Files.move(unreadable, unreadable.resolveSibling(unreadable.getFileName() + UNREADABLE_SUFFIX), 
+          StandardCopyOption.REPLACE_EXISTING);
     } catch (IOException e) {
       e.printStackTrace();
     }
   }
 
   /**
-   * Load the user from the Json file.
+   * Load the user of the player, reading its profile on first access only: when there is no profile a new user 
+   * is created and saved.
    * 
-   * @return a {@link User} loaded from file.
+   * @return a {@link User} loaded from file, never null.
    */
   public static User loadUser() {
-    if (SaveController.checkDirectoryExistance() && SaveController.checkFileExistance()) {
+    return SaveController.getProfiles().get(ProfileFormat.DEFAULT_NAME);
+  }
+
+  /**
+   * Saves the profile of a user with its deck and moves the user to its new position in the leaderboard. The user and 
+   * its standing are taken right away, while the profile and the leaderboard are written on a background thread.
+   * 
+   * @param user the {@link User} to be saved.
+   */
+  public static void saveUser(final User user) {
+    SaveController.getProfiles().save(user);
+    final var standing = Standing.of(user);
+    PROFILES.runInBackground(() -> {
       try {
-        return GSON.fromJson(new FileReader(new File(USER_DIR_PATH + File.separator + FILE_NAME)), User.class);
+        SaveController.getLeaderboard().update(standing);
       } catch (IOException e) {
         e.printStackTrace();
       }
-    } else {
-      SaveController.createDirectory();
-      SaveController.createFile();
-      return new User("Dream");
-    }
-    return null;
+    });
   }
 
   /**
-   * Serialize a user in a json file.
+   * Decodes the deck of the player, read with its profile: it is decoded only when the deck is first needed.
    * 
-   * @param user the {@link User} to be saved.
+   * @return the position of each card type of the deck, empty if no deck has been saved or it cannot be read.
    */
-  public static void saveUser(final User user) {
-    try (FileWriter writer = new FileWriter(new File(USER_DIR_PATH + File.separator + FILE_NAME))) {
-      GSON.toJson(user, writer);
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
+  public static Optional<Map<CardType, Vector2>> loadDeck() {
+    return SaveController.getProfiles().getDeck(ProfileFormat.DEFAULT_NAME);
   }
 
+  /**
+   * Saves the deck along with the profile of the player, through the same writer: saves close to each other cost a single write.
+   * 
+   * @param composition the position of each card type of the deck.
+   */
+  public static void saveDeck(final Map<CardType, Vector2> composition) {
+    SaveController.getProfiles().saveDeck(ProfileFormat.DEFAULT_NAME, composition);
+  }
+
+  /**
+   * Writes the saves still pending on the calling thread (I.e. when the game is closed).
+   */
+  public static void flush() {
+    PROFILES.flush();
+  }
 }
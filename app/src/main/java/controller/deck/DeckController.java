@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import model.Model;
 import view.screens.deck.DeckScreen;
 import controller.Controller;
+import controller.SaveController;
 import controller.audio.AudioDeckController;
 import controller.menu.MenuController;
 import launcher.ClashRoyale;
@@ -156,7 +157,7 @@ public class DeckController extends Controller {
    */
   public void returnButton() {
     if (PlayersDeck.getInstance().getDeck().size() == DECK_SIZE) {
-
+      SaveController.saveDeck(PlayersDeck.getInstance().composition());
       triggerMenu();
     } else {
       JOptionPane.showMessageDialog(frame, "INSERIRE 4 CARTE NEL DECK PER POTER GIOCARE");
@@ -0,0 +1,140 @@
+package controller.game;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import model.BotGameModel;
+import model.ai.BotDifficulty;
+import model.ai.BotMetrics;
+import model.ai.BotStrategy;
+import model.ai.MonteCarloSearch;
+import model.ai.RandomBot;
+import model.ai.UtilityBot;
+import model.command.DeployCommand;
+
+/**
+ * Drives the bot of a match according to a {@link BotDifficulty}: a decision is started every few ticks from the render
+ * thread and its deploy is submitted to the match once ready. Once the budget of the difficulty is over the decision is
+ * cancelled, so the strategy stops working on it, and dropped, so the next one can start in time.
+ */
+public class BotController {
+
+  private final BotGameModel model;
+  private final BotDifficulty difficulty;
+  private final BotStrategy strategy;
+  private final BotMetrics metrics;
+  private final long budgetNanos;
+  private Optional<CompletableFuture<Optional<DeployCommand>>> decision;
+  private AtomicBoolean cancelled;
+  private int nextDecisionTick;
+
+  /**
+   * Build a bot controller.
+   *
+   * @param model the match the bot is playing.
+   * @param difficulty the difficulty of the bot.
+   */
+  public BotController(final BotGameModel model, final BotDifficulty difficulty) {
+    this(model, difficulty, BotController.createStrategy(model, difficulty));
+  }
+
+  /**
+   * Build a bot controller deciding by a given strategy, with the frequency and budget of a difficulty.
+   *
+   * @param model the match the bot is playing.
+   * @param difficulty the difficulty of the bot.
+   * @param strategy how the bot decides.
+   */
+  BotController(final BotGameModel model, final BotDifficulty difficulty, final BotStrategy strategy) {
+    this.model = model;
+    this.difficulty = difficulty;
+    this.strategy = strategy;
+    this.metrics = new BotMetrics();
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(difficulty.getBudgetMillis());
+    this.decision = Optional.empty();
+    this.cancelled = new AtomicBoolean();
+    this.nextDecisionTick = difficulty.getDecisionTicks();
+  }
+
+  private static BotStrategy createStrategy(final BotGameModel model, final BotDifficulty difficulty) {
+    switch (difficulty.getAlgorithm()) {
+      case RANDOM: return new RandomBot(model);
+      case HEURISTIC: return new UtilityBot(model.getGameMap());
+      case SEARCH: return new MonteCarloSearch(model, difficulty.getBudgetMillis(), Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+      default: throw new IllegalArgumentException("Unknown algorithm " + difficulty.getAlgorithm());
+    }
+  }
+
+  /**
+   * Submits the last decision, if ready, and starts a new one when it is time to.
+   */
+  public void update() {
+    this.submitDecision();
+    if (this.decision.isEmpty() && this.model.getCurrentTick() >= this.nextDecisionTick) {
+      final long start = System.nanoTime();
+      final var cancelled = new AtomicBoolean();
+      final var decided = new CompletableFuture<Optional<DeployCommand>>().orTimeout(this.difficulty.getBudgetMillis(), TimeUnit.MILLISECONDS);
+      decided.whenComplete((deploy, error) -> cancelled.set(true));
+      this.cancelled = cancelled;
+      this.decision = Optional.of(decided.handle((deploy, error) -> this.checkDeadline(start, deploy, error)));
+      this.strategy.decide(this.model, cancelled::get).whenComplete((deploy, error) -> {
+        if (error == null) {
+          decided.complete(deploy);
+        } else {
+          decided.completeExceptionally(error);
+        }
+      });
+      this.nextDecisionTick = this.model.getCurrentTick() + this.difficulty.getDecisionTicks();
+      this.submitDecision();
+    }
+  }
+
+  private void submitDecision() {
+    if (this.decision.isPresent() && this.decision.get().isDone()) {
+      this.decision.get().join().ifPresent(this.model::submit);
+      this.decision = Optional.empty();
+    }
+  }
+
+  private Optional<DeployCommand> checkDeadline(final long start, final Optional<DeployCommand> deploy, final Throwable error) {
+    final long elapsed = System.nanoTime() - start;
+    if (error instanceof TimeoutException) {
+      this.metrics.recordTimeout(elapsed);
+      return Optional.empty();
+    }
+    if (error != null) {
+      throw new CompletionException(error);
+    }
+    final boolean missed = elapsed > this.budgetNanos;
+    this.metrics.record(elapsed, deploy.isPresent(), missed);
+    return missed ? Optional.empty() : deploy;
+  }
+
+  /**
+   *
+   * @return the difficulty of the bot.
+   */
+  public BotDifficulty getDifficulty() {
+    return this.difficulty;
+  }
+
+  /**
+   *
+   * @return the counters about the decisions of the bot.
+   */
+  public BotMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Stops the bot, cancelling its running decision, when the match is over.
+   */
+  public void stop() {
+    this.cancelled.set(true);
+    this.strategy.close();
+  }
+}
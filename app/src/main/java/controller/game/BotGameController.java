@@ -1,10 +1,12 @@
 package controller.game;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
@@ -12,15 +14,22 @@ import javax.swing.JOptionPane;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 
-import controller.ElixirController;
 import controller.SaveController;
 import model.BotGameModel;
 import model.GlobalData;
+import model.MatchRandom;
+import model.Side;
+import model.ai.BotDifficulty;
+import model.ai.BotMetrics;
 import model.entities.Attackable;
 import model.entities.cards.Card;
+import model.entities.cards.CardType;
+import model.entities.cards.troops.Troop;
 import model.entities.towers.Tower;
+import model.history.MatchRecord;
+import model.replay.ReplayPlayer;
+import model.replay.ReplayWriter;
 import model.deck.PlayersDeck;
-import utilities.AnimationUtilities;
 import view.actors.cards.CardActor;
 import view.actors.towers.TowerActor;
 
@@ -30,21 +39,59 @@ import view.actors.towers.TowerActor;
  */
 public class BotGameController extends GameController {
 
-  private final ElixirController botElixir;
   private Map<CardActor, Card> botCardsMap;
   private Map<TowerActor, Tower> botTowersMap;
-  private final BotAiController botController;
-  private final Random rand = new Random();
+  private final Optional<BotController> botController;
+  private final Optional<ReplayWriter> recorder;
 
   /**
    * Constructor.
    */
   public BotGameController() {
-    super(new BotGameModel(PlayersDeck.getInstance().cardList(), GlobalData.BOT_DECK, GlobalData.USER, GlobalData.BOT));
-    this.botElixir = new ElixirController();
+    this(GlobalData.BOT_DIFFICULTY);
+  }
+
+  /**
+   * Constructor.
+   * 
+   * @param difficulty the difficulty of the bot.
+   */
+  public BotGameController(final BotDifficulty difficulty) {
+    this(new BotGameModel(PlayersDeck.getInstance().cardList(), GlobalData.BOT_DECK, GlobalData.getUser(), GlobalData.BOT, MatchRandom.newSeed()), 
+        Optional.empty(), difficulty);
+  }
+
+  /**
+   * Constructor of a controller showing a recorded match.
+   * 
+   * @param playback the replay of the match.
+   */
+  public BotGameController(final ReplayPlayer playback) {
+    this(playback.createModel(), Optional.of(playback), GlobalData.BOT_DIFFICULTY);
+  }
+
+  private BotGameController(final BotGameModel model, final Optional<ReplayPlayer> playback, final BotDifficulty difficulty) {
+    super(model, playback);
     this.botCardsMap = new HashMap<>();
     this.botTowersMap = new HashMap<>();
-    this.botController = new BotAiController(this.randomCard());
+    if (playback.isPresent()) {
+      this.botController = Optional.empty();
+      this.recorder = Optional.empty();
+    } else {
+      this.botController = Optional.of(new BotController(model, difficulty));
+      this.recorder = this.startRecording(model);
+    }
+  }
+
+  private Optional<ReplayWriter> startRecording(final BotGameModel model) {
+    try {
+      final var writer = ReplayWriter.create(SaveController.newReplayFile(), model);
+      model.setRecorder(writer);
+      return Optional.of(writer);
+    } catch (IOException e) {
+      e.printStackTrace();
+      return Optional.empty();
+    }
   }
 
   @Override
@@ -59,15 +106,20 @@ public class BotGameController extends GameController {
 
   @Override
   protected void onUpdate() {
-    this.botElixir.setRunFalse();
-    this.botController.setRunFalse();
+    this.botController.ifPresent(BotController::stop);
+    this.recorder.ifPresent(r -> r.end(((BotGameModel) super.getModel()).getCurrentTick()));
+  }
+
+  @Override
+  public Optional<BotMetrics> getBotMetrics() {
+    return this.botController.map(BotController::getMetrics);
   }
 
   /**
    * @return the current elixir owned by the bot.
    */
   public int getBotCurrentElixir() {
-    return this.botElixir.getElixirCount();
+    return ((BotGameModel) super.getModel()).getBotElixir();
   }
 
   /**
@@ -94,22 +146,15 @@ public class BotGameController extends GameController {
     super.updateTowerAnimations(this.botTowersMap, "ENEMY");
   }
 
-  private void updateAttackablePosition(final Attackable attackable, final List<Attackable> enemies) {
-    attackable.setPosition(this.getGameMap().getNextPosition(attackable, enemies));
-  }
-
-  private void updateActorPositions(final Map<CardActor, Card> cardActors, final List<Attackable> enemyAttackables) {
+  private void updateActorPositions(final Map<CardActor, Card> cardActors) {
     final var actor = new ArrayList<CardActor>();
+    final boolean ticked = super.hasTicked();
     cardActors.entrySet().stream().forEach(e -> {
-      if (!e.getKey().isDraggable() && e.getKey().getCenter().equals(e.getValue().getPosition())) {
-        this.updateAttackablePosition((Attackable) e.getValue(), enemyAttackables);
-        e.getKey().setRotation(e.getValue().getPosition());
-        e.getKey().moveTo(e.getValue().getPosition());
-      }
-      if (((Attackable) e.getValue()).getCurrentTarget().isPresent()) {
-        e.getKey().setRotation(((Attackable) e.getValue()).getCurrentTarget().get().getPosition());
+      final var card = e.getValue();
+      if (ticked && !e.getKey().isDraggable()) {
+        e.getKey().setSimulationState(card.getPreviousPosition(), card.getPosition(), this.facingOf(card));
       }
-      if (((Attackable) e.getValue()).isDead()) {
+      if (card.isDead()) {
         actor.add(e.getKey());
       }
     });
@@ -118,46 +163,23 @@ public class BotGameController extends GameController {
     }
   }
 
-  private void placeBotActor() {
-    this.botController.setBotCardsMap(this.botCardsMap);
-    this.botController.setElixir(this.getBotCurrentElixir());
-    final Vector2 randomPosition = new Vector2(this.randomPosition(150, 550), this.randomPosition(500, 700));
-    if (this.checkposition(randomPosition, this.botController.getRandomCard())) {
-      this.botController.setRandomPosition(randomPosition);
+  private Vector2 facingOf(final Card card) {
+    if (card.getCurrentTarget().isPresent()) {
+      return card.getCurrentTarget().get().getPosition();
     }
-    final Card cardDeployed = this.botController.getCardDeployed();
-    if (cardDeployed != null) {
-      this.deployBotCard(cardDeployed);
-      this.botController.setRandomCard(this.randomCard());
+    if (card instanceof Troop && ((Troop) card).hasWaypoint()) {
+      return ((Troop) card).getWaypoint();
     }
-    final CardActor cardActorDeployed = this.botController.getCardActorDeployed();
-    if (cardActorDeployed != null) {
-    final var nextCard = ((BotGameModel) super.getModel()).getBotNextQueuedCard(cardActorDeployed.getOrigin());
-    if (nextCard.isPresent()) {
-      this.botCardsMap.put(
-          new CardActor(cardActorDeployed.getOrigin().x, cardActorDeployed.getOrigin().y, cardActorDeployed.getStage(), AnimationUtilities.loadAnimationFromFiles(nextCard.get().getAnimationFiles().get("ENEMY_MOVING"), ANIMATIONS_FRAME_DURATION, true)),
-          nextCard.get());
-    }
-    }
-  }
-
-  private void deployBotCard(final Card card) {
-    ((BotGameModel) super.getModel()).deployBotCard(card);
-    this.botElixir.decrementElixir(card.getCost());
+    return card.getPosition();
   }
 
-  private int randomPosition(final int min, final int max) {
-    return rand.nextInt((max - min) + 1) + min;
-  }
-  private Card randomCard() {
-    return ((BotGameModel) super.getModel()).getBotChoosableCards().get(rand.nextInt(((BotGameModel) super.getModel()).getBotChoosableCards().size()));
-  }
 
   @Override
   protected void updateEnemyActors() {
-    this.placeBotActor();
-    this.updateActorPositions(super.getPlayerActorsMap(), this.getBotAttackables());
-    this.updateActorPositions(this.botCardsMap, super.getUserAttackables());
+    this.botController.ifPresent(BotController::update);
+    super.syncCardActors(this.botCardsMap, ((BotGameModel) super.getModel()).getBotChoosableCards(), "ENEMY_MOVING");
+    this.updateActorPositions(super.getPlayerActorsMap());
+    this.updateActorPositions(this.botCardsMap);
   }
 
   @Override
@@ -168,7 +190,7 @@ public class BotGameController extends GameController {
   @Override
   public void updateUserStatistics() {
     final JFrame frame = new JFrame();
-    final var user = GlobalData.USER;
+    final var user = GlobalData.getUser();
     user.addPlay();
     user.addDestroyedTowers(this.getEnemyDestroyedTowers());
     if (this.getEnemyDestoryedTowers() == super.getPlayerDestroyedTowers()) {
@@ -176,12 +198,21 @@ public class BotGameController extends GameController {
     } else if (this.getEnemyDestoryedTowers() > super.getPlayerDestroyedTowers()) {
       JOptionPane.showMessageDialog(frame, "Hai Vinto");
       user.addWin();
-      GlobalData.USER.awardXp((int) this.getEnemyDestoryedTowers());
+      user.awardXp((int) this.getEnemyDestoryedTowers());
     } else {
     JOptionPane.showMessageDialog(frame, "Hai Perso");
-    GlobalData.USER.pointReduction();
+    user.pointReduction();
     }
-    SaveController.saveUser(GlobalData.USER);
+    SaveController.saveUser(user);
+    this.recordMatch();
+  }
+
+  private void recordMatch() {
+    final var model = (BotGameModel) super.getModel();
+    final var deck = model.getPlayerDeck().stream().map(CardType::of).collect(Collectors.toList());
+    final var opponent = this.botController.map(BotController::getDifficulty).orElse(GlobalData.BOT_DIFFICULTY);
+    SaveController.recordMatch(new MatchRecord(System.currentTimeMillis(), deck, opponent, this.getEnemyDestoryedTowers(),
+        super.getPlayerDestroyedTowers(), model.getCurrentTick(), model.getPlayerElixirSpent(), model.getCombatStatistics(Side.PLAYER)));
   }
 
   @Override
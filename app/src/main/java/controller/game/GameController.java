@@ -1,24 +1,33 @@
 package controller.game;
 
-import java.util.ArrayList;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 
 import controller.Controller;
-import controller.CountDownController;
-import controller.ElixirController;
+import controller.SaveController;
 import controller.audio.AudioGameController;
 import controller.menu.MenuController;
 
 import launcher.ClashRoyale;
 import model.GameModel;
+import model.Side;
+import model.ai.BotMetrics;
+import model.command.DeployCommand;
 import model.entities.Attackable;
 import model.entities.cards.Card;
 import model.entities.towers.Tower;
@@ -26,7 +35,9 @@ import model.entities.users.Bot;
 import model.entities.users.User;
 import model.map.GameMap;
 import model.map.MapUnit;
+import model.replay.ReplayPlayer;
 import utilities.AnimationUtilities;
+import view.actors.ProjectilesActor;
 import view.actors.cards.CardActor;
 import view.actors.towers.TowerActor;
 import view.screens.game.GameScreen;
@@ -41,12 +52,18 @@ public abstract class GameController extends Controller {
    */
   protected static final float ANIMATIONS_FRAME_DURATION = (float) 0.017_24 * 10;
   private static final int MIDDLE = 500;
+  private static final int OVERLAY_EVENTS = 20;
 
-  private final CountDownController timer;
-  private final ElixirController playerElixir;
-  private final GameMap gameMap;
+  private final TickClock clock;
+  private final Optional<ReplayPlayer> playback;
+  private int lastTicks;
+  private final Map<Integer, Integer> pendingDeploys;
+  private Stage stage;
   private Map<CardActor, Card> playerCardsMap;
   private Map<TowerActor, Tower> playerTowersMap;
+  private final Map<List<String>, Animation<TextureRegion>> animations;
+  private final StringBuilder combatOverlay;
+  private long overlaidEvents;
 
   /**
    * Constructor.
@@ -54,38 +71,139 @@ public abstract class GameController extends Controller {
    * @param model the logic followed by this controller.
    */
   public GameController(final GameModel model) {
+    this(model, Optional.empty());
+  }
+
+  /**
+   * Constructor.
+   * 
+   * @param model the logic followed by this controller.
+   * @param playback the replay deploying the cards of the match, if the match is a replay.
+   */
+  protected GameController(final GameModel model, final Optional<ReplayPlayer> playback) {
     super(new AudioGameController());
     super.playMusic();
-    this.timer = new CountDownController();
-    this.playerElixir = new ElixirController();
-    this.gameMap = new GameMap();
+    this.clock = new TickClock(GameModel.TICK_DURATION);
+    this.playback = playback;
     this.playerCardsMap = new HashMap<>();
     this.playerTowersMap = new HashMap<>();
+    this.pendingDeploys = new HashMap<>();
+    this.animations = new IdentityHashMap<>();
+    this.combatOverlay = new StringBuilder();
+    this.overlaidEvents = -1;
     super.registerModel(model);
   }
 
+  /**
+   * Animations are loaded once per list of frames: lists of frames are shared by every entity of a kind,
+   * so looking an animation up allocates nothing.
+   * 
+   * @param frames
+   *              the files of the frames.
+   * @return the looping animation of the frames.
+   */
+  protected Animation<TextureRegion> animationOf(final List<String> frames) {
+    return this.animations.computeIfAbsent(frames, f -> AnimationUtilities.loadAnimationFromFiles(f, ANIMATIONS_FRAME_DURATION, true));
+  }
+
   /**
    * 
    * @return the current game map.
    */
   protected GameMap getGameMap() {
-    return this.gameMap;
+    return ((GameModel) super.getModel()).getGameMap();
+  }
+
+  /**
+   * 
+   * @return how far the current frame is between the last simulation tick and the next one, from 0 to 1.
+   */
+  public float getTickAlpha() {
+    return this.clock.getAlpha();
+  }
+
+  /**
+   * 
+   * @return whether the model has been advanced during the last update.
+   */
+  protected boolean hasTicked() {
+    return this.lastTicks > 0;
+  }
+
+  /**
+   * 
+   * @return whether the match is the replay of a recorded one.
+   */
+  protected boolean isPlayback() {
+    return this.playback.isPresent();
+  }
+
+  private boolean isOver() {
+    if (this.playback.isPresent()) {
+      return this.playback.get().isOver((GameModel) super.getModel());
+    }
+    return this.getLeftTime() == 0 || this.checkUserLose() || this.checkEnemyLose() || this.checkForwinner();
   }
 
   @Override
   public void update(final float dt) {
-    if (this.timer.getTime() == 0 || this.checkUserLose() || this.checkEnemyLose() || this.checkForwinner()) {
-      this.playerElixir.setRunFalse();
-      this.updateUserStatistics();
+    if (this.isOver()) {
+      if (!this.isPlayback()) {
+        this.updateUserStatistics();
+      }
       this.onUpdate();
-      this.timer.setRunFalse();
       super.stopMusic();
       new MenuController().setCurrentActiveScreen();
     }
-    this.updateActors();
+    this.updateActors(dt);
     this.updateActorAnimations();
   }
 
+  /**
+   * 
+   * @return the counters about the decisions of the opponent, if it is a bot deciding during this match.
+   */
+  public Optional<BotMetrics> getBotMetrics() {
+    return Optional.empty();
+  }
+
+  /**
+   * Writes every kept event of the combat log of the match to a new file.
+   * 
+   * @return the file written, or empty if the log could not be written.
+   */
+  public Optional<File> dumpCombatLog() {
+    final var model = (GameModel) super.getModel();
+    final var file = SaveController.newCombatLogFile();
+    try (Writer out = new FileWriter(file, StandardCharsets.UTF_8)) {
+      model.getCombatLog().dump(out, model::describe);
+      return Optional.of(file);
+    } catch (IOException e) {
+      e.printStackTrace();
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * The text is rebuilt only when new events have been recorded.
+   * 
+   * @return the latest events of the combat log of the match, one per line.
+   */
+  public CharSequence getCombatOverlay() {
+    final var model = (GameModel) super.getModel();
+    final var log = model.getCombatLog();
+    if (log.getRecorded() != this.overlaidEvents) {
+      this.overlaidEvents = log.getRecorded();
+      this.combatOverlay.setLength(0);
+      try {
+        log.dump(this.combatOverlay, model::describe, OVERLAY_EVENTS);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return this.combatOverlay;
+  }
+
   /**
    * Updates the game statistics for the user, based on the game outcome.
    */
@@ -117,7 +235,7 @@ public abstract class GameController extends Controller {
    * @return the remaining seconds before game ends.
    */
   public int getLeftTime() {
-    return this.timer.getTime();
+    return ((GameModel) super.getModel()).getLeftTime();
   }
 
   /**
@@ -125,7 +243,7 @@ public abstract class GameController extends Controller {
    * @return the current elixir owned by the user.
    */
   public int getPlayerCurrentElixir() {
-    return this.playerElixir.getElixirCount();
+    return ((GameModel) super.getModel()).getPlayerElixir();
   }
 
   /**
@@ -151,7 +269,7 @@ public abstract class GameController extends Controller {
   protected final Map<CardActor, Card> loadCardActorsFrom(final List<Card> list, final Stage stage, final String animationName) {
     final var actors = new HashMap<CardActor, Card>();
     list.forEach(c -> {
-      final var actor = new CardActor(c.getPosition().x, c.getPosition().y, stage, AnimationUtilities.loadAnimationFromFiles(c.getAnimationFiles().get(animationName), ANIMATIONS_FRAME_DURATION, true));
+      final var actor = new CardActor(c.getPosition().x, c.getPosition().y, stage, this.animationOf(c.getAnimationFiles().get(animationName)));
       actors.put(actor, c);
     });
     return actors;
@@ -163,6 +281,7 @@ public abstract class GameController extends Controller {
    * @param stage the stage where actors have to be placed.
    */
   public final void loadActors(final Stage stage) {
+    this.stage = stage;
     this.playerCardsMap = this.loadCardActorsFrom(((GameModel) super.getModel()).getPlayerChoosableCards(), stage, "AS_CARD");
     this.loadEnemyActors(stage);
   }
@@ -189,7 +308,7 @@ public abstract class GameController extends Controller {
   protected final Map<TowerActor, Tower> loadTowerActorsFrom(final List<Tower> list, final Stage stage, final String animationName) {
     final var towers = new HashMap<TowerActor, Tower>();
     list.forEach(t -> {
-      final var actor = new TowerActor(t.getPosition().x, t.getPosition().y, stage, AnimationUtilities.loadAnimationFromFiles(t.getAnimationFiles().get(animationName), ANIMATIONS_FRAME_DURATION, true));
+      final var actor = new TowerActor(t.getPosition().x, t.getPosition().y, stage, this.animationOf(t.getAnimationFiles().get(animationName)));
       actor.setPosition(actor.getPosition().x, actor.getPosition().y);
       towers.put(actor, t);
     });
@@ -206,6 +325,16 @@ public abstract class GameController extends Controller {
     this.loadEnemyTowers(stage);
   }
 
+  /**
+   * Load the actor drawing every projectile in the main stage of the screen driven by this controller.
+   * 
+   * @param stage the stage where projectiles have to be drawn.
+   * @return the actor, to be disposed with the screen.
+   */
+  public final ProjectilesActor loadProjectiles(final Stage stage) {
+    return new ProjectilesActor(stage, ((GameModel) super.getModel()).getProjectiles());
+  }
+
   /**
    * Template method used to allow subclasses to load their actors.
    * 
@@ -227,7 +356,7 @@ public abstract class GameController extends Controller {
   protected void updateCardAnimations(final Map<CardActor, Card> playerCardsMap, final String moving, final String fighting) {
     playerCardsMap.entrySet().stream().forEach(e -> {
       if (this.getGameMap().containsPosition(e.getKey().getCenter()) && !e.getKey().isDraggable()) {
-        e.getKey().setAnimation(AnimationUtilities.loadAnimationFromFiles(e.getValue().getAnimationFiles().get(((Attackable) e.getValue()).getCurrentTarget().isPresent() ? fighting : moving), ANIMATIONS_FRAME_DURATION, true));
+        e.getKey().setAnimation(this.animationOf(e.getValue().getAnimationFiles().get(((Attackable) e.getValue()).getCurrentTarget().isPresent() ? fighting : moving)));
       }
     });
 
@@ -246,13 +375,13 @@ public abstract class GameController extends Controller {
     playerTowersMap.entrySet().stream().forEach(e -> {
       if (((Attackable) e.getValue()).isDead()) {
         e.getKey().setAngle(0);
-        e.getKey().setAnimation(AnimationUtilities.loadAnimationFromFiles(e.getValue().getAnimationFiles().get("DESTROYED"), ANIMATIONS_FRAME_DURATION, true));
+        e.getKey().setAnimation(this.animationOf(e.getValue().getAnimationFiles().get("DESTROYED")));
       } else if (((Attackable) e.getValue()).getCurrentTarget().isPresent()) {
         e.getKey().setRotation(e.getValue().getCurrentTarget().get().getPosition());
-        e.getKey().setAnimation(AnimationUtilities.loadAnimationFromFiles(e.getValue().getAnimationFiles().get("FIGHTING"), ANIMATIONS_FRAME_DURATION, true));
+        e.getKey().setAnimation(this.animationOf(e.getValue().getAnimationFiles().get("FIGHTING")));
       } else {
         e.getKey().setAngle(0);
-        e.getKey().setAnimation(AnimationUtilities.loadAnimationFromFiles(e.getValue().getAnimationFiles().get(standing), ANIMATIONS_FRAME_DURATION, true));
+        e.getKey().setAnimation(this.animationOf(e.getValue().getAnimationFiles().get(standing)));
       }
     });
   }
@@ -268,35 +397,71 @@ public abstract class GameController extends Controller {
    */
   protected abstract void updateEnemyActorAnimations();
 
-  private void updateActors() {
-    ((GameModel) super.getModel()).findAttackableTargets();
-    ((GameModel) super.getModel()).handleAttackTargets();
-    this.placePlayerActors();
+  private void updateActors(final float dt) {
+    final var model = (GameModel) super.getModel();
+    this.lastTicks = this.clock.advance(dt);
+    for (int i = 0; i < this.lastTicks; i++) {
+      this.playback.ifPresent(p -> p.deployUntil(model));
+      try {
+        model.tick();
+      } catch (RuntimeException e) {
+        this.dumpCombatLog();
+        throw e;
+      }
+    }
+    if (!this.isPlayback()) {
+      this.placePlayerActors();
+    }
+    this.syncCardActors(this.playerCardsMap, model.getPlayerChoosableCards(), "AS_CARD");
     this.updateEnemyActors();
   }
 
   /**
-   * Template method implemented by subclasses to update actor positions.
+   * Keeps the card actors in line with the model: a new actor is created for each choosable card without one, 
+   * the actors of cards deployed without being dragged (I.e. in a replay) stop being draggable and the actors 
+   * of cards whose deploy has been refused by the match go back in hand.
+   * 
+   * @param cardActors
+   *              a map that associate each card actor to its own card.
+   * @param choosable
+   *              the currently choosable cards.
+   * @param animationName
+   *              the animation of new actors.
+   */
+  protected final void syncCardActors(final Map<CardActor, Card> cardActors, final List<Card> choosable, final String animationName) {
+    final int tick = ((GameModel) super.getModel()).getCurrentTick();
+    this.pendingDeploys.values().removeIf(submitted -> submitted < tick);
+    cardActors.entrySet().stream()
+      .filter(e -> e.getKey().isDraggable() && !choosable.contains(e.getValue()))
+      .forEach(e -> e.getKey().setDraggable(false));
+    cardActors.entrySet().stream()
+      .filter(e -> !e.getKey().isDraggable() && choosable.contains(e.getValue()) && !this.pendingDeploys.containsKey(e.getValue().getId()))
+      .forEach(e -> {
+        e.getKey().setDraggable(true);
+        e.getKey().setPosition(e.getKey().getOrigin().x, e.getKey().getOrigin().y);
+      });
+    choosable.stream()
+      .filter(c -> !cardActors.containsValue(c))
+      .forEach(c -> cardActors.put(new CardActor(c.getPosition().x, c.getPosition().y, this.stage, 
+          this.animationOf(c.getAnimationFiles().get(animationName))), c));
+  }
+
+  /**
+   * Template method implemented by subclasses to update actor positions, once the model has been advanced.
    */
   protected abstract void updateEnemyActors();
 
   private void placePlayerActors() {
-    final var card = new ArrayList<Card>();
     this.getPlayerActorsMap().entrySet().stream().forEach(e -> {
       if (e.getKey().isDraggable() && !Gdx.input.isTouched()) {
         if (this.checkposition(e.getKey().getCenter(), e.getValue()) && e.getValue().getCost() <= this.getPlayerCurrentElixir()) {
-          card.add(e.getValue());
-          this.deployPlayerCard(e.getValue());
+          this.submitPlayerDeploy(e.getValue(), e.getKey().getCenter());
           e.getKey().setDraggable(false);
-          e.getValue().setPosition(e.getKey().getCenter());
         } else {
           e.getKey().setPosition(e.getKey().getOrigin().x, e.getKey().getOrigin().y);
         }
       }
     });
-    if (!card.isEmpty()) {
-      this.deployPlayerActor(card);
-    }
   }
 
   /**
@@ -319,40 +484,16 @@ public abstract class GameController extends Controller {
   }
 
   /**
-   * Perform an update of both model and elixir controller after a card has been
-   * deployed.
+   * Submits the deploy of a card of the player, applied by the match at the next tick. 
+   * Until then the card is waiting, so its actor is not sent back in hand.
    * 
    * @param card
+   * @param position where the card has been dropped.
    */
-  protected void deployPlayerCard(final Card card) {
-    ((GameModel) super.getModel()).deployPlayerCard(card);
-    this.playerElixir.decrementElixir(card.getCost());
-  }
-
-  /**
-   * add bot troops in map.
-   * 
-   * @param elements list of card.
-   */
-  protected void deployPlayerActor(final List<Card> elements) {
-    elements.stream().forEach(card -> {
-      CardActor c = null;
-      for (final Entry<CardActor, Card> entry : this.playerCardsMap.entrySet()) {
-        if (entry.getValue().equals(card)) {
-          c = entry.getKey();
-          this.deployPlayerCard(card);
-        }
-      }
-      if (c != null) {
-      final var nextCard = ((GameModel) super.getModel()).getPlayerNextQueuedCard(c.getOrigin());
-      if (nextCard.isPresent()) {
-        this.playerCardsMap.put(
-            new CardActor(c.getOrigin().x, c.getOrigin().y, c.getStage(), AnimationUtilities.loadAnimationFromFiles(nextCard.get().getAnimationFiles().get("AS_CARD"), ANIMATIONS_FRAME_DURATION, true)),
-            nextCard.get());
-
-      }
-      }
-    });
+  protected void submitPlayerDeploy(final Card card, final Vector2 position) {
+    final var model = (GameModel) super.getModel();
+    this.pendingDeploys.put(card.getId(), model.getCurrentTick());
+    model.submit(new DeployCommand(Side.PLAYER, card.getId(), position));
   }
 
   /**
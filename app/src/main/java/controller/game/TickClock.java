@@ -0,0 +1,50 @@
+package controller.game;
+
+/**
+ * Fixed time step: turns the variable time between two frames into a whole number of simulation ticks,
+ * keeping the remainder for the next frame.
+ */
+public class TickClock {
+
+  private static final int MAX_TICKS_PER_FRAME = 5;
+
+  private final float tickDuration;
+  private float accumulator;
+
+  /**
+   * 
+   * @param tickDuration
+   *              the duration of a tick, in seconds.
+   */
+  public TickClock(final float tickDuration) {
+    this.tickDuration = tickDuration;
+    this.accumulator = 0;
+  }
+
+  /**
+   * Adds the time elapsed since the last frame.
+   * 
+   * @param dt
+   *          elapsed time since last frame, in seconds.
+   * @return how many ticks have to be run during this frame. After a long stall the exceeding time is dropped,
+   *          instead of running a burst of ticks that would stall the following frames too.
+   */
+  public int advance(final float dt) {
+    this.accumulator += dt;
+    final int ticks = (int) (this.accumulator / this.tickDuration);
+    if (ticks > MAX_TICKS_PER_FRAME) {
+      this.accumulator = 0;
+      return MAX_TICKS_PER_FRAME;
+    }
+    this.accumulator -= ticks * this.tickDuration;
+    return ticks;
+  }
+
+  /**
+   * 
+   * @return how far the current frame is between the last tick and the next one, from 0 to 1.
+   */
+  public float getAlpha() {
+    return this.accumulator / this.tickDuration;
+  }
+}
@@ -1,12 +1,33 @@
 package controller.statistics;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+
 import controller.Controller;
+import controller.SaveController;
 import controller.audio.AudioStaticsController;
 import controller.menu.MenuController;
 
 import launcher.ClashRoyale;
 import model.GlobalData;
 import model.Model;
+import model.entities.cards.CardType;
+import model.history.MatchExport;
+import model.history.MatchFilter;
+import model.history.MatchStatistics;
+import model.leaderboard.Ranking;
+import model.leaderboard.Standing;
 
 import view.screens.statistics.StatScreen;
 
@@ -15,43 +36,147 @@ import view.screens.statistics.StatScreen;
  */
 public class StatController extends Controller {
 
+  private static final long WEEK_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+  private final MatchStatistics history;
+  private final MatchStatistics lastWeek;
+
   /**
-   * Constructor.
+   * Constructor: the aggregates of the match history are updated with the matches played since the last visit,
+   * reading only the columns they need.
    */
   public StatController() {
     super(new AudioStaticsController());
     super.playMusic();
     super.registerModel(new Model());
+    final var matches = SaveController.getMatchHistory();
+    final long now = System.currentTimeMillis();
+    MatchStatistics total = new MatchStatistics();
+    MatchStatistics week = new MatchStatistics();
+    try {
+      total = matches.getTotals();
+      week = matches.getStatistics(now - WEEK_MILLIS, Long.MAX_VALUE);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
+    this.history = total;
+    this.lastWeek = week;
   }
 
   /**
    * @return matches played.
    */
   public int getPlays() {
-    return GlobalData.USER.getPlays();
+    return GlobalData.getUser().getPlays();
   }
 
 /**
  * @return matches win.
  */
   public int getWins() {
-    return GlobalData.USER.getWins();
+    return GlobalData.getUser().getWins();
   }
 
 /**
  * @return towers destroyed.
  */
   public int getTowers() {
-    return GlobalData.USER.getDestroyedTowers();
+    return GlobalData.getUser().getDestroyedTowers();
   }
 
   /**
    * @return win/lose ratio.
    */
   public float getRatio() {
-    final var wins = this.getWins();
-    final var plays = this.getPlays();
-    return  (float) wins / ((plays - wins) == 0 ? 1 : plays - wins);
+    return Standing.ratio(this.getWins(), this.getPlays());
+  }
+
+  /**
+   * @param ranking
+   *              the order of the users.
+   * @return the position of the user in the leaderboard, from 1, or empty if the leaderboard cannot be read.
+   */
+  public OptionalInt getRank(final Ranking ranking) {
+    try {
+      return SaveController.getLeaderboard().getRank(ranking, GlobalData.getUser().getName());
+    } catch (IOException e) {
+      e.printStackTrace();
+      return OptionalInt.empty();
+    }
+  }
+
+  /**
+   * @param ranking
+   *              the order of the users.
+   * @param count
+   *              how many users are wanted at most.
+   * @return the best users of the leaderboard, the best first.
+   */
+  public List<Standing> getTop(final Ranking ranking, final int count) {
+    try {
+      return SaveController.getLeaderboard().getTop(ranking, count);
+    } catch (IOException e) {
+      e.printStackTrace();
+      return List.of();
+    }
+  }
+
+  /**
+   * @return the aggregates of every match of the history.
+   */
+  public MatchStatistics getHistory() {
+    return this.history;
+  }
+
+  /**
+   * @param count
+   *              how many card types are wanted at most.
+   * @return the card types most often in the deck of the matches of the history, the most used first.
+   */
+  public List<CardType> getMostUsedCards(final int count) {
+    return Arrays.stream(CardType.values())
+        .filter(type -> this.history.getCardPlays(type) > 0)
+        .sorted(Comparator.comparingInt(this.history::getCardPlays).reversed())
+        .limit(count)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the aggregates of the matches of the last seven days.
+   */
+  public MatchStatistics getLastWeek() {
+    return this.lastWeek;
+  }
+
+  /**
+   * Exports every match of the history and the statistics of each card type as CSV and as columns, streaming
+   * the history on the thread writing the saves.
+   *
+   * @return the directory of the exported files, empty if the export failed, once the export is over.
+   */
+  public CompletableFuture<Optional<Path>> exportStatistics() {
+    return SaveController.supplyInBackground(StatController::export);
+  }
+
+  private static Optional<Path> export() {
+    try {
+      final var directory = SaveController.newExportDirectory();
+      final var matches = SaveController.getMatchHistory();
+      try (var out = Files.newBufferedWriter(directory.resolve("matches.csv"), StandardCharsets.UTF_8)) {
+        MatchExport.writeCsv(matches, MatchFilter.all(), out);
+      }
+      MatchExport.writeColumnar(matches, MatchFilter.all(),
+          new BufferedOutputStream(Files.newOutputStream(directory.resolve("matches.col"))));
+      final var statistics = matches.getTotals();
+      try (var out = Files.newBufferedWriter(directory.resolve("cards.csv"), StandardCharsets.UTF_8)) {
+        MatchExport.writeCardsCsv(statistics, out);
+      }
+      MatchExport.writeCardsColumnar(statistics, new BufferedOutputStream(Files.newOutputStream(directory.resolve("cards.col"))));
+      return Optional.of(directory);
+    } catch (IOException e) {
+      e.printStackTrace();
+      return Optional.empty();
+    }
   }
 
   /**
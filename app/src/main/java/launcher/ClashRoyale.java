@@ -1,8 +1,12 @@
 package launcher;
 
+import java.util.function.Supplier;
+
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Screen;
 
+import controller.Controller;
+import controller.SaveController;
 import controller.menu.MenuController;
 
 /**
@@ -32,7 +36,10 @@ public final class ClashRoyale extends Game {
 
   private static final ClashRoyale GAME = new ClashRoyale();
 
+  private Supplier<? extends Controller> startController;
+
   private ClashRoyale() {
+    this.startController = MenuController::new;
   }
 
   /**
@@ -43,9 +50,25 @@ public final class ClashRoyale extends Game {
     return GAME;
   }
 
+  /**
+   * Sets the controller of the first screen shown, the menu one by default. It has to be called before the game is started.
+   * 
+   * @param startController
+   *              creates the controller of the first screen.
+   */
+  public void setStartController(final Supplier<? extends Controller> startController) {
+    this.startController = startController;
+  }
+
   @Override
   public void create() {
-    new MenuController().setCurrentActiveScreen();
+    this.startController.get().setCurrentActiveScreen();
+  }
+
+  @Override
+  public void dispose() {
+    super.dispose();
+    SaveController.flush();
   }
 
   /**
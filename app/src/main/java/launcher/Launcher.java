@@ -1,23 +1,82 @@
 package launcher;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
+import controller.game.BotGameController;
+import model.MatchRandom;
+import model.entities.cards.CardType;
+import model.replay.Replay;
+import model.replay.ReplayPlayer;
+import model.replay.ReplayReader;
+import model.tournament.Deck;
+import model.tournament.DeckOptimizer;
+import model.tournament.Tournament;
+import model.tournament.TournamentFormat;
+
 /**
  * The entry-point to the game.
  */
 public final class Launcher {
 
+  private static final String REPLAY_OPTION = "--replay";
+  private static final String HEADLESS_OPTION = "--headless";
+  private static final String TOURNAMENT_OPTION = "--tournament";
+  private static final int TOURNAMENT_DECK_SIZE = 4;
+  private static final int TOURNAMENT_GAMES_PER_PAIRING = 2;
+  private static final int SHOWN_DECKS = 5;
+  private static final String OPTIMIZE_OPTION = "--optimize";
+  private static final int OPTIMIZER_DECK_SIZE = 4;
+  private static final int OPTIMIZER_POPULATION = 24;
+  private static final int OPTIMIZER_GAMES_PER_REFERENCE = 4;
+  private static final long OPTIMIZER_SEED = 0x5eed;
+  private static final List<Deck> REFERENCE_DECKS = List.of(
+      new Deck(List.of(CardType.WIZARD, CardType.BARBARIAN, CardType.GIANT, CardType.WIZARD)),
+      new Deck(List.of(CardType.BARBARIAN, CardType.GIANT, CardType.INFERNO_TOWER, CardType.WIZARD)),
+      new Deck(List.of(CardType.ARCHER, CardType.MINI_PEKKA, CardType.VALKYRIE, CardType.GIANT)));
+
   private Launcher() {
   }
 
   /**
-   * Main method.
+   * Main method. With "--replay file" the recorded match is shown instead of the menu, 
+   * adding "--headless" it is played without drawing it and its result is printed.
+   * With "--tournament directory [round_robin|swiss] [rounds]" every deck of four distinct cards plays a headless
+   * tournament, whose results are written to the directory.
+   * With "--optimize checkpoint generations" decks are evolved against the decks of the bot and of a new user,
+   * resuming from the checkpoint file if it exists.
    *
    * @param args
    *            parameters.
+   * @throws IOException
+   *            if the replay cannot be read or the tournament results cannot be written.
    */
-  public static void main(final String[] args) {
+  public static void main(final String[] args) throws IOException {
+    if (args.length > 1 && TOURNAMENT_OPTION.equals(args[0])) {
+      Launcher.runTournament(args);
+      return;
+    }
+    if (args.length > 2 && OPTIMIZE_OPTION.equals(args[0])) {
+      Launcher.runOptimizer(args);
+      return;
+    }
+    if (args.length > 1 && REPLAY_OPTION.equals(args[0])) {
+      final Replay replay = ReplayReader.read(new File(args[1]));
+      if (args.length > 2 && HEADLESS_OPTION.equals(args[2])) {
+        Gdx.files = new HeadlessFiles();
+        System.out.println(new ReplayPlayer(replay).play());
+        return;
+      }
+      ClashRoyale.getIstance().setStartController(() -> new BotGameController(new ReplayPlayer(replay)));
+    }
     final Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
     config.setTitle(ClashRoyale.TITLE);
     config.setWindowedMode(ClashRoyale.WIDTH, ClashRoyale.HEIGHT);
@@ -25,4 +84,25 @@ public final class Launcher {
     config.setForegroundFPS(ClashRoyale.FPS);
     new Lwjgl3Application(ClashRoyale.getIstance(), config);
   }
+
+  private static void runTournament(final String[] args) throws IOException {
+    Gdx.files = new HeadlessFiles();
+    final var format = args.length > 2 ? TournamentFormat.valueOf(args[2].toUpperCase(Locale.ROOT)) : TournamentFormat.ROUND_ROBIN;
+    final int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+    final var tournament = new Tournament(Deck.combinations(TOURNAMENT_DECK_SIZE), format, rounds, TOURNAMENT_GAMES_PER_PAIRING,
+        Runtime.getRuntime().availableProcessors(), MatchRandom.newSeed());
+    final var standings = tournament.run(Path.of(args[1]));
+    System.out.println(standings.getGames() + " games played, best decks:");
+    standings.getRanking().stream().limit(SHOWN_DECKS).forEach(deck ->
+        System.out.println(standings.getDecks().get(deck) + " " + Math.round(standings.getRatings().get(deck))));
+  }
+
+  private static void runOptimizer(final String[] args) throws IOException {
+    Gdx.files = new HeadlessFiles();
+    final var optimizer = new DeckOptimizer(REFERENCE_DECKS, OPTIMIZER_DECK_SIZE, OPTIMIZER_POPULATION, OPTIMIZER_GAMES_PER_REFERENCE,
+        Runtime.getRuntime().availableProcessors(), OPTIMIZER_SEED);
+    final var best = optimizer.run(Integer.parseInt(args[2]), Path.of(args[1]));
+    System.out.println("Generation " + optimizer.getGeneration() + ", " + optimizer.getEvaluatedDecks() + " decks evaluated, best deck: "
+        + best + " " + optimizer.getFitness(best).getAsDouble());
+  }
 }
@@ -1,22 +1,29 @@
 package model;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import com.badlogic.gdx.math.Vector2;
 
+import model.combat.CombatEvent;
+import model.combat.DamageBatch;
 import model.entities.Attackable;
+import model.entities.RangedAttacker;
+import model.entities.SplashAttacker;
 import model.entities.cards.Card;
+import model.entities.cards.troops.Troop;
 import model.entities.towers.KingTower;
 import model.entities.towers.QueenTower;
 import model.entities.towers.Tower;
 import model.entities.users.Bot;
 import model.entities.users.User;
+import model.map.SeparationSteering;
+import model.map.SpatialHash;
 import utilities.VectorsUtilities;
 
 /**
@@ -25,27 +32,52 @@ import utilities.VectorsUtilities;
  */
 public class BotGameModel extends GameModel {
 
+  private static final float INDEX_CELL_SIZE = 64;
+  private static final float SEPARATION_RADIUS = 16;
+
   private final List<Card> botCards;
   private final List<Card> botCardQueue;
   private final List<Card> botDeployedCards;
   private final List<Card> botChoosableCards;
   private final List<Tower> botActiveTowers;
- 
+  private final Elixir botElixir;
+  private final SpatialHash playerIndex;
+  private final SpatialHash botIndex;
+  private final DamageBatch damageBatch;
+  private final SeparationSteering steering;
+  private final List<Card> movingTroops;
+  private final Bot bot;
+
   /**
    * 
    * @param playerCards
    *              the player deck.
    * @param botCards
    *              {@inheritDoc}.
+   * @param player
+   *              the user who is playing.
+   * @param bot
+   *              the bot playing against the user.
+   * @param seed
+   *              the seed of the match.
    */
-  public BotGameModel(final List<Card> playerCards, final List<Card> botCards, final User player, final Bot bot) {
-    super(playerCards, player);
-    this.botCards = botCards.stream().collect(Collectors.toList());
-    this.botCardQueue = botCards.stream().collect(Collectors.toList());
+  public BotGameModel(final List<Card> playerCards, final List<Card> botCards, final User player, final Bot bot, final long seed) {
+    super(playerCards, player, seed);
+    this.botCards = GameModel.copyOf(botCards);
+    this.botCards.forEach(this::register);
+    this.botCardQueue = this.botCards.stream().collect(Collectors.toList());
     this.botDeployedCards = new ArrayList<>();
     this.botChoosableCards = new ArrayList<>();
     IntStream.range(0, GameModel.CHOOSABLE_CARDS).forEach(i -> this.botChoosableCards.add(this.botCardQueue.remove(0)));
     this.botActiveTowers = this.getBotTowers(bot);
+    this.botActiveTowers.forEach(this::register);
+    this.botElixir = new Elixir();
+    this.playerIndex = new SpatialHash(INDEX_CELL_SIZE);
+    this.botIndex = new SpatialHash(INDEX_CELL_SIZE);
+    this.damageBatch = new DamageBatch(super.getTelemetry(), super.getCombatLog());
+    this.steering = new SeparationSteering(SEPARATION_RADIUS);
+    this.movingTroops = new ArrayList<>();
+    this.bot = bot;
   }
 
   private List<Tower> getBotTowers(final Bot bot) {
@@ -95,28 +127,89 @@ public class BotGameModel extends GameModel {
    * Deploys a card of the bot.
    * @param card
    *           the card to be deployed.
+   * @param position
+   *           where the card has to be deployed.
+   * @return whether the card has been deployed, that is if it was choosable and the bot had enough elixir.
    */
-  public void deployBotCard(final Card card) {
-    if (this.botChoosableCards.contains(card)) {
-      this.botChoosableCards.remove(card);
-      this.botCardQueue.add(card);
-      this.botDeployedCards.add(card);
-    }
+  public boolean deployBotCard(final Card card, final Vector2 position) {
+    return super.deploy(card, position, Side.ENEMY, this.botElixir, this.botChoosableCards, this.botCardQueue, this.botDeployedCards);
   }
 
   /**
-   * @param origin 
-                  the start position of the new card.
-   * @return an {@link Optional} of the first card entered in the queue.
    * 
+   * @return the current elixir of the bot.
    */
-  public Optional<Card> getBotNextQueuedCard(final Vector2 origin) {
-    if (this.botCardQueue.isEmpty()) {
-      return Optional.empty();
-    }
-    final var nextCard = this.botCardQueue.remove(0).createAnother(origin);
-    this.botChoosableCards.add(nextCard);
-    return Optional.of(nextCard);
+  public int getBotElixir() {
+    return this.botElixir.getAmount();
+  }
+
+  @Override
+  protected List<Card> getEnemyChoosableCards() {
+    return this.getBotChoosableCards();
+  }
+
+  @Override
+  protected boolean deployEnemyCard(final Card card, final Vector2 position) {
+    return this.deployBotCard(card, position);
+  }
+
+  /**
+   * 
+   * @return the bot playing against the user.
+   */
+  public Bot getBot() {
+    return this.bot;
+  }
+
+  /**
+   * Creates a new match between the same users with the same decks and seed, whose entities have the same identifiers 
+   * of this one: any state of this match can be loaded into it (I.e. to look ahead without touching this match).
+   * 
+   * @return the new match.
+   */
+  public BotGameModel copy() {
+    return new BotGameModel(super.getPlayerDeck(), this.botCards, super.getPlayer(), this.bot, super.getSeed());
+  }
+
+  @Override
+  protected User getEnemy() {
+    return this.bot;
+  }
+
+  @Override
+  protected void tickEnemyElixir() {
+    this.botElixir.tick();
+  }
+
+  @Override
+  protected SpatialHash getIndexOf(final Attackable entity) {
+    return super.isUserTheOwner(entity) ? this.playerIndex : this.botIndex;
+  }
+
+  @Override
+  protected void saveEnemyState(final ByteBuffer buffer) {
+    super.saveIds(buffer, this.botChoosableCards);
+    super.saveIds(buffer, this.botCardQueue);
+    super.saveIds(buffer, this.botDeployedCards);
+    super.saveIds(buffer, this.botActiveTowers);
+    this.botElixir.saveState(buffer);
+  }
+
+  @Override
+  protected void loadEnemyState(final ByteBuffer buffer) {
+    super.loadIds(buffer, this.botChoosableCards, Card.class);
+    super.loadIds(buffer, this.botCardQueue, Card.class);
+    super.loadIds(buffer, this.botDeployedCards, Card.class);
+    super.loadIds(buffer, this.botActiveTowers, Tower.class);
+    this.botElixir.loadState(buffer);
+  }
+
+  @Override
+  public MatchResult getResult() {
+    return new MatchResult(super.getSeed(), super.getCurrentTick(), 
+        MatchResult.TOWERS - super.getPlayerActiveTowers().size(), MatchResult.TOWERS - this.botActiveTowers.size(),
+        super.getPlayerActiveTowers().stream().mapToDouble(Tower::getCurrentHP).sum(), 
+        this.botActiveTowers.stream().mapToDouble(Tower::getCurrentHP).sum());
   }
 
   /**
@@ -166,7 +259,13 @@ public class BotGameModel extends GameModel {
           .stream()
           .filter(enemyAttackable -> this.isInRange(selfAttackable, enemyAttackable))
           .findAny()
-          .ifPresent(enemyAttackable -> selfAttackable.setCurrentTarget(enemyAttackable)));
+          .ifPresent(enemyAttackable -> this.acquireTarget(selfAttackable, enemyAttackable)));
+  }
+
+  private void acquireTarget(final Attackable selfAttackable, final Attackable enemyAttackable) {
+    selfAttackable.setCurrentTarget(enemyAttackable);
+    super.getCombatLog().record(CombatEvent.TARGET_ACQUIRED, selfAttackable.getId(), enemyAttackable.getId(),
+        VectorsUtilities.euclideanDistance(selfAttackable.getPosition(), enemyAttackable.getPosition()));
   }
 
   private boolean isInRange(final Attackable selfAttackable, final Attackable enemyAttackable) {
@@ -179,23 +278,104 @@ public class BotGameModel extends GameModel {
     this.findTargets(this.getBotAttackable(), super.getPlayerAttackable());
   }
 
-  private void attackTargets(final List<Attackable> selfAttackables) {
-    selfAttackables.forEach(attackable -> {
-      attackable.attackCurrentTarget();
-      if (attackable.getCurrentTarget().isPresent()) {
-        final var currentTarget = attackable.getCurrentTarget().get();
-        if (currentTarget.isDead()) {
-          if (isUserTheOwner(currentTarget)) {
-            super.removeUserAttackableFromArena(currentTarget);
-          } else {
-            this.removeBotAttackableFromArena(currentTarget);
+  private void addMovingTroops(final List<Card> deployedCards) {
+    for (final Card card : deployedCards) {
+      if (card instanceof Troop) {
+        this.movingTroops.add(card);
+      }
+    }
+  }
+
+  @Override
+  public void separateTroops() {
+    this.separateTroops(super.getPlayerDeployedCards());
+    this.separateTroops(this.botDeployedCards);
+  }
+
+  /**
+   * Troops are separated from their allies only, so that melee troops are never pushed away from their target.
+   */
+  private void separateTroops(final List<Card> deployedCards) {
+    this.movingTroops.clear();
+    this.addMovingTroops(deployedCards);
+    this.steering.resolve(this.movingTroops);
+    for (int i = 0; i < this.movingTroops.size(); i++) {
+      this.steering.getOffset(i, this.movingTroops.get(i).getSeparation());
+    }
+    this.movingTroops.clear();
+  }
+
+  private void moveTroops(final List<Card> deployedCards, final List<Attackable> enemies) {
+    for (final Card card : deployedCards) {
+      if (card instanceof Troop) {
+        super.moveTroop((Troop) card, enemies);
+      }
+    }
+  }
+
+  @Override
+  public void moveTroops() {
+    this.moveTroops(super.getPlayerDeployedCards(), this.getBotAttackable());
+    this.moveTroops(this.botDeployedCards, super.getPlayerAttackable());
+  }
+
+  private void queueHits(final List<Attackable> selfAttackables, final SpatialHash enemyIndex) {
+    for (final Attackable attackable : selfAttackables) {
+      final var currentTarget = attackable.getCurrentTarget();
+      if (currentTarget.isPresent()) {
+        final var target = currentTarget.get();
+        if (attackable instanceof RangedAttacker) {
+          this.fireProjectile((RangedAttacker) attackable, target, enemyIndex);
+        } else {
+          final double damage = attackable.getDamage() * GameModel.HITS_PER_TICK;
+          this.damageBatch.add(attackable.getId(), target, damage);
+          if (attackable instanceof SplashAttacker) {
+            final var splash = (SplashAttacker) attackable;
+            final var center = splash.isSplashOnTarget() ? target.getPosition() : attackable.getPosition();
+            this.damageBatch.addArea(attackable.getId(), center, splash.getSplashRadius(), enemyIndex, damage, target);
           }
-          attackable.resetCurrentTarget();
         }
       }
+    }
+  }
+
+  private void fireProjectile(final RangedAttacker attacker, final Attackable target, final SpatialHash enemyIndex) {
+    if (attacker.getReload().tick()) {
+      super.getProjectiles().fire(attacker, target, enemyIndex);
+    }
+  }
+
+  private void removeDeadAttackables(final List<Attackable> selfAttackables) {
+    selfAttackables.forEach(attackable -> {
+      if (attackable.isDead()) {
+        super.getCombatLog().record(CombatEvent.DEATH, attackable.getId(), -1, 0);
+        if (isUserTheOwner(attackable)) {
+          super.removeUserAttackableFromArena(attackable);
+          this.activateTowers(super.getPlayerActiveTowers());
+        } else {
+          this.removeBotAttackableFromArena(attackable);
+          this.activateTowers(this.botActiveTowers);
+        }
+      } else if (attackable.getCurrentTarget().isPresent() && attackable.getCurrentTarget().get().isDead()) {
+        attackable.resetCurrentTarget();
+      }
     });
   }
 
+  /**
+   * The king tower of a side is activated when the first of its queen towers has been destroyed.
+   */
+  private void activateTowers(final List<Tower> activeTowers) {
+    if (activeTowers.size() < MatchResult.TOWERS) {
+      for (final Tower tower : activeTowers) {
+        if (!tower.isActive()) {
+          tower.setActive();
+          super.getCombatLog().record(CombatEvent.TOWER_ACTIVATED, tower.getId(), -1, 0);
+        }
+      }
+    }
+  }
+
   private void removeBotAttackableFromArena(final Attackable target) {
     if (super.isTower(target)) {
       this.destroyBotTower((Tower) target);
@@ -204,9 +384,23 @@ public class BotGameModel extends GameModel {
     }
   }
 
+  /**
+   * Every hit of the tick, splash and projectile ones included, is queued first and then applied in a single batch,
+   * so the outcome does not depend on which side attacks first. The batch counts each hit in the telemetry of the match.
+   */
   @Override
   public void handleAttackTargets() {
-    this.attackTargets(super.getPlayerAttackable());
-    this.attackTargets(this.getBotAttackable());
+    final var playerAttackables = super.getPlayerAttackable();
+    final var botAttackables = this.getBotAttackable();
+    this.playerIndex.rebuild(playerAttackables);
+    this.botIndex.rebuild(botAttackables);
+    super.getTelemetry().tickAlive(playerAttackables);
+    super.getTelemetry().tickAlive(botAttackables);
+    this.queueHits(playerAttackables, this.botIndex);
+    this.queueHits(botAttackables, this.playerIndex);
+    super.getProjectiles().update(GameModel.TICK_DURATION, this.damageBatch);
+    this.damageBatch.apply();
+    this.removeDeadAttackables(playerAttackables);
+    this.removeDeadAttackables(botAttackables);
   }
 }
@@ -0,0 +1,91 @@
+package model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The elixir of a side of the match: a drop is gained every second, up to {@link #MAX}.
+ */
+public final class Elixir {
+
+  /**
+   * The maximum amount of elixir.
+   */
+  public static final int MAX = 10;
+
+  private int amount;
+  private int ticks;
+  private int spent;
+
+  /**
+   * Constructor: a match starts with no elixir.
+   */
+  public Elixir() {
+    this.amount = 0;
+    this.ticks = 0;
+    this.spent = 0;
+  }
+
+  /**
+   * Advances the elixir by one tick of the match.
+   */
+  public void tick() {
+    if (this.amount < MAX && ++this.ticks == GameModel.TICKS_PER_SECOND) {
+      this.amount++;
+      this.ticks = 0;
+    }
+  }
+
+  /**
+   * 
+   * @return the current amount of elixir.
+   */
+  public int getAmount() {
+    return this.amount;
+  }
+
+  /**
+   * Takes elixir, if enough.
+   * 
+   * @param cost
+   *              the amount of elixir to be taken.
+   * @return whether the elixir has been taken.
+   */
+  public boolean spend(final int cost) {
+    if (this.amount < cost) {
+      return false;
+    }
+    this.amount -= cost;
+    this.spent += cost;
+    return true;
+  }
+
+  /**
+   * 
+   * @return the elixir spent since the start of the match.
+   */
+  public int getSpent() {
+    return this.spent;
+  }
+
+  /**
+   * Writes the amount of elixir, the time passed since the last drop and the elixir spent.
+   * 
+   * @param buffer
+   *              where the state is written.
+   */
+  public void saveState(final ByteBuffer buffer) {
+    buffer.putInt(this.amount).putInt(this.ticks).putInt(this.spent);
+  }
+
+  /**
+   * Reads the state written by {@link #saveState(ByteBuffer)}.
+   * 
+   * @param buffer
+   *              where the state is read from.
+   */
+  public void loadState(final ByteBuffer buffer) {
+    this.amount = buffer.getInt();
+    this.ticks = buffer.getInt();
+    this.spent = buffer.getInt();
+  }
+}
@@ -1,5 +1,6 @@
 package model;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -10,12 +11,24 @@ import java.util.stream.Stream;
 
 import com.badlogic.gdx.math.Vector2;
 
+import model.combat.CombatEvent;
+import model.combat.CombatLog;
+import model.combat.CombatTelemetry;
+import model.combat.ProjectileSystem;
+import model.command.Command;
+import model.command.CommandQueue;
 import model.entities.Attackable;
 import model.entities.cards.Card;
+import model.entities.cards.CardType;
+import model.entities.cards.troops.Troop;
 import model.entities.towers.KingTower;
 import model.entities.towers.QueenTower;
 import model.entities.towers.Tower;
 import model.entities.users.User;
+import model.history.CombatStatistics;
+import model.map.GameMap;
+import model.map.SpatialHash;
+import model.replay.ReplayRecorder;
 
 /**
  * Defines the logic to be used inside the game.
@@ -27,11 +40,52 @@ public abstract class GameModel extends Model {
    */
   protected static final int CHOOSABLE_CARDS = 4;
 
+  /**
+   * the number of ticks per second: rendering interpolates between ticks, so it can be lower than the frame rate.
+   */
+  public static final int TICKS_PER_SECOND = 30;
+
+  /**
+   * the duration of a tick, in seconds: the model is always advanced by this fixed step, whatever the frame rate.
+   */
+  public static final float TICK_DURATION = 1f / TICKS_PER_SECOND;
+
+  /**
+   * damages of cards and towers are given per hit, and each entity deals this many hits per second.
+   */
+  public static final int HITS_PER_SECOND = 60;
+
+  /**
+   * each tick deals this many hits of each entity.
+   */
+  public static final double HITS_PER_TICK = (double) HITS_PER_SECOND / TICKS_PER_SECOND;
+
+  /**
+   * the duration of a match, in seconds.
+   */
+  public static final int MATCH_DURATION = 90;
+
+  private static final byte TOWER_KIND = -1;
+
+  private final List<Attackable> entities;
   private final List<Card> playerCards;
   private final List<Card> playerCardQueue;
   private final List<Card> playerDeployedCards;
   private final List<Card> playerChoosableCards;
   private final List<Tower> playerActiveTowers;
+  private final Elixir playerElixir;
+  private final ProjectileSystem projectiles;
+  private final CombatTelemetry telemetry;
+  private final CombatLog combatLog;
+  private final GameMap gameMap;
+  private final Vector2 nextPosition;
+  private final User player;
+  private final long seed;
+  private final MatchRandom random;
+  private int currentTick;
+  private ReplayRecorder recorder;
+  private final CommandQueue commands;
+  private int[] loadedTargets;
 
   /**
    * 
@@ -39,14 +93,58 @@ public abstract class GameModel extends Model {
    *              the player deck.
    * @param user
    *              the user who is playing.
+   * @param seed
+   *              the seed of the match.
    */
-  public GameModel(final List<Card> playerCards, final User user) {
-    this.playerCards = playerCards.stream().collect(Collectors.toList());
-    this.playerCardQueue = playerCards.stream().collect(Collectors.toList());
+  public GameModel(final List<Card> playerCards, final User user, final long seed) {
+    this.entities = new ArrayList<>();
+    this.playerCards = GameModel.copyOf(playerCards);
+    this.playerCards.forEach(this::register);
+    this.playerCardQueue = this.playerCards.stream().collect(Collectors.toList());
     this.playerDeployedCards = new ArrayList<>();
     this.playerChoosableCards = new ArrayList<>();
     IntStream.range(0, CHOOSABLE_CARDS).forEach(i -> this.playerChoosableCards.add(this.playerCardQueue.remove(0)));
     this.playerActiveTowers = this.getPlayerTowers(user);
+    this.playerActiveTowers.forEach(this::register);
+    this.playerElixir = new Elixir();
+    this.projectiles = new ProjectileSystem();
+    this.telemetry = new CombatTelemetry();
+    this.combatLog = new CombatLog();
+    this.gameMap = new GameMap();
+    this.nextPosition = new Vector2();
+    this.player = user;
+    this.seed = seed;
+    this.random = new MatchRandom(seed);
+    this.currentTick = 0;
+    this.recorder = ReplayRecorder.NONE;
+    this.commands = new CommandQueue();
+    this.loadedTargets = new int[0];
+  }
+
+  /**
+   * Adds an entity to the match, giving it the next identifier.
+   * 
+   * @param <T>
+   *              the type of the entity.
+   * @param entity
+   *              the entity entering the match.
+   * @return the entity itself.
+   */
+  protected <T extends Attackable> T register(final T entity) {
+    entity.setId(this.entities.size());
+    this.entities.add(entity);
+    return entity;
+  }
+
+  /**
+   * Copies a deck, so that the cards of the deck are not changed by the match.
+   * 
+   * @param cards
+   *              the deck to be copied.
+   * @return a new list of new cards, of the same type and in the same position of the deck ones.
+   */
+  protected static List<Card> copyOf(final List<Card> cards) {
+    return cards.stream().map(c -> c.createAnother(c.getPosition())).collect(Collectors.toList());
   }
 
   private List<Tower> getPlayerTowers(final User user) {
@@ -97,28 +195,103 @@ public abstract class GameModel extends Model {
    * Deploys a card of the player.
    * @param card
    *           the card to be deployed.
+   * @param position
+   *           where the card has to be deployed.
+   * @return whether the card has been deployed, that is if it was choosable.
    */
-  public void deployPlayerCard(final Card card) {
-    if (this.playerChoosableCards.contains(card)) {
-      this.playerChoosableCards.remove(card);
-      this.playerCardQueue.add(card);
-      this.playerDeployedCards.add(card);
+  public boolean deployPlayerCard(final Card card, final Vector2 position) {
+    return this.deploy(card, position, Side.PLAYER, this.playerElixir, this.playerChoosableCards, this.playerCardQueue, this.playerDeployedCards);
+  }
+
+  /**
+   * Deploys a choosable card in the center of the map unit containing a position, paying its elixir, then records the deploy and 
+   * replaces the card with the first one of the queue, in the same place of the deployed one.
+   * 
+   * @param card
+   *           the card to be deployed.
+   * @param position
+   *           where the card has to be deployed.
+   * @param side
+   *           who is deploying the card.
+   * @param elixir
+   *           the elixir of the side.
+   * @param choosable
+   *           the choosable cards of the side.
+   * @param queue
+   *           the queued cards of the side.
+   * @param deployed
+   *           the deployed cards of the side.
+   * @return whether the card has been deployed, that is if it was choosable and there was enough elixir.
+   */
+  protected boolean deploy(final Card card, final Vector2 position, final Side side, final Elixir elixir, 
+      final List<Card> choosable, final List<Card> queue, final List<Card> deployed) {
+    if (!choosable.contains(card) || !elixir.spend(card.getCost())) {
+      return false;
+    }
+    final var origin = new Vector2(card.getPosition());
+    final var unit = this.gameMap.getMapUnitFromPosition(position);
+    choosable.remove(card);
+    card.setPosition(unit.getCenter());
+    queue.add(card);
+    deployed.add(card);
+    this.telemetry.deployed(card.getId());
+    this.combatLog.setTick(this.currentTick);
+    this.combatLog.record(CombatEvent.DEPLOY, card.getId(), -1, card.getCost());
+    this.recorder.recordDeploy(this.currentTick, side, CardType.of(card), unit.getCoordinates());
+    choosable.add(this.register(queue.remove(0).createAnother(origin)));
+    return true;
+  }
+
+  /**
+   * Deploys the first choosable card of a type in the center of a map unit (I.e. when a replay is played).
+   * 
+   * @param side
+   *           who is deploying the card.
+   * @param type
+   *           the type of the card.
+   * @param cell
+   *           the coordinates of the map unit.
+   * @return whether the card has been deployed, that is if a card of that type was choosable and there was enough elixir.
+   */
+  public boolean deployCard(final Side side, final CardType type, final Vector2 cell) {
+    final var position = this.gameMap.getMapUnitFromCoordinates(cell).getCenter();
+    final Optional<Card> card = (side == Side.PLAYER ? this.playerChoosableCards : this.getEnemyChoosableCards()).stream()
+        .filter(c -> CardType.of(c) == type)
+        .findFirst();
+    if (card.isEmpty()) {
+      return false;
     }
+    return side == Side.PLAYER ? this.deployPlayerCard(card.get(), position) : this.deployEnemyCard(card.get(), position);
   }
 
   /**
-   * @param origin 
-                  the start position of the new card.
-   * @return an {@link Optional} of the first card entered in the queue.
+   * Deploys a choosable card of a side, given its identifier inside the match.
    * 
+   * @param side
+   *           who is deploying the card.
+   * @param id
+   *           the identifier of the card.
+   * @param position
+   *           where the card has to be deployed.
+   * @return whether the card has been deployed, that is if it was a choosable card of the side and there was enough elixir.
    */
-  public Optional<Card> getPlayerNextQueuedCard(final Vector2 origin) {
-    if (this.playerCardQueue.isEmpty()) {
-      return Optional.empty();
+  public boolean deployCard(final Side side, final int id, final Vector2 position) {
+    if (id < 0 || id >= this.entities.size() || !(this.entities.get(id) instanceof Card)) {
+      return false;
     }
-    final var nextCard = this.playerCardQueue.remove(0).createAnother(origin);
-    this.playerChoosableCards.add(nextCard);
-    return Optional.of(nextCard);
+    final var card = (Card) this.entities.get(id);
+    return side == Side.PLAYER ? this.deployPlayerCard(card, position) : this.deployEnemyCard(card, position);
+  }
+
+  /**
+   * Submits a command, to be applied at the beginning of the next tick. 
+   * It is the only method of the match which can be called from any thread.
+   * 
+   * @param command
+   *              the command.
+   */
+  public void submit(final Command command) {
+    this.commands.submit(command);
   }
 
   /**
@@ -185,7 +358,7 @@ public abstract class GameModel extends Model {
    *               whether the user is the owner of this target or not.
    */
   protected boolean isUserTheOwner(final Attackable target) {
-    return target.getOwner().equals(GlobalData.USER);
+    return target.getOwner().equals(this.player);
   }
 
   /**
@@ -196,11 +369,384 @@ public abstract class GameModel extends Model {
     return Stream.concat(this.playerDeployedCards.stream().map(c -> (Attackable) c), this.playerActiveTowers.stream().map(t -> (Attackable) t)).collect(Collectors.toList());
   }
 
+  /**
+   * 
+   * @return the map of the arena.
+   */
+  public GameMap getGameMap() {
+    return this.gameMap;
+  }
+
+  /**
+   * 
+   * @return the user who is playing.
+   */
+  public User getPlayer() {
+    return this.player;
+  }
+
+  /**
+   * 
+   * @return the seed of the match.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * 
+   * @return the source of every random choice of the match, seeded with the seed of the match.
+   */
+  public MatchRandom getRandom() {
+    return this.random;
+  }
+
+  /**
+   * 
+   * @return how many ticks have been run since the match started.
+   */
+  public int getCurrentTick() {
+    return this.currentTick;
+  }
+
+  /**
+   * 
+   * @return the seconds left before the match is over.
+   */
+  public int getLeftTime() {
+    return Math.max(0, MATCH_DURATION - this.currentTick / TICKS_PER_SECOND);
+  }
+
+  /**
+   * 
+   * @return the current elixir of the player.
+   */
+  public int getPlayerElixir() {
+    return this.playerElixir.getAmount();
+  }
+
+  /**
+   * 
+   * @return the elixir spent by the player since the start of the match.
+   */
+  public int getPlayerElixirSpent() {
+    return this.playerElixir.getSpent();
+  }
+
+  /**
+   * Sets who records the cards deployed from now on.
+   * 
+   * @param recorder
+   *              the recorder of the match.
+   */
+  public void setRecorder(final ReplayRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  /**
+   * Advances the match by one tick of {@link #TICK_DURATION} seconds, after applying the commands submitted so far.
+   */
+  public void tick() {
+    this.combatLog.setTick(this.currentTick);
+    this.commands.drain(this);
+    this.playerElixir.tick();
+    this.tickEnemyElixir();
+    this.findAttackableTargets();
+    this.handleAttackTargets();
+    this.separateTroops();
+    this.moveTroops();
+    this.currentTick++;
+  }
+
+  /**
+   * Moves a troop along its path toward the closest enemy, then steers it away from the troops crowding it.
+   * Troops stop walking while they are fighting, but are still steered.
+   * 
+   * @param troop
+   *              the troop to be moved.
+   * @param enemies
+   *              the enemies of the troop.
+   */
+  protected void moveTroop(final Troop troop, final List<Attackable> enemies) {
+    if (troop.getCurrentTarget().isPresent()) {
+      troop.stay();
+    } else {
+      if (!troop.hasWaypoint()) {
+        troop.setWaypoint(this.gameMap.getNextPosition(troop, enemies));
+      }
+      troop.walk(TICK_DURATION);
+    }
+    this.steerTroop(troop);
+  }
+
+  /**
+   * Moves a troop by its separation, at most by a step of its speed, unless it would leave the map.
+   */
+  private void steerTroop(final Troop troop) {
+    this.nextPosition.set(troop.getSeparation()).limit(troop.getSpeed().getPixelsPerSecond() * TICK_DURATION);
+    final float x = this.nextPosition.x;
+    final float y = this.nextPosition.y;
+    if ((x != 0 || y != 0) && this.gameMap.containsPosition(this.nextPosition.add(troop.getPosition()))) {
+      troop.steer(x, y);
+    }
+  }
+
+  /**
+   * 
+   * @return the projectiles currently flying in the arena.
+   */
+  public ProjectileSystem getProjectiles() {
+    return this.projectiles;
+  }
+
+  /**
+   * 
+   * @return the counters of the fights of the match, by entity.
+   */
+  public CombatTelemetry getTelemetry() {
+    return this.telemetry;
+  }
+
+  /**
+   * 
+   * @return the latest events of the fights of the match.
+   */
+  public CombatLog getCombatLog() {
+    return this.combatLog;
+  }
+
+  /**
+   * 
+   * @param id
+   *              the identifier of an entity of the match.
+   * @return a name telling the entity apart from the others (I.e. "ENEMY GIANT#12").
+   */
+  public String describe(final int id) {
+    if (id < 0 || id >= this.entities.size()) {
+      return "#" + id;
+    }
+    final var entity = this.entities.get(id);
+    final var name = entity instanceof Card ? CardType.of((Card) entity).name() : entity.getClass().getSimpleName();
+    return (this.isUserTheOwner(entity) ? Side.PLAYER : Side.ENEMY) + " " + name + "#" + id;
+  }
+
+  /**
+   * Sums the counters of the fights of the cards deployed by a side, by card type.
+   * 
+   * @param side
+   *              whose cards are summed.
+   * @return how each card type of the side fought in the match.
+   */
+  public CombatStatistics getCombatStatistics(final Side side) {
+    final var statistics = new CombatStatistics();
+    for (final var entity : this.entities) {
+      final int id = entity.getId();
+      if (entity instanceof Card && this.telemetry.isDeployed(id) && this.isUserTheOwner(entity) == (side == Side.PLAYER)) {
+        statistics.add(CardType.of((Card) entity), ((Card) entity).getCost(), this.telemetry.getDamageDealt(id),
+            this.telemetry.getTowerDamage(id), this.telemetry.getDamageTaken(id), this.telemetry.getTicksAlive(id));
+      }
+    }
+    return statistics;
+  }
+
+  /**
+   * Writes the whole state of the match: the clock, every entity with its target, the cards of each side, 
+   * elixir and projectiles. Nothing is allocated, so that snapshots can be taken every tick.
+   * 
+   * @param buffer
+   *              where the state is written.
+   */
+  public void saveState(final ByteBuffer buffer) {
+    buffer.putInt(this.currentTick);
+    this.random.saveState(buffer);
+    buffer.putInt(this.entities.size());
+    for (final var entity : this.entities) {
+      buffer.put(this.kindOf(entity));
+      buffer.put((byte) (this.isUserTheOwner(entity) ? Side.PLAYER : Side.ENEMY).ordinal());
+      entity.saveState(buffer);
+      buffer.putInt(entity.getCurrentTarget().isPresent() ? entity.getCurrentTarget().get().getId() : -1);
+    }
+    this.saveIds(buffer, this.playerChoosableCards);
+    this.saveIds(buffer, this.playerCardQueue);
+    this.saveIds(buffer, this.playerDeployedCards);
+    this.saveIds(buffer, this.playerActiveTowers);
+    this.playerElixir.saveState(buffer);
+    this.projectiles.saveState(buffer);
+    this.saveEnemyState(buffer);
+  }
+
+  /**
+   * Brings the match back to the state written by {@link #saveState(ByteBuffer)}, whether it has been written by 
+   * this match or by another one started with the same users and decks. Entities entered the match after the state 
+   * was written are dropped, while the ones missing are created again.
+   * 
+   * @param buffer
+   *              where the state is read from.
+   */
+  public void loadState(final ByteBuffer buffer) {
+    this.currentTick = buffer.getInt();
+    this.random.loadState(buffer);
+    final int size = buffer.getInt();
+    if (this.loadedTargets.length < size) {
+      this.loadedTargets = new int[size * 2];
+    }
+    for (int id = 0; id < size; id++) {
+      final byte kind = buffer.get();
+      final var side = buffer.get() == Side.PLAYER.ordinal() ? Side.PLAYER : Side.ENEMY;
+      final var entity = this.entityFor(id, kind, side);
+      entity.loadState(buffer);
+      this.loadedTargets[id] = buffer.getInt();
+    }
+    while (this.entities.size() > size) {
+      this.entities.remove(this.entities.size() - 1);
+    }
+    for (int id = 0; id < size; id++) {
+      if (this.loadedTargets[id] < 0) {
+        this.entities.get(id).resetCurrentTarget();
+      } else {
+        this.entities.get(id).setCurrentTarget(this.entities.get(this.loadedTargets[id]));
+      }
+    }
+    this.loadIds(buffer, this.playerChoosableCards, Card.class);
+    this.loadIds(buffer, this.playerCardQueue, Card.class);
+    this.loadIds(buffer, this.playerDeployedCards, Card.class);
+    this.loadIds(buffer, this.playerActiveTowers, Tower.class);
+    this.playerElixir.loadState(buffer);
+    this.projectiles.loadState(buffer, this.entities::get, this::getIndexOf);
+    this.loadEnemyState(buffer);
+  }
+
+  private byte kindOf(final Attackable entity) {
+    return entity instanceof Card ? (byte) CardType.of((Card) entity).ordinal() : TOWER_KIND;
+  }
+
+  private Attackable entityFor(final int id, final byte kind, final Side side) {
+    if (id < this.entities.size()) {
+      final var entity = this.entities.get(id);
+      if (this.kindOf(entity) == kind && this.isUserTheOwner(entity) == (side == Side.PLAYER)) {
+        return entity;
+      }
+    }
+    if (kind == TOWER_KIND) {
+      throw new IllegalStateException("The state belongs to a match with other towers");
+    }
+    final var card = CardType.values()[kind].create(side == Side.PLAYER ? this.player : this.getEnemy(), new Vector2());
+    card.setId(id);
+    if (id < this.entities.size()) {
+      this.entities.set(id, card);
+    } else {
+      this.entities.add(card);
+    }
+    return card;
+  }
+
+  /**
+   * Writes the identifiers of a list of entities.
+   * 
+   * @param buffer
+   *              where the identifiers are written.
+   * @param list
+   *              the entities.
+   */
+  protected void saveIds(final ByteBuffer buffer, final List<? extends Attackable> list) {
+    buffer.putInt(list.size());
+    for (final var entity : list) {
+      buffer.putInt(entity.getId());
+    }
+  }
+
+  /**
+   * Fills a list with the entities whose identifiers have been written by {@link #saveIds(ByteBuffer, List)}.
+   * 
+   * @param <T>
+   *              the type of the entities.
+   * @param buffer
+   *              where the identifiers are read from.
+   * @param list
+   *              the list to be filled.
+   * @param type
+   *              the type of the entities.
+   */
+  protected <T extends Attackable> void loadIds(final ByteBuffer buffer, final List<T> list, final Class<T> type) {
+    list.clear();
+    final int size = buffer.getInt();
+    for (int i = 0; i < size; i++) {
+      list.add(type.cast(this.entities.get(buffer.getInt())));
+    }
+  }
+
+  /**
+   * 
+   * @return the enemy of the user, whether is a bot or real player.
+   */
+  protected abstract User getEnemy();
+
+  /**
+   * Advances the elixir of the enemy by one tick.
+   */
+  protected abstract void tickEnemyElixir();
+
+  /**
+   * 
+   * @param entity
+   *              an entity of the match.
+   * @return the index containing the entity and its allies.
+   */
+  protected abstract SpatialHash getIndexOf(Attackable entity);
+
+  /**
+   * Writes the state of the enemy: its cards, towers and elixir.
+   * 
+   * @param buffer
+   *              where the state is written.
+   */
+  protected abstract void saveEnemyState(ByteBuffer buffer);
+
+  /**
+   * Reads the state written by {@link #saveEnemyState(ByteBuffer)}.
+   * 
+   * @param buffer
+   *              where the state is read from.
+   */
+  protected abstract void loadEnemyState(ByteBuffer buffer);
+
+  /**
+   * 
+   * @return a list of enemy currently choosable cards.
+   */
+  protected abstract List<Card> getEnemyChoosableCards();
+
+  /**
+   * Deploys a card of the enemy, whether is a bot or real player.
+   * @param card
+   *           the card to be deployed.
+   * @param position
+   *           where the card has to be deployed.
+   * @return whether the card has been deployed, that is if it was choosable.
+   */
+  protected abstract boolean deployEnemyCard(Card card, Vector2 position);
+
+  /**
+   * 
+   * @return the result of the match, as it is now.
+   */
+  public abstract MatchResult getResult();
+
   /**
    * Find targets, if any, for a user attackables looking for them in the enemy attackables (whether is a bot or real player).
    */
   public abstract void findAttackableTargets();
 
+  /**
+   * Evaluate how far each deployed troop, whether of the user or of the enemy, has to move away from the allied troops around it.
+   */
+  public abstract void separateTroops();
+
+  /**
+   * Move every deployed troop, whether of the user or of the enemy.
+   */
+  public abstract void moveTroops();
+
   /**
    * Handle the attack functionality of both user and enemy attackables (whether is a bot or real player).
    */
@@ -6,6 +6,7 @@ import com.badlogic.gdx.math.Vector2;
 
 import controller.SaveController;
 
+import model.ai.BotDifficulty;
 import model.entities.cards.Card;
 import model.entities.cards.troops.Barbarian;
 import model.entities.cards.troops.Giant;
@@ -17,10 +18,6 @@ import model.entities.users.User;
  * Class used to easily provide and instance of User and Bot.
  */
 public final class GlobalData {
-  /**
-   * Provides a user instance.
-   */
-  public static final User USER = SaveController.loadUser();
 
   /**
    * Provides a bot.
@@ -36,6 +33,20 @@ public final class GlobalData {
       Giant.create(BOT, new Vector2(300, 1000)), 
       Wizard.create(BOT, new Vector2(400, 1000)));
 
+  /**
+   * Provides the difficulty of the bot.
+   */
+  public static final BotDifficulty BOT_DIFFICULTY = BotDifficulty.HARD;
+
   private GlobalData() {
   }
+
+  /**
+   * Provides the user of the player, whose profile is read on first access.
+   * 
+   * @return the user.
+   */
+  public static User getUser() {
+    return SaveController.loadUser();
+  }
 }
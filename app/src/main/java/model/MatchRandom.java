@@ -0,0 +1,109 @@
+package model;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * The source of every random choice of a match (SplitMix64): given the seed of the match, the same choices
+ * are made in every run, and independent streams can be split for each part of the game needing them.
+ */
+public final class MatchRandom {
+
+  private static final long GOLDEN_GAMMA = 0x9e37_79b9_7f4a_7c15L;
+  private static final long MIX_1 = 0xbf58_476d_1ce4_e5b9L;
+  private static final long MIX_2 = 0x94d0_49bb_1331_11ebL;
+  private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+  private long state;
+
+  /**
+   *
+   * @param seed
+   *              the seed of the match.
+   */
+  public MatchRandom(final long seed) {
+    this.state = seed;
+  }
+
+  /**
+   *
+   * @return a new seed, for a match which has not to be reproduced yet.
+   */
+  public static long newSeed() {
+    return new Random().nextLong();
+  }
+
+  /**
+   *
+   * @return the next random long.
+   */
+  public long nextLong() {
+    this.state += GOLDEN_GAMMA;
+    long z = this.state;
+    z = (z ^ (z >>> 30)) * MIX_1;
+    z = (z ^ (z >>> 27)) * MIX_2;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   *
+   * @param bound
+   *              the upper bound, exclusive.
+   * @return a random int between 0 and the bound.
+   */
+  public int nextInt(final int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("The bound must be positive");
+    }
+    return (int) (((this.nextLong() >>> 32) * bound) >>> 32);
+  }
+
+  /**
+   *
+   * @param origin
+   *              the lower bound, inclusive.
+   * @param bound
+   *              the upper bound, exclusive.
+   * @return a random int between the bounds.
+   */
+  public int nextInt(final int origin, final int bound) {
+    return origin + this.nextInt(bound - origin);
+  }
+
+  /**
+   *
+   * @return a random float between 0 and 1, exclusive.
+   */
+  public float nextFloat() {
+    return (this.nextLong() >>> 40) * FLOAT_UNIT;
+  }
+
+  /**
+   * Splits an independent stream off this one (I.e. for the bot), whose choices do not depend on how much this one is used afterwards.
+   *
+   * @return the new stream.
+   */
+  public MatchRandom split() {
+    return new MatchRandom(this.nextLong());
+  }
+
+  /**
+   * Writes the state of the stream.
+   *
+   * @param buffer
+   *              where the state is written.
+   */
+  public void saveState(final ByteBuffer buffer) {
+    buffer.putLong(this.state);
+  }
+
+  /**
+   * Reads the state written by {@link #saveState(ByteBuffer)}.
+   *
+   * @param buffer
+   *              where the state is read from.
+   */
+  public void loadState(final ByteBuffer buffer) {
+    this.state = buffer.getLong();
+  }
+}
@@ -0,0 +1,133 @@
+package model;
+
+import java.util.Objects;
+
+/**
+ * The outcome of a match, as evaluated by the model.
+ */
+public final class MatchResult {
+
+  /**
+   * The towers of each side: a side losing all of them loses the match.
+   */
+  public static final int TOWERS = 3;
+
+  private final long seed;
+  private final int ticks;
+  private final int playerDestroyedTowers;
+  private final int enemyDestroyedTowers;
+  private final double playerTowersHP;
+  private final double enemyTowersHP;
+
+  /**
+   * 
+   * @param seed
+   *              the seed of the match.
+   * @param ticks
+   *              how many ticks the match lasted.
+   * @param playerDestroyedTowers
+   *              the towers of the player destroyed by the enemy.
+   * @param enemyDestroyedTowers
+   *              the towers of the enemy destroyed by the player.
+   * @param playerTowersHP
+   *              the sum of the HP left to the towers of the player.
+   * @param enemyTowersHP
+   *              the sum of the HP left to the towers of the enemy.
+   */
+  public MatchResult(final long seed, final int ticks, final int playerDestroyedTowers, final int enemyDestroyedTowers, 
+      final double playerTowersHP, final double enemyTowersHP) {
+    this.seed = seed;
+    this.ticks = ticks;
+    this.playerDestroyedTowers = playerDestroyedTowers;
+    this.enemyDestroyedTowers = enemyDestroyedTowers;
+    this.playerTowersHP = playerTowersHP;
+    this.enemyTowersHP = enemyTowersHP;
+  }
+
+  /**
+   * 
+   * @return the seed of the match.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * 
+   * @return how many ticks the match lasted.
+   */
+  public int getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   * 
+   * @return the towers of the player destroyed by the enemy.
+   */
+  public int getPlayerDestroyedTowers() {
+    return this.playerDestroyedTowers;
+  }
+
+  /**
+   * 
+   * @return the towers of the enemy destroyed by the player.
+   */
+  public int getEnemyDestroyedTowers() {
+    return this.enemyDestroyedTowers;
+  }
+
+  /**
+   * 
+   * @return the sum of the HP left to the towers of the player.
+   */
+  public double getPlayerTowersHP() {
+    return this.playerTowersHP;
+  }
+
+  /**
+   * 
+   * @return the sum of the HP left to the towers of the enemy.
+   */
+  public double getEnemyTowersHP() {
+    return this.enemyTowersHP;
+  }
+
+  /**
+   * 
+   * @return whether a side has lost all its towers.
+   */
+  public boolean isDecided() {
+    return this.playerDestroyedTowers == TOWERS || this.enemyDestroyedTowers == TOWERS;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enemyDestroyedTowers, enemyTowersHP, playerDestroyedTowers, playerTowersHP, seed, ticks);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final MatchResult other = (MatchResult) obj;
+    return enemyDestroyedTowers == other.enemyDestroyedTowers
+        && Double.doubleToLongBits(enemyTowersHP) == Double.doubleToLongBits(other.enemyTowersHP)
+        && playerDestroyedTowers == other.playerDestroyedTowers
+        && Double.doubleToLongBits(playerTowersHP) == Double.doubleToLongBits(other.playerTowersHP)
+        && seed == other.seed && ticks == other.ticks;
+  }
+
+  @Override
+  public String toString() {
+    return "MatchResult [seed=" + seed + ", ticks=" + ticks + ", playerDestroyedTowers=" + playerDestroyedTowers 
+        + ", enemyDestroyedTowers=" + enemyDestroyedTowers + ", playerTowersHP=" + playerTowersHP 
+        + ", enemyTowersHP=" + enemyTowersHP + "]";
+  }
+}
@@ -0,0 +1,17 @@
+package model;
+
+/**
+ * The two sides of a match.
+ */
+public enum Side {
+
+  /**
+   * The user playing the match.
+   */
+  PLAYER,
+
+  /**
+   * The enemy of the user, whether is a bot or a real player.
+   */
+  ENEMY
+}
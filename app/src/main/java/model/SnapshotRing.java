@@ -0,0 +1,129 @@
+package model;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A fixed number of preallocated buffers holding the latest states of a match, so that taking a snapshot
+ * only copies bytes and the match can be rolled back to any of them.
+ */
+public final class SnapshotRing {
+
+  /**
+   * The initial size of each snapshot, enough for a crowded arena.
+   */
+  public static final int DEFAULT_SNAPSHOT_SIZE = 64 * 1024;
+
+  private final ByteBuffer[] snapshots;
+  private long next;
+  private long oldest;
+
+  /**
+   *
+   * @param capacity
+   *              how many snapshots are kept before the oldest ones are overwritten.
+   */
+  public SnapshotRing(final int capacity) {
+    this(capacity, DEFAULT_SNAPSHOT_SIZE);
+  }
+
+  /**
+   *
+   * @param capacity
+   *              how many snapshots are kept before the oldest ones are overwritten.
+   * @param snapshotSize
+   *              the initial size of each snapshot, in bytes.
+   */
+  public SnapshotRing(final int capacity, final int snapshotSize) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("The capacity must be positive");
+    }
+    this.snapshots = new ByteBuffer[capacity];
+    for (int i = 0; i < capacity; i++) {
+      this.snapshots[i] = ByteBuffer.allocate(snapshotSize);
+    }
+  }
+
+  /**
+   * Takes a snapshot of a match, overwriting the oldest one if the ring is full.
+   * A slot too small for the state is grown, so only the first snapshots of a long match may allocate.
+   *
+   * @param model
+   *              the match.
+   * @return the identifier of the snapshot.
+   */
+  public long save(final GameModel model) {
+    final int slot = this.slotOf(this.next);
+    while (true) {
+      final var buffer = this.snapshots[slot];
+      buffer.clear();
+      try {
+        model.saveState(buffer);
+        break;
+      } catch (BufferOverflowException e) {
+        this.snapshots[slot] = ByteBuffer.allocate(buffer.capacity() * 2);
+      }
+    }
+    this.snapshots[slot].flip();
+    if (this.next - this.oldest == this.snapshots.length) {
+      this.oldest++;
+    }
+    return this.next++;
+  }
+
+  /**
+   *
+   * @param id
+   *              the identifier of a snapshot.
+   * @return whether the snapshot is still kept.
+   */
+  public boolean contains(final long id) {
+    return id >= this.oldest && id < this.next;
+  }
+
+  /**
+   *
+   * @param id
+   *              the identifier of a snapshot.
+   * @return a read only view of the snapshot, to be loaded with {@link GameModel#loadState(ByteBuffer)} (I.e. in another match
+   *         started with the same users and decks).
+   */
+  public ByteBuffer get(final long id) {
+    if (!this.contains(id)) {
+      throw new IllegalArgumentException("The snapshot " + id + " is no longer kept");
+    }
+    return this.snapshots[this.slotOf(id)].asReadOnlyBuffer();
+  }
+
+  /**
+   * Rolls a match back to a snapshot, discarding the ones taken after it.
+   *
+   * @param model
+   *              the match.
+   * @param id
+   *              the identifier of the snapshot.
+   * @return whether the match has been rolled back, that is if the snapshot was still kept.
+   */
+  public boolean restore(final GameModel model, final long id) {
+    if (!this.contains(id)) {
+      return false;
+    }
+    final var buffer = this.snapshots[this.slotOf(id)];
+    model.loadState(buffer);
+    buffer.rewind();
+    this.next = id + 1;
+    return true;
+  }
+
+  /**
+   *
+   * @return how many snapshots are kept.
+   */
+  public int size() {
+    return (int) (this.next - this.oldest);
+  }
+
+  private int slotOf(final long id) {
+    return (int) (id % this.snapshots.length);
+  }
+}
@@ -0,0 +1,79 @@
+package model.ai;
+
+import model.GameModel;
+
+/**
+ * The difficulty profiles of the bot: each one chooses how the bot decides, how often and how much time a decision
+ * can take at most. Decisions taking longer than their budget are dropped and counted as missed in {@link BotMetrics}.
+ */
+public enum BotDifficulty {
+
+  /**
+   * Random cards in random places, every two seconds: cheap enough to run many bots on one host.
+   */
+  EASY(Algorithm.RANDOM, 2 * GameModel.TICKS_PER_SECOND, 1),
+
+  /**
+   * Utility scoring over influence maps, twice a second.
+   */
+  NORMAL(Algorithm.HEURISTIC, GameModel.TICKS_PER_SECOND / 2, 2),
+
+  /**
+   * Monte Carlo search over headless rollouts, once a second.
+   */
+  HARD(Algorithm.SEARCH, GameModel.TICKS_PER_SECOND, 50);
+
+  /**
+   * How a bot decides its deploys.
+   */
+  public enum Algorithm {
+    /**
+     * A random card in a random place of its half.
+     */
+    RANDOM,
+
+    /**
+     * The best scoring placement according to {@link UtilityBot}.
+     */
+    HEURISTIC,
+
+    /**
+     * The best placement according to {@link MonteCarloSearch}.
+     */
+    SEARCH;
+  }
+
+  private final Algorithm algorithm;
+  private final int decisionTicks;
+  private final long budgetMillis;
+
+  BotDifficulty(final Algorithm algorithm, final int decisionTicks, final long budgetMillis) {
+    this.algorithm = algorithm;
+    this.decisionTicks = decisionTicks;
+    this.budgetMillis = budgetMillis;
+  }
+
+  /**
+   *
+   * @return how the bot decides its deploys.
+   */
+  public Algorithm getAlgorithm() {
+    return this.algorithm;
+  }
+
+  /**
+   *
+   * @return how many ticks pass between two decisions.
+   */
+  public int getDecisionTicks() {
+    return this.decisionTicks;
+  }
+
+  /**
+   *
+   * @return how long a decision can take at most, in milliseconds.
+   */
+  public long getBudgetMillis() {
+    return this.budgetMillis;
+  }
+}
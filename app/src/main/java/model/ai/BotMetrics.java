@@ -0,0 +1,106 @@
+package model.ai;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters about the decisions of a bot: how many, how long they took, how many missed their deadline and how many of these
+ * were cut off by it, still running.
+ * They can be updated from any thread.
+ */
+public final class BotMetrics {
+
+  private final AtomicLong decisions = new AtomicLong();
+  private final AtomicLong deploys = new AtomicLong();
+  private final AtomicLong missedDeadlines = new AtomicLong();
+  private final AtomicLong timeouts = new AtomicLong();
+  private final AtomicLong totalNanos = new AtomicLong();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /**
+   * Records a decision.
+   *
+   * @param nanos
+   *              how long the decision took.
+   * @param deploy
+   *              whether the bot decided to deploy a card.
+   * @param missed
+   *              whether the decision took longer than its budget, so it has been dropped.
+   */
+  public void record(final long nanos, final boolean deploy, final boolean missed) {
+    this.decisions.incrementAndGet();
+    this.totalNanos.addAndGet(nanos);
+    this.maxNanos.accumulateAndGet(nanos, Math::max);
+    if (missed) {
+      this.missedDeadlines.incrementAndGet();
+    } else if (deploy) {
+      this.deploys.incrementAndGet();
+    }
+  }
+
+  /**
+   * Records a decision cut off by its deadline while still running: it is counted as missed.
+   *
+   * @param nanos
+   *              how long the decision had been running.
+   */
+  public void recordTimeout(final long nanos) {
+    this.timeouts.incrementAndGet();
+    this.record(nanos, false, true);
+  }
+
+  /**
+   *
+   * @return how many decisions have been taken.
+   */
+  public long getDecisions() {
+    return this.decisions.get();
+  }
+
+  /**
+   *
+   * @return how many decisions deployed a card in time.
+   */
+  public long getDeploys() {
+    return this.deploys.get();
+  }
+
+  /**
+   *
+   * @return how many decisions took longer than their budget.
+   */
+  public long getMissedDeadlines() {
+    return this.missedDeadlines.get();
+  }
+
+  /**
+   *
+   * @return how many decisions have been cut off by their deadline, still running.
+   */
+  public long getTimeouts() {
+    return this.timeouts.get();
+  }
+
+  /**
+   *
+   * @return the average time of a decision, in nanoseconds.
+   */
+  public long getAverageNanos() {
+    final long count = this.decisions.get();
+    return count == 0 ? 0 : this.totalNanos.get() / count;
+  }
+
+  /**
+   *
+   * @return the longest time of a decision, in nanoseconds.
+   */
+  public long getMaxNanos() {
+    return this.maxNanos.get();
+  }
+
+  @Override
+  public String toString() {
+    return "BotMetrics [decisions=" + getDecisions() + ", deploys=" + getDeploys() + ", missedDeadlines=" + getMissedDeadlines() + ", timeouts=" + getTimeouts()
+        + ", averageMicros=" + TimeUnit.NANOSECONDS.toMicros(getAverageNanos()) + ", maxMicros=" + TimeUnit.NANOSECONDS.toMicros(getMaxNanos()) + "]";
+  }
+}
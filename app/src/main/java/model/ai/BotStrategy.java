@@ -0,0 +1,35 @@
+package model.ai;
+
+import java.io.Closeable;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import model.BotGameModel;
+import model.command.DeployCommand;
+
+/**
+ * How a bot chooses its deploys. A decision is started from the simulation thread and may be completed on other threads.
+ * A decision running past its budget is cancelled: strategies doing more than a constant amount of work check the flag
+ * they are given and stop as soon as it is raised.
+ */
+public interface BotStrategy extends Closeable {
+
+  /**
+   * Starts a decision from the current state of the match.
+   * 
+   * @param model
+   *              the match the bot is playing.
+   * @param cancelled
+   *              whether the decision has been cancelled, so its result will be dropped.
+   * @return the deploy to be submitted, if any, once decided.
+   */
+  CompletableFuture<Optional<DeployCommand>> decide(BotGameModel model, BooleanSupplier cancelled);
+
+  /**
+   * Releases the resources of the strategy, when the match is over.
+   */
+  @Override
+  default void close() {
+  }
+}
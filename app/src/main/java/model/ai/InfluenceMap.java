@@ -0,0 +1,244 @@
+package model.ai;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.BotGameModel;
+import model.GameModel;
+import model.Side;
+import model.entities.Attackable;
+import model.entities.cards.Card;
+import model.entities.towers.Tower;
+import model.map.GameMap;
+import model.map.MapUnit;
+
+/**
+ * Per cell influence of each side over the grid of the arena: the damage per second its entities can deal on the cell,
+ * the part of it dealt by towers, and the elixir of its cards close to the cell; besides, the pressure of its cards on each lane.
+ * The maps are updated incrementally: an entity is stamped again only when it moves to another cell, enters or leaves the match.
+ * Values are integers, so that removing a stamp gives back exactly the previous map.
+ */
+public final class InfluenceMap {
+
+  /**
+   * The number of lanes of the arena.
+   */
+  public static final int LANES = 2;
+
+  private static final int CELLS = GameMap.COLUMNS * GameMap.ROWS;
+  private static final int PRESENCE_RADIUS = 3;
+  private static final int INITIAL_ENTITIES = 64;
+
+  private final int[][] dps;
+  private final int[][] towerThreat;
+  private final int[][] presence;
+  private final int[][] lanePressure;
+  private int[] stampedCell;
+  private int[] stampedDps;
+  private int[] stampedRange;
+  private int[] stampedCost;
+  private byte[] stampedSide;
+  private boolean[] stampedTower;
+  private int[] seen;
+  private int generation;
+  private int restamped;
+
+  /**
+   * Constructor.
+   */
+  public InfluenceMap() {
+    final int sides = Side.values().length;
+    this.dps = new int[sides][CELLS];
+    this.towerThreat = new int[sides][CELLS];
+    this.presence = new int[sides][CELLS];
+    this.lanePressure = new int[sides][LANES];
+    this.resize(INITIAL_ENTITIES);
+  }
+
+  private void resize(final int size) {
+    final int old = this.stampedCell == null ? 0 : this.stampedCell.length;
+    this.stampedCell = this.stampedCell == null ? new int[size] : Arrays.copyOf(this.stampedCell, size);
+    Arrays.fill(this.stampedCell, old, size, -1);
+    this.stampedDps = this.stampedDps == null ? new int[size] : Arrays.copyOf(this.stampedDps, size);
+    this.stampedRange = this.stampedRange == null ? new int[size] : Arrays.copyOf(this.stampedRange, size);
+    this.stampedCost = this.stampedCost == null ? new int[size] : Arrays.copyOf(this.stampedCost, size);
+    this.stampedSide = this.stampedSide == null ? new byte[size] : Arrays.copyOf(this.stampedSide, size);
+    this.stampedTower = this.stampedTower == null ? new boolean[size] : Arrays.copyOf(this.stampedTower, size);
+    this.seen = this.seen == null ? new int[size] : Arrays.copyOf(this.seen, size);
+  }
+
+  /**
+   * Brings the maps in line with the match, stamping again only the entities which changed cell.
+   *
+   * @param model
+   *              the match.
+   */
+  public void update(final BotGameModel model) {
+    this.generation++;
+    this.restamped = 0;
+    this.updateAll(model.getPlayerDeployedCards(), Side.PLAYER);
+    this.updateAll(model.getPlayerActiveTowers(), Side.PLAYER);
+    this.updateAll(model.getBotDeployedCards(), Side.ENEMY);
+    this.updateAll(model.getBotActiveTowers(), Side.ENEMY);
+    for (int id = 0; id < this.stampedCell.length; id++) {
+      if (this.stampedCell[id] >= 0 && this.seen[id] != this.generation) {
+        this.stamp(id, -1);
+        this.stampedCell[id] = -1;
+        this.restamped++;
+      }
+    }
+  }
+
+  private void updateAll(final List<? extends Attackable> entities, final Side side) {
+    for (final var entity : entities) {
+      if (!entity.isDead()) {
+        this.update(entity, side);
+      }
+    }
+  }
+
+  private void update(final Attackable entity, final Side side) {
+    final int id = entity.getId();
+    if (id >= this.stampedCell.length) {
+      this.resize(Math.max(id + 1, this.stampedCell.length * 2));
+    }
+    this.seen[id] = this.generation;
+    final int cell = InfluenceMap.cellOf(entity);
+    if (cell == this.stampedCell[id] && this.stampedSide[id] == side.ordinal()) {
+      return;
+    }
+    if (this.stampedCell[id] >= 0) {
+      this.stamp(id, -1);
+    }
+    this.stampedCell[id] = cell;
+    this.stampedDps[id] = (int) (entity.getDamage() * GameModel.HITS_PER_SECOND);
+    this.stampedRange[id] = (int) entity.getRange();
+    this.stampedCost[id] = entity instanceof Card ? ((Card) entity).getCost() : 0;
+    this.stampedSide[id] = (byte) side.ordinal();
+    this.stampedTower[id] = entity instanceof Tower;
+    this.stamp(id, 1);
+    this.restamped++;
+  }
+
+  private static int cellOf(final Attackable entity) {
+    final int column = clamp(GameMap.getColumn(entity.getPosition().x), GameMap.COLUMNS);
+    final int row = clamp(GameMap.getRow(entity.getPosition().y), GameMap.ROWS);
+    return (row - 1) * GameMap.COLUMNS + column - 1;
+  }
+
+  private static int clamp(final int value, final int max) {
+    return Math.max(1, Math.min(max, value));
+  }
+
+  /**
+   * Adds or removes the stamp of an entity.
+   */
+  private void stamp(final int id, final int sign) {
+    final int side = this.stampedSide[id];
+    final int column = this.stampedCell[id] % GameMap.COLUMNS + 1;
+    final int row = this.stampedCell[id] / GameMap.COLUMNS + 1;
+    final int range = this.stampedRange[id];
+    final int columns = range / MapUnit.WIDTH + 1;
+    final int rows = range / MapUnit.HEIGHT + 1;
+    final long reach = (long) (range + MapUnit.WIDTH / 2) * (range + MapUnit.WIDTH / 2);
+    for (int r = Math.max(1, row - rows); r <= Math.min(GameMap.ROWS, row + rows); r++) {
+      for (int c = Math.max(1, column - columns); c <= Math.min(GameMap.COLUMNS, column + columns); c++) {
+        final long dx = (long) (c - column) * MapUnit.WIDTH;
+        final long dy = (long) (r - row) * MapUnit.HEIGHT;
+        if (dx * dx + dy * dy <= reach) {
+          final int cell = index(c, r);
+          this.dps[side][cell] += sign * this.stampedDps[id];
+          if (this.stampedTower[id]) {
+            this.towerThreat[side][cell] += sign * this.stampedDps[id];
+          }
+        }
+      }
+    }
+    final int cost = this.stampedCost[id];
+    if (cost > 0) {
+      for (int r = Math.max(1, row - PRESENCE_RADIUS); r <= Math.min(GameMap.ROWS, row + PRESENCE_RADIUS); r++) {
+        for (int c = Math.max(1, column - PRESENCE_RADIUS); c <= Math.min(GameMap.COLUMNS, column + PRESENCE_RADIUS); c++) {
+          this.presence[side][index(c, r)] += sign * cost;
+        }
+      }
+      final int advance = side == Side.PLAYER.ordinal() ? row : GameMap.ROWS + 1 - row;
+      this.lanePressure[side][laneOf(column)] += sign * cost * advance;
+    }
+  }
+
+  private static int index(final int column, final int row) {
+    return (row - 1) * GameMap.COLUMNS + column - 1;
+  }
+
+  /**
+   *
+   * @param column
+   *              a column of the grid.
+   * @return the lane containing the column.
+   */
+  public static int laneOf(final int column) {
+    return column <= GameMap.COLUMNS / 2 ? 0 : 1;
+  }
+
+  /**
+   *
+   * @param side
+   *              a side of the match.
+   * @param column
+   *              the column of the cell.
+   * @param row
+   *              the row of the cell.
+   * @return the damage per second the entities of the side can deal on the cell.
+   */
+  public int getDps(final Side side, final int column, final int row) {
+    return this.dps[side.ordinal()][index(column, row)];
+  }
+
+  /**
+   *
+   * @param side
+   *              a side of the match.
+   * @param column
+   *              the column of the cell.
+   * @param row
+   *              the row of the cell.
+   * @return the damage per second the towers of the side can deal on the cell.
+   */
+  public int getTowerThreat(final Side side, final int column, final int row) {
+    return this.towerThreat[side.ordinal()][index(column, row)];
+  }
+
+  /**
+   *
+   * @param side
+   *              a side of the match.
+   * @param column
+   *              the column of the cell.
+   * @param row
+   *              the row of the cell.
+   * @return the elixir of the cards of the side close to the cell.
+   */
+  public int getPresence(final Side side, final int column, final int row) {
+    return this.presence[side.ordinal()][index(column, row)];
+  }
+
+  /**
+   *
+   * @param side
+   *              a side of the match.
+   * @param lane
+   *              the lane.
+   * @return the elixir of the cards of the side on the lane, each one weighted by how many rows it advanced.
+   */
+  public int getLanePressure(final Side side, final int lane) {
+    return this.lanePressure[side.ordinal()][lane];
+  }
+
+  /**
+   *
+   * @return how many entities have been stamped or removed during the last update.
+   */
+  public int getRestamped() {
+    return this.restamped;
+  }
+}
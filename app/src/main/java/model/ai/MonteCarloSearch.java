@@ -0,0 +1,303 @@
+package model.ai;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.BotGameModel;
+import model.GameModel;
+import model.MatchRandom;
+import model.Side;
+import model.SnapshotRing;
+import model.command.DeployCommand;
+import model.entities.cards.Card;
+import model.entities.towers.Tower;
+import model.map.GameMap;
+import model.map.MapUnit;
+
+/**
+ * Chooses the deploys of the bot by Monte Carlo search: each candidate deploy (a card in hand times a cell of the bot half,
+ * or waiting) is scored by short headless rollouts of copies of the match, started from a snapshot of it.
+ * Rollouts run in parallel on worker threads, each one with its own copy of the match and its own UCB1 statistics,
+ * which are merged when the time budget of the decision is over (root parallelization).
+ */
+public final class MonteCarloSearch implements BotStrategy {
+
+  /**
+   * How long a rollout looks ahead, in ticks.
+   */
+  public static final int ROLLOUT_TICKS = 5 * GameModel.TICKS_PER_SECOND;
+
+  private static final int[] COLUMNS = {4, 9, 14};
+  private static final int[] BOT_ROWS = {20, 26};
+  private static final int[] PLAYER_ROWS = {6, 12};
+  private static final int OPPONENT_DECISION_TICKS = GameModel.TICKS_PER_SECOND;
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final double UNITS_WEIGHT = 0.25;
+  private static final int MAX_ELIXIR_ON_FIELD = 20;
+
+  private final BotGameModel model;
+  private final BotGameModel[] workers;
+  private final ExecutorService pool;
+  private final long budgetNanos;
+  private final List<Vector2> botCells;
+  private final List<Vector2> playerCells;
+  private final MatchRandom random;
+  private CompletableFuture<Optional<DeployCommand>> running;
+
+  /**
+   * Creates the copies of the match used by the workers: it has to be called from the simulation thread.
+   *
+   * @param model
+   *              the match the bot is playing.
+   * @param budgetMillis
+   *              how long each decision can take, in milliseconds: rollouts stop a little earlier, leaving time to merge their results.
+   * @param threads
+   *              how many rollouts run in parallel.
+   */
+  public MonteCarloSearch(final BotGameModel model, final long budgetMillis, final int threads) {
+    this.model = model;
+    this.workers = IntStream.range(0, threads).mapToObj(i -> model.copy()).toArray(BotGameModel[]::new);
+    this.pool = Executors.newFixedThreadPool(threads, r -> {
+      final var thread = new Thread(r, "bot-search");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis) * 9 / 10;
+    this.botCells = MonteCarloSearch.cells(model.getGameMap(), BOT_ROWS);
+    this.playerCells = MonteCarloSearch.cells(model.getGameMap(), PLAYER_ROWS);
+    this.random = model.getRandom().split();
+    this.running = CompletableFuture.completedFuture(Optional.empty());
+  }
+
+  private static List<Vector2> cells(final GameMap map, final int[] rows) {
+    final List<Vector2> cells = new ArrayList<>();
+    for (final int column : COLUMNS) {
+      for (final int row : rows) {
+        final var unit = map.getMapUnitFromCoordinates(new Vector2(column, row));
+        if (map.containsPosition(unit.getCenter()) && unit.getType() == MapUnit.Type.TERRAIN) {
+          cells.add(unit.getCenter());
+        }
+      }
+    }
+    return cells;
+  }
+
+  /**
+   * Starts a decision from the current state of the match: it has to be called from the simulation thread,
+   * while the search itself runs on the worker threads. Only a decision at a time can be taken: while a cancelled one
+   * is still stopping its rollouts, the bot waits.
+   *
+   * @param model
+   *              the match the search has been created for.
+   * @param cancelled
+   *              whether the decision has been cancelled, checked by the rollouts at every tick.
+   * @return the deploy to be submitted, if deploying is better than waiting, once the time budget is over.
+   */
+  @Override
+  public CompletableFuture<Optional<DeployCommand>> decide(final BotGameModel model, final BooleanSupplier cancelled) {
+    if (model != this.model) {
+      throw new IllegalArgumentException("The search has been created for another match");
+    }
+    final List<Candidate> candidates = this.candidates();
+    if (!this.running.isDone() || candidates.size() == 1) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    }
+    final var snapshot = this.snapshot();
+    final long deadline = System.nanoTime() + this.budgetNanos;
+    final List<CompletableFuture<int[]>> searches = new ArrayList<>();
+    for (final var worker : this.workers) {
+      final var rollouts = new Rollouts(worker, snapshot, candidates, deadline, cancelled, this.random.split());
+      searches.add(CompletableFuture.supplyAsync(rollouts::run, this.pool));
+    }
+    this.running = CompletableFuture.allOf(searches.toArray(CompletableFuture[]::new))
+        .thenApply(v -> MonteCarloSearch.mostVisited(candidates, searches));
+    return this.running;
+  }
+
+  private List<Candidate> candidates() {
+    final List<Candidate> candidates = new ArrayList<>();
+    candidates.add(Candidate.WAIT);
+    for (final Card card : this.model.getBotChoosableCards()) {
+      if (card.getCost() <= this.model.getBotElixir()) {
+        this.botCells.forEach(cell -> candidates.add(new Candidate(card.getId(), cell)));
+      }
+    }
+    return candidates;
+  }
+
+  private ByteBuffer snapshot() {
+    var buffer = ByteBuffer.allocate(SnapshotRing.DEFAULT_SNAPSHOT_SIZE);
+    while (true) {
+      try {
+        this.model.saveState(buffer);
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
+      } catch (BufferOverflowException e) {
+        buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+      }
+    }
+  }
+
+  private static Optional<DeployCommand> mostVisited(final List<Candidate> candidates, final List<CompletableFuture<int[]>> searches) {
+    final int[] visits = new int[candidates.size()];
+    searches.forEach(search -> {
+      final int[] workerVisits = search.join();
+      for (int i = 0; i < visits.length; i++) {
+        visits[i] += workerVisits[i];
+      }
+    });
+    int best = 0;
+    for (int i = 1; i < visits.length; i++) {
+      if (visits[i] > visits[best]) {
+        best = i;
+      }
+    }
+    final var candidate = candidates.get(best);
+    return candidate == Candidate.WAIT ? Optional.empty() : Optional.of(new DeployCommand(Side.ENEMY, candidate.cardId, candidate.position));
+  }
+
+  /**
+   * Stops the worker threads.
+   */
+  @Override
+  public void close() {
+    this.pool.shutdownNow();
+  }
+
+  private static final class Candidate {
+    private static final Candidate WAIT = new Candidate(-1, new Vector2());
+
+    private final int cardId;
+    private final Vector2 position;
+
+    Candidate(final int cardId, final Vector2 position) {
+      this.cardId = cardId;
+      this.position = position;
+    }
+  }
+
+  /**
+   * The rollouts of a worker: candidates are picked by UCB1, then the match is played without the bot deploying
+   * anything else, while the player deploys random cards.
+   */
+  private final class Rollouts {
+
+    private final BotGameModel match;
+    private final ByteBuffer snapshot;
+    private final List<Candidate> candidates;
+    private final long deadline;
+    private final BooleanSupplier cancelled;
+    private final MatchRandom rand;
+    private final int[] visits;
+    private final double[] rewards;
+
+    Rollouts(final BotGameModel match, final ByteBuffer snapshot, final List<Candidate> candidates, final long deadline, final BooleanSupplier cancelled,
+        final MatchRandom rand) {
+      this.match = match;
+      this.snapshot = snapshot;
+      this.candidates = candidates;
+      this.deadline = deadline;
+      this.cancelled = cancelled;
+      this.rand = rand;
+      this.visits = new int[candidates.size()];
+      this.rewards = new double[candidates.size()];
+    }
+
+    int[] run() {
+      int total = 0;
+      while (!this.isOver()) {
+        final int chosen = this.select(total);
+        final double reward = this.rollout(this.candidates.get(chosen));
+        if (reward < 0) {
+          break;
+        }
+        this.visits[chosen]++;
+        this.rewards[chosen] += reward;
+        total++;
+      }
+      return this.visits;
+    }
+
+    private boolean isOver() {
+      return System.nanoTime() >= this.deadline || this.cancelled.getAsBoolean();
+    }
+
+    private int select(final int total) {
+      int best = 0;
+      double bestScore = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < this.visits.length; i++) {
+        if (this.visits[i] == 0) {
+          return i;
+        }
+        final double score = this.rewards[i] / this.visits[i] + EXPLORATION * Math.sqrt(Math.log(total) / this.visits[i]);
+        if (score > bestScore) {
+          best = i;
+          bestScore = score;
+        }
+      }
+      return best;
+    }
+
+    /**
+     * @return the reward of the rollout for the bot, from 0 to 1, or a negative number if the deadline has been hit
+     *         or the decision has been cancelled.
+     */
+    private double rollout(final Candidate candidate) {
+      this.match.loadState(this.snapshot.duplicate());
+      final double playerTowers = towersHP(this.match.getPlayerActiveTowers());
+      final double botTowers = towersHP(this.match.getBotActiveTowers());
+      if (candidate != Candidate.WAIT) {
+        this.match.deployCard(Side.ENEMY, candidate.cardId, candidate.position);
+      }
+      for (int tick = 0; tick < ROLLOUT_TICKS; tick++) {
+        if (this.isOver()) {
+          return -1;
+        }
+        if (tick % OPPONENT_DECISION_TICKS == 0) {
+          this.deployRandomPlayerCard();
+        }
+        this.match.tick();
+      }
+      final double playerLoss = (playerTowers - towersHP(this.match.getPlayerActiveTowers())) / Math.max(1, playerTowers);
+      final double botLoss = (botTowers - towersHP(this.match.getBotActiveTowers())) / Math.max(1, botTowers);
+      final double units = (double) (elixirOnField(this.match.getBotDeployedCards()) - elixirOnField(this.match.getPlayerDeployedCards()))
+          / MAX_ELIXIR_ON_FIELD;
+      return Math.max(0, Math.min(1, (1 + playerLoss - botLoss + UNITS_WEIGHT * units) / 2));
+    }
+
+    private void deployRandomPlayerCard() {
+      final List<Card> hand = this.match.getPlayerChoosableCards();
+      final var card = hand.get(this.rand.nextInt(hand.size()));
+      if (card.getCost() <= this.match.getPlayerElixir()) {
+        this.match.deployPlayerCard(card, playerCells.get(this.rand.nextInt(playerCells.size())));
+      }
+    }
+  }
+
+  private static double towersHP(final List<Tower> towers) {
+    double hp = 0;
+    for (final var tower : towers) {
+      hp += tower.getCurrentHP();
+    }
+    return hp;
+  }
+
+  private static int elixirOnField(final List<Card> cards) {
+    int elixir = 0;
+    for (final var card : cards) {
+      elixir += card.getCost();
+    }
+    return elixir;
+  }
+}
@@ -0,0 +1,73 @@
+package model.ai;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.BotGameModel;
+import model.MatchRandom;
+import model.Side;
+import model.command.DeployCommand;
+
+/**
+ * Deploys a random card of its hand, if affordable, in a random cell of its half. The choices come from a stream
+ * split off the one of the match, so the same seed gives the same bot.
+ */
+public final class RandomBot implements BotStrategy {
+
+  private final Side side;
+  private final MatchRandom random;
+  private final List<Vector2> cells;
+
+  /**
+   *
+   * @param model
+   *              the match the bot is playing.
+   */
+  public RandomBot(final BotGameModel model) {
+    this(model, Side.ENEMY);
+  }
+
+  /**
+   * Builds a random bot playing any side of the match (I.e. when the match is played by two bots).
+   *
+   * @param model
+   *              the match the bot is playing.
+   * @param side
+   *              the side the bot is playing.
+   */
+  public RandomBot(final BotGameModel model, final Side side) {
+    this.side = side;
+    this.random = model.getRandom().split();
+    this.cells = UtilityBot.cells(model.getGameMap(), side);
+  }
+
+  /**
+   * Chooses a deploy.
+   *
+   * @param model
+   *              the match the bot is playing.
+   * @return the deploy to be submitted, if the chosen card is affordable.
+   */
+  public Optional<DeployCommand> choose(final BotGameModel model) {
+    final var hand = this.side == Side.ENEMY ? model.getBotChoosableCards() : model.getPlayerChoosableCards();
+    final int elixir = this.side == Side.ENEMY ? model.getBotElixir() : model.getPlayerElixir();
+    final var card = hand.get(this.random.nextInt(hand.size()));
+    final var cell = this.cells.get(this.random.nextInt(this.cells.size()));
+    if (card.getCost() > elixir) {
+      return Optional.empty();
+    }
+    return Optional.of(new DeployCommand(this.side, card.getId(), cell));
+  }
+
+  /**
+   * Chooses a deploy right away: a choice takes constant time, so it is never cancelled.
+   */
+  @Override
+  public CompletableFuture<Optional<DeployCommand>> decide(final BotGameModel model, final BooleanSupplier cancelled) {
+    return CompletableFuture.completedFuture(this.choose(model));
+  }
+}
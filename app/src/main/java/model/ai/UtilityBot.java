@@ -0,0 +1,143 @@
+package model.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.BotGameModel;
+import model.Elixir;
+import model.GameModel;
+import model.Side;
+import model.command.DeployCommand;
+import model.entities.cards.Card;
+import model.map.GameMap;
+import model.map.MapUnit;
+
+/**
+ * Chooses the deploys of the bot by scoring every affordable card on every cell of its half, reading only
+ * the {@link InfluenceMap} of the match: a decision costs a few microseconds and never simulates the match.
+ * A card is worth more where enemy cards are close and on the lane they are pushing, and less where enemy entities,
+ * towers above all, can hit it. The bot waits while no placement is worth its elixir, unless the elixir is full.
+ */
+public final class UtilityBot implements BotStrategy {
+
+  private static final int FIRST_BOT_ROW = 18;
+  private static final int LAST_BOT_ROW = 28;
+  private static final double REFERENCE_DPS = 6000;
+  private static final double THREAT_WEIGHT = 4;
+  private static final double PRESSURE_WEIGHT = 1;
+  private static final double SUPPORT_WEIGHT = 0.1;
+  private static final double COST_WEIGHT = 0.5;
+  private static final double DEPLOY_THRESHOLD = 4;
+
+  private final InfluenceMap influence;
+  private final List<Vector2> centers;
+
+  /**
+   *
+   * @param map
+   *              the map of the match.
+   */
+  public UtilityBot(final GameMap map) {
+    this.influence = new InfluenceMap();
+    this.centers = UtilityBot.cells(map, Side.ENEMY);
+  }
+
+  /**
+   *
+   * @param map
+   *              the map of the match.
+   * @param side
+   *              the side deploying the cards.
+   * @return the centers of the cells of the half of the side where a card can be deployed.
+   */
+  static List<Vector2> cells(final GameMap map, final Side side) {
+    final List<Vector2> cells = new ArrayList<>();
+    final int first = side == Side.ENEMY ? FIRST_BOT_ROW : GameMap.ROWS + 1 - LAST_BOT_ROW;
+    final int last = side == Side.ENEMY ? LAST_BOT_ROW : GameMap.ROWS + 1 - FIRST_BOT_ROW;
+    for (int row = first; row <= last; row++) {
+      for (int column = 1; column <= GameMap.COLUMNS; column++) {
+        final var unit = map.getMapUnitFromCoordinates(new Vector2(column, row));
+        if (map.containsPosition(unit.getCenter()) && unit.getType() == MapUnit.Type.TERRAIN) {
+          cells.add(unit.getCenter());
+        }
+      }
+    }
+    return cells;
+  }
+
+  /**
+   * Updates the influence maps and chooses a deploy: it has to be called from the simulation thread.
+   *
+   * @param model
+   *              the match the bot is playing.
+   * @return the deploy to be submitted, if any is worth it.
+   */
+  public Optional<DeployCommand> choose(final BotGameModel model) {
+    return this.choose(model, () -> false);
+  }
+
+  /**
+   * Updates the influence maps and chooses a deploy, giving up once cancelled: it has to be called from the simulation thread.
+   *
+   * @param model
+   *              the match the bot is playing.
+   * @param cancelled
+   *              whether the decision has been cancelled, checked before scoring each card.
+   * @return the deploy to be submitted, if any is worth it and the decision has not been cancelled.
+   */
+  public Optional<DeployCommand> choose(final BotGameModel model, final BooleanSupplier cancelled) {
+    this.influence.update(model);
+    final int elixir = model.getBotElixir();
+    Card bestCard = null;
+    int bestCell = -1;
+    double bestScore = Double.NEGATIVE_INFINITY;
+    for (final Card card : model.getBotChoosableCards()) {
+      if (cancelled.getAsBoolean()) {
+        return Optional.empty();
+      }
+      if (card.getCost() <= elixir) {
+        for (int i = 0; i < this.centers.size(); i++) {
+          final double score = this.score(card, this.centers.get(i));
+          if (score > bestScore) {
+            bestCard = card;
+            bestCell = i;
+            bestScore = score;
+          }
+        }
+      }
+    }
+    if (bestCard == null || bestScore < DEPLOY_THRESHOLD && elixir < Elixir.MAX) {
+      return Optional.empty();
+    }
+    return Optional.of(new DeployCommand(Side.ENEMY, bestCard.getId(), this.centers.get(bestCell)));
+  }
+
+  private double score(final Card card, final Vector2 center) {
+    final int column = GameMap.getColumn(center.x);
+    final int row = GameMap.getRow(center.y);
+    final double dps = card.getDamage() * GameModel.HITS_PER_SECOND / REFERENCE_DPS;
+    final double engage = this.influence.getPresence(Side.PLAYER, column, row) * dps;
+    final double threat = THREAT_WEIGHT * this.influence.getDps(Side.PLAYER, column, row) / card.getCurrentHP();
+    final double pressure = PRESSURE_WEIGHT * this.influence.getLanePressure(Side.PLAYER, InfluenceMap.laneOf(column)) / GameMap.ROWS;
+    final double support = SUPPORT_WEIGHT * this.influence.getPresence(Side.ENEMY, column, row);
+    return engage + pressure + support - threat - COST_WEIGHT * card.getCost();
+  }
+
+  @Override
+  public CompletableFuture<Optional<DeployCommand>> decide(final BotGameModel model, final BooleanSupplier cancelled) {
+    return CompletableFuture.completedFuture(this.choose(model, cancelled));
+  }
+
+  /**
+   *
+   * @return the influence maps of the match, as updated by the last decision.
+   */
+  public InfluenceMap getInfluence() {
+    return this.influence;
+  }
+}
@@ -0,0 +1,46 @@
+package model.combat;
+
+/**
+ * What can happen during a fight, as kept by the {@link CombatLog}.
+ */
+public enum CombatEvent {
+
+  /**
+   * A card has been deployed: the amount is the elixir paid for it.
+   */
+  DEPLOY("elixir"),
+
+  /**
+   * An entity has chosen the enemy to attack: the amount is the distance between them.
+   */
+  TARGET_ACQUIRED("distance"),
+
+  /**
+   * An entity has been hit: the amount is the life taken.
+   */
+  HIT("damage"),
+
+  /**
+   * An entity has been removed from the arena, having no life left.
+   */
+  DEATH(""),
+
+  /**
+   * A tower has started to defend its side.
+   */
+  TOWER_ACTIVATED("");
+
+  private final String amount;
+
+  CombatEvent(final String amount) {
+    this.amount = amount;
+  }
+
+  /**
+   * 
+   * @return what the amount of the event measures, empty if the event has no amount.
+   */
+  public String getAmount() {
+    return this.amount;
+  }
+}
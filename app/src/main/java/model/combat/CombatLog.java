@@ -0,0 +1,200 @@
+package model.combat;
+
+import java.io.IOException;
+import java.util.function.IntFunction;
+
+/**
+ * The latest events of the fights of a match, each stamped with the tick it happened in, to see why a troop picked 
+ * its target or when damage has been dealt. Events are kept in preallocated primitive arrays used as a ring: 
+ * recording an event is a few array writes, overwriting the oldest one when the log is full, so it can be done 
+ * from the attack loop. Like the {@link CombatTelemetry}, the log is not part of the state of the match.
+ */
+public final class CombatLog {
+
+  /**
+   * The default number of events kept, some seconds of a crowded arena.
+   */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  private static final CombatEvent[] EVENTS = CombatEvent.values();
+
+  private final int[] ticks;
+  private final byte[] events;
+  private final int[] sources;
+  private final int[] targets;
+  private final float[] amounts;
+  private long next;
+  private int tick;
+
+  /**
+   * Constructor: keeps the latest {@link #DEFAULT_CAPACITY} events.
+   */
+  public CombatLog() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * 
+   * @param capacity
+   *              how many events are kept before the oldest ones are overwritten.
+   */
+  public CombatLog(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("The capacity must be positive");
+    }
+    this.ticks = new int[capacity];
+    this.events = new byte[capacity];
+    this.sources = new int[capacity];
+    this.targets = new int[capacity];
+    this.amounts = new float[capacity];
+  }
+
+  /**
+   * Sets the tick stamped on the events recorded from now on.
+   * 
+   * @param tick
+   *              the tick being simulated.
+   */
+  public void setTick(final int tick) {
+    this.tick = tick;
+  }
+
+  /**
+   * Records an event, overwriting the oldest one if the log is full.
+   * 
+   * @param event
+   *              what happened.
+   * @param source
+   *              the identifier of the entity the event is about (I.e. the one attacking, deployed or dead).
+   * @param target
+   *              the identifier of the other entity involved, negative if none.
+   * @param amount
+   *              the amount of the event, as described by {@link CombatEvent#getAmount()}.
+   */
+  public void record(final CombatEvent event, final int source, final int target, final double amount) {
+    final int slot = this.slotOf(this.next++);
+    this.ticks[slot] = this.tick;
+    this.events[slot] = (byte) event.ordinal();
+    this.sources[slot] = source;
+    this.targets[slot] = target;
+    this.amounts[slot] = (float) amount;
+  }
+
+  /**
+   * 
+   * @return how many events are kept.
+   */
+  public int size() {
+    return (int) Math.min(this.next, this.ticks.length);
+  }
+
+  /**
+   * 
+   * @return how many events have been recorded, overwritten ones included.
+   */
+  public long getRecorded() {
+    return this.next;
+  }
+
+  /**
+   * 
+   * @param index
+   *              the position of a kept event, 0 being the oldest one.
+   * @return the tick of the event.
+   */
+  public int getTick(final int index) {
+    return this.ticks[this.slotAt(index)];
+  }
+
+  /**
+   * 
+   * @param index
+   *              the position of a kept event, 0 being the oldest one.
+   * @return what happened.
+   */
+  public CombatEvent getEvent(final int index) {
+    return EVENTS[this.events[this.slotAt(index)]];
+  }
+
+  /**
+   * 
+   * @param index
+   *              the position of a kept event, 0 being the oldest one.
+   * @return the identifier of the entity the event is about.
+   */
+  public int getSource(final int index) {
+    return this.sources[this.slotAt(index)];
+  }
+
+  /**
+   * 
+   * @param index
+   *              the position of a kept event, 0 being the oldest one.
+   * @return the identifier of the other entity involved, negative if none.
+   */
+  public int getTarget(final int index) {
+    return this.targets[this.slotAt(index)];
+  }
+
+  /**
+   * 
+   * @param index
+   *              the position of a kept event, 0 being the oldest one.
+   * @return the amount of the event.
+   */
+  public float getAmount(final int index) {
+    return this.amounts[this.slotAt(index)];
+  }
+
+  /**
+   * Writes the kept events, from the oldest one, one per line.
+   * 
+   * @param out
+   *              where the events are written.
+   * @param names
+   *              the name of an entity, given its identifier.
+   * @throws IOException
+   *              if the events could not be written.
+   */
+  public void dump(final Appendable out, final IntFunction<String> names) throws IOException {
+    this.dump(out, names, this.size());
+  }
+
+  /**
+   * Writes the latest events, from the oldest one, one per line.
+   * 
+   * @param out
+   *              where the events are written.
+   * @param names
+   *              the name of an entity, given its identifier.
+   * @param last
+   *              how many events are written, at most.
+   * @throws IOException
+   *              if the events could not be written.
+   */
+  public void dump(final Appendable out, final IntFunction<String> names, final int last) throws IOException {
+    final int size = this.size();
+    for (int i = Math.max(0, size - last); i < size; i++) {
+      final var event = this.getEvent(i);
+      out.append(Integer.toString(this.getTick(i))).append(' ').append(event.name()).append(' ').append(names.apply(this.getSource(i)));
+      if (this.getTarget(i) >= 0) {
+        out.append(" -> ").append(names.apply(this.getTarget(i)));
+      }
+      if (!event.getAmount().isEmpty()) {
+        out.append(' ').append(event.getAmount()).append('=').append(Float.toString(this.getAmount(i)));
+      }
+      out.append('\n');
+    }
+  }
+
+  private int slotAt(final int index) {
+    if (index < 0 || index >= this.size()) {
+      throw new IndexOutOfBoundsException("No event " + index + " is kept");
+    }
+    return this.slotOf(this.next - this.size() + index);
+  }
+
+  private int slotOf(final long id) {
+    return (int) (id % this.ticks.length);
+  }
+}
@@ -0,0 +1,138 @@
+package model.combat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.entities.Attackable;
+import model.entities.towers.Tower;
+
+/**
+ * Counters of the fights of a match, kept for each entity in primitive arrays indexed by the identifier of the entity:
+ * the damage it dealt, to any entity and to towers only, the damage it took and the ticks it spent in the arena.
+ * Counting a hit is a few array writes, and arrays grow only when an entity with a new identifier enters the match,
+ * so the attack loop does not allocate. Counters are not part of the state of the match: they count what has been simulated.
+ */
+public final class CombatTelemetry {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private double[] damageDealt;
+  private double[] towerDamage;
+  private double[] damageTaken;
+  private int[] ticksAlive;
+  private boolean[] deployed;
+
+  /**
+   * Constructor: nothing has been counted yet.
+   */
+  public CombatTelemetry() {
+    this.damageDealt = new double[DEFAULT_CAPACITY];
+    this.towerDamage = new double[DEFAULT_CAPACITY];
+    this.damageTaken = new double[DEFAULT_CAPACITY];
+    this.ticksAlive = new int[DEFAULT_CAPACITY];
+    this.deployed = new boolean[DEFAULT_CAPACITY];
+  }
+
+  private void ensureCapacity(final int id) {
+    if (id >= this.ticksAlive.length) {
+      final int capacity = Math.max(id + 1, this.ticksAlive.length * 2);
+      this.damageDealt = Arrays.copyOf(this.damageDealt, capacity);
+      this.towerDamage = Arrays.copyOf(this.towerDamage, capacity);
+      this.damageTaken = Arrays.copyOf(this.damageTaken, capacity);
+      this.ticksAlive = Arrays.copyOf(this.ticksAlive, capacity);
+      this.deployed = Arrays.copyOf(this.deployed, capacity);
+    }
+  }
+
+  /**
+   * Counts a hit.
+   *
+   * @param source
+   *              the identifier of the entity dealing the hit, negative if unknown.
+   * @param target
+   *              the entity hit.
+   * @param amount
+   *              the life taken, without the damage beyond the life left.
+   */
+  void hit(final int source, final Attackable target, final double amount) {
+    final int id = target.getId();
+    this.ensureCapacity(Math.max(source, id));
+    this.damageTaken[id] += amount;
+    if (source >= 0) {
+      this.damageDealt[source] += amount;
+      if (target instanceof Tower) {
+        this.towerDamage[source] += amount;
+      }
+    }
+  }
+
+  /**
+   * Counts a tick spent in the arena by each entity of a list.
+   *
+   * @param entities
+   *              the entities in the arena.
+   */
+  public void tickAlive(final List<? extends Attackable> entities) {
+    for (int i = 0; i < entities.size(); i++) {
+      final int id = entities.get(i).getId();
+      this.ensureCapacity(id);
+      this.ticksAlive[id]++;
+    }
+  }
+
+  /**
+   * Marks a card as deployed, so that its elixir is counted.
+   *
+   * @param id
+   *              the identifier of the card.
+   */
+  public void deployed(final int id) {
+    this.ensureCapacity(id);
+    this.deployed[id] = true;
+  }
+
+  /**
+   * @param id
+   *              the identifier of an entity.
+   * @return whether the entity is a card which has been deployed.
+   */
+  public boolean isDeployed(final int id) {
+    return id < this.deployed.length && this.deployed[id];
+  }
+
+  /**
+   * @param id
+   *              the identifier of an entity.
+   * @return the damage dealt by the entity.
+   */
+  public double getDamageDealt(final int id) {
+    return id < this.damageDealt.length ? this.damageDealt[id] : 0;
+  }
+
+  /**
+   * @param id
+   *              the identifier of an entity.
+   * @return the damage dealt by the entity to towers.
+   */
+  public double getTowerDamage(final int id) {
+    return id < this.towerDamage.length ? this.towerDamage[id] : 0;
+  }
+
+  /**
+   * @param id
+   *              the identifier of an entity.
+   * @return the damage taken by the entity.
+   */
+  public double getDamageTaken(final int id) {
+    return id < this.damageTaken.length ? this.damageTaken[id] : 0;
+  }
+
+  /**
+   * @param id
+   *              the identifier of an entity.
+   * @return how many ticks the entity spent in the arena.
+   */
+  public int getTicksAlive(final int id) {
+    return id < this.ticksAlive.length ? this.ticksAlive[id] : 0;
+  }
+}
@@ -0,0 +1,135 @@
+package model.combat;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.Attackable;
+import model.map.SpatialHash;
+
+/**
+ * Collects every hit dealt during a tick so that they can be applied together.
+ * Hits are applied in the order they were queued, which keeps simultaneous hits deterministic
+ * (two entities hitting each other in the same tick both land their hit).
+ * Each hit remembers who dealt it, so that applying the batch also feeds the {@link CombatTelemetry} and the {@link CombatLog}
+ * of the match.
+ */
+public class DamageBatch {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private final CombatTelemetry telemetry;
+  private final CombatLog log;
+  private int[] sources;
+  private Attackable[] targets;
+  private double[] amounts;
+  private int size;
+
+  /**
+   * Constructor: hits are not counted.
+   */
+  public DamageBatch() {
+    this(null, null);
+  }
+
+  /**
+   * 
+   * @param telemetry
+   *              where the applied hits are counted.
+   */
+  public DamageBatch(final CombatTelemetry telemetry) {
+    this(telemetry, null);
+  }
+
+  /**
+   * 
+   * @param telemetry
+   *              where the applied hits are counted.
+   * @param log
+   *              where the applied hits are recorded.
+   */
+  public DamageBatch(final CombatTelemetry telemetry, final CombatLog log) {
+    this.telemetry = telemetry;
+    this.log = log;
+    this.sources = new int[DEFAULT_CAPACITY];
+    this.targets = new Attackable[DEFAULT_CAPACITY];
+    this.amounts = new double[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Queues a hit.
+   * 
+   * @param source
+   *              the identifier of the entity dealing the hit.
+   * @param target
+   *              the entity to be hit.
+   * @param amount
+   *              the amount of life to be taken.
+   */
+  public void add(final int source, final Attackable target, final double amount) {
+    if (this.size == this.targets.length) {
+      this.sources = Arrays.copyOf(this.sources, this.size * 2);
+      this.targets = Arrays.copyOf(this.targets, this.size * 2);
+      this.amounts = Arrays.copyOf(this.amounts, this.size * 2);
+    }
+    this.sources[this.size] = source;
+    this.targets[this.size] = target;
+    this.amounts[this.size] = amount;
+    this.size++;
+  }
+
+  /**
+   * Queues a hit for every entity inside a circle.
+   * 
+   * @param source
+   *              the identifier of the entity dealing the hits.
+   * @param center
+   *              the center of the damaged area.
+   * @param radius
+   *              the radius of the damaged area.
+   * @param index
+   *              the entities that can be hit.
+   * @param amount
+   *              the amount of life to be taken from each entity.
+   * @param excluded
+   *              an entity not to be hit (I.e. the target, whose hit has already been queued).
+   */
+  public void addArea(final int source, final Vector2 center, final double radius, final SpatialHash index, final double amount, 
+      final Attackable excluded) {
+    final int hits = index.query(center, radius);
+    for (int i = 0; i < hits; i++) {
+      final var hit = index.getResult(i);
+      if (hit != excluded) {
+        this.add(source, hit, amount);
+      }
+    }
+  }
+
+  /**
+   * Applies every queued hit, counting the life actually taken, then empties the batch.
+   */
+  public void apply() {
+    for (int i = 0; i < this.size; i++) {
+      final var target = this.targets[i];
+      final double life = target.getCurrentHP();
+      target.reduceHPBy(this.amounts[i]);
+      final double taken = Math.min(this.amounts[i], Math.max(0, life));
+      if (this.telemetry != null) {
+        this.telemetry.hit(this.sources[i], target, taken);
+      }
+      if (this.log != null) {
+        this.log.record(CombatEvent.HIT, this.sources[i], target.getId(), taken);
+      }
+    }
+    Arrays.fill(this.targets, 0, this.size, null);
+    this.size = 0;
+  }
+
+  /**
+   * 
+   * @return the number of queued hits.
+   */
+  public int size() {
+    return this.size;
+  }
+}
@@ -0,0 +1,157 @@
+package model.combat;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+import model.entities.Attackable;
+import model.map.SpatialHash;
+
+/**
+ * A projectile flying toward its target. Instances are pooled by {@link ProjectileSystem}, hence every
+ * field is overwritten when the projectile is fired and cleared when it is freed.
+ */
+public class Projectile implements Poolable {
+
+  private final Vector2 position;
+  private final Vector2 previousPosition;
+  private int source;
+  private Attackable target;
+  private double damage;
+  private float speed;
+  private double splashRadius;
+  private SpatialHash splashIndex;
+
+  /**
+   * Constructor.
+   */
+  public Projectile() {
+    this.position = new Vector2();
+    this.previousPosition = new Vector2();
+  }
+
+  /**
+   * Initializes the projectile.
+   * 
+   * @param source
+   *              the identifier of the entity firing the projectile.
+   * @param origin
+   *              where the projectile is fired from.
+   * @param target
+   *              the entity hit on arrival.
+   * @param damage
+   *              the amount of life taken on arrival.
+   * @param speed
+   *              the speed of the projectile, in pixels per second.
+   * @param splashRadius
+   *              the radius of the area damaged around the target on arrival, 0 if only the target is hit.
+   * @param splashIndex
+   *              the entities that can be hit by the splash.
+   */
+  void fire(final int source, final Vector2 origin, final Attackable target, final double damage, final float speed, 
+      final double splashRadius, final SpatialHash splashIndex) {
+    this.source = source;
+    this.position.set(origin);
+    this.previousPosition.set(origin);
+    this.target = target;
+    this.damage = damage;
+    this.speed = speed;
+    this.splashRadius = splashRadius;
+    this.splashIndex = splashIndex;
+  }
+
+  /**
+   * Keeps the current position as the previous one, before the projectile is moved by a tick.
+   */
+  void keepPreviousPosition() {
+    this.previousPosition.set(this.position);
+  }
+
+  /**
+   * Moves the projectile toward its target, queuing its hits once arrived.
+   * 
+   * @param delta
+   *              the elapsed time, in seconds.
+   * @param batch
+   *              where hits are queued.
+   * @return whether the projectile is spent and can be freed.
+   */
+  boolean advance(final float delta, final DamageBatch batch) {
+    if (this.target.isDead()) {
+      return true;
+    }
+    final var destination = this.target.getPosition();
+    final float step = this.speed * delta;
+    final float distance = this.position.dst(destination);
+    if (distance <= step) {
+      batch.add(this.source, this.target, this.damage);
+      if (this.splashRadius > 0) {
+        batch.addArea(this.source, destination, this.splashRadius, this.splashIndex, this.damage, this.target);
+      }
+      return true;
+    }
+    this.position.add((destination.x - this.position.x) / distance * step, (destination.y - this.position.y) / distance * step);
+    return false;
+  }
+
+  /**
+   * 
+   * @return the current position of the projectile.
+   */
+  public Vector2 getPosition() {
+    return this.position;
+  }
+
+  /**
+   * 
+   * @return the position of the projectile before the last tick, where it is drawn from.
+   */
+  public Vector2 getPreviousPosition() {
+    return this.previousPosition;
+  }
+
+  /**
+   * Writes the state of the projectile.
+   * 
+   * @param buffer
+   *              where the state is written.
+   */
+  void saveState(final ByteBuffer buffer) {
+    buffer.putFloat(this.position.x).putFloat(this.position.y);
+    buffer.putInt(this.source);
+    buffer.putInt(this.target.getId());
+    buffer.putDouble(this.damage);
+    buffer.putFloat(this.speed);
+    buffer.putDouble(this.splashRadius);
+  }
+
+  /**
+   * Reads the state written by {@link #saveState(ByteBuffer)}.
+   * 
+   * @param buffer
+   *              where the state is read from.
+   * @param entities
+   *              the entities of the match, by identifier.
+   * @param indexOf
+   *              the index containing an entity and its allies, hit by splashes.
+   */
+  void loadState(final ByteBuffer buffer, final IntFunction<Attackable> entities, final Function<Attackable, SpatialHash> indexOf) {
+    this.position.set(buffer.getFloat(), buffer.getFloat());
+    this.previousPosition.set(this.position);
+    this.source = buffer.getInt();
+    this.target = entities.apply(buffer.getInt());
+    this.damage = buffer.getDouble();
+    this.speed = buffer.getFloat();
+    this.splashRadius = buffer.getDouble();
+    this.splashIndex = this.splashRadius > 0 ? indexOf.apply(this.target) : null;
+  }
+
+  @Override
+  public void reset() {
+    this.target = null;
+    this.splashIndex = null;
+  }
+}
@@ -0,0 +1,120 @@
+package model.combat;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import model.GameModel;
+import model.entities.Attackable;
+import model.entities.RangedAttacker;
+import model.entities.SplashAttacker;
+import model.map.SpatialHash;
+
+/**
+ * Owns every projectile flying in the arena. Projectiles are taken from a pool and given back once spent,
+ * so ranged fights do not allocate once the pool has warmed up.
+ */
+public class ProjectileSystem {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final Pool<Projectile> pool;
+  private final Array<Projectile> active;
+
+  /**
+   * Constructor.
+   */
+  public ProjectileSystem() {
+    this.pool = new Pool<>(INITIAL_CAPACITY) {
+      @Override
+      protected Projectile newObject() {
+        return new Projectile();
+      }
+    };
+    this.active = new Array<>(false, INITIAL_CAPACITY);
+  }
+
+  /**
+   * Fires a projectile from a ranged entity toward its target. The projectile carries the damage of every tick
+   * spent reloading, so the damage per second of the entity does not change.
+   * 
+   * @param attacker
+   *              who fires.
+   * @param target
+   *              the entity to be hit.
+   * @param enemyIndex
+   *              the enemies of the attacker, hit by the splash of the projectile, if any.
+   */
+  public void fire(final RangedAttacker attacker, final Attackable target, final SpatialHash enemyIndex) {
+    final double splashRadius = attacker instanceof SplashAttacker && ((SplashAttacker) attacker).isSplashOnTarget()
+        ? ((SplashAttacker) attacker).getSplashRadius() : 0;
+    final var projectile = this.pool.obtain();
+    projectile.fire(attacker.getId(), attacker.getPosition(), target, attacker.getDamage() * GameModel.HITS_PER_TICK * attacker.getReload().getTicks(), 
+        attacker.getProjectileSpeed(), splashRadius, enemyIndex);
+    this.active.add(projectile);
+  }
+
+  /**
+   * Moves every projectile, keeping where it was for drawing, and queues the hits of those which reached their target.
+   * 
+   * @param delta
+   *              the elapsed time, in seconds.
+   * @param batch
+   *              where hits are queued.
+   */
+  public void update(final float delta, final DamageBatch batch) {
+    for (int i = this.active.size - 1; i >= 0; i--) {
+      final var projectile = this.active.get(i);
+      projectile.keepPreviousPosition();
+      if (projectile.advance(delta, batch)) {
+        this.active.removeIndex(i);
+        this.pool.free(projectile);
+      }
+    }
+  }
+
+  /**
+   * Writes every projectile currently flying.
+   * 
+   * @param buffer
+   *              where the state is written.
+   */
+  public void saveState(final ByteBuffer buffer) {
+    buffer.putInt(this.active.size);
+    for (int i = 0; i < this.active.size; i++) {
+      this.active.get(i).saveState(buffer);
+    }
+  }
+
+  /**
+   * Replaces the projectiles currently flying with the ones written by {@link #saveState(ByteBuffer)}.
+   * 
+   * @param buffer
+   *              where the state is read from.
+   * @param entities
+   *              the entities of the match, by identifier.
+   * @param indexOf
+   *              the index containing an entity and its allies, hit by splashes.
+   */
+  public void loadState(final ByteBuffer buffer, final IntFunction<Attackable> entities, final Function<Attackable, SpatialHash> indexOf) {
+    this.pool.freeAll(this.active);
+    this.active.clear();
+    final int size = buffer.getInt();
+    for (int i = 0; i < size; i++) {
+      final var projectile = this.pool.obtain();
+      projectile.loadState(buffer, entities, indexOf);
+      this.active.add(projectile);
+    }
+  }
+
+  /**
+   * 
+   * @return the projectiles currently flying. The array is owned by this system and must not be modified.
+   */
+  public Array<Projectile> getActive() {
+    return this.active;
+  }
+}
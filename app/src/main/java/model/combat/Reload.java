@@ -0,0 +1,63 @@
+package model.combat;
+
+import java.nio.ByteBuffer;
+
+import model.GameModel;
+
+/**
+ * Counts the ticks between two shots of a ranged entity.
+ */
+public class Reload {
+
+  private final int ticks;
+  private int elapsed;
+
+  /**
+   * 
+   * @param seconds
+   *              the time between two shots.
+   */
+  public Reload(final float seconds) {
+    this.ticks = Math.max(1, Math.round(seconds * GameModel.TICKS_PER_SECOND));
+    this.elapsed = 0;
+  }
+
+  /**
+   * Advances the reload by one tick.
+   * 
+   * @return whether a shot can be fired during this tick.
+   */
+  public boolean tick() {
+    final boolean ready = this.elapsed == 0;
+    this.elapsed = (this.elapsed + 1) % this.ticks;
+    return ready;
+  }
+
+  /**
+   * 
+   * @return the number of ticks between two shots.
+   */
+  public int getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   * Writes how far the reload is.
+   * 
+   * @param buffer
+   *              where the state is written.
+   */
+  public void saveState(final ByteBuffer buffer) {
+    buffer.putInt(this.elapsed);
+  }
+
+  /**
+   * Reads the state written by {@link #saveState(ByteBuffer)}.
+   * 
+   * @param buffer
+   *              where the state is read from.
+   */
+  public void loadState(final ByteBuffer buffer) {
+    this.elapsed = buffer.getInt();
+  }
+}
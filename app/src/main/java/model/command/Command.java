@@ -0,0 +1,19 @@
+package model.command;
+
+import model.GameModel;
+
+/**
+ * An action coming from outside the simulation (the player, the bot or, in the future, the network), 
+ * applied to the match at the beginning of the next tick.
+ */
+@FunctionalInterface
+public interface Command {
+
+  /**
+   * Applies the command to the match.
+   * 
+   * @param model
+   *              the match.
+   */
+  void execute(GameModel model);
+}
@@ -0,0 +1,74 @@
+package model.command;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import model.GameModel;
+
+/**
+ * A lock-free queue of commands with many producers (I.e. the render thread and the bot timer) and a single consumer, 
+ * the simulation. Producers only swap the head of a linked list, while the consumer follows the links without 
+ * any atomic operation.
+ */
+public final class CommandQueue {
+
+  private final AtomicReference<Node> head;
+  private Node tail;
+
+  /**
+   * Constructor.
+   */
+  public CommandQueue() {
+    final var stub = new Node(null);
+    this.head = new AtomicReference<>(stub);
+    this.tail = stub;
+  }
+
+  /**
+   * Adds a command to the queue. It can be called from any thread.
+   * 
+   * @param command
+   *              the command.
+   */
+  public void submit(final Command command) {
+    final var node = new Node(command);
+    this.head.getAndSet(node).next = node;
+  }
+
+  /**
+   * Executes every command submitted so far, in order of submission. Only the simulation thread can call it.
+   * 
+   * @param model
+   *              the match the commands are applied to.
+   * @return how many commands have been executed.
+   */
+  public int drain(final GameModel model) {
+    int count = 0;
+    Node next = this.tail.next;
+    while (next != null) {
+      final var command = next.command;
+      next.command = null;
+      this.tail = next;
+      command.execute(model);
+      count++;
+      next = this.tail.next;
+    }
+    return count;
+  }
+
+  /**
+   * 
+   * @return whether there are no commands left to be executed. Only the simulation thread can call it.
+   */
+  public boolean isEmpty() {
+    return this.tail.next == null;
+  }
+
+  private static final class Node {
+    private Command command;
+    private volatile Node next;
+
+    Node(final Command command) {
+      this.command = command;
+    }
+  }
+}
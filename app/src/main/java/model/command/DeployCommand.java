@@ -0,0 +1,67 @@
+package model.command;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.GameModel;
+import model.Side;
+
+/**
+ * Deploys a choosable card of a side where it has been dropped.
+ */
+public final class DeployCommand implements Command {
+
+  private final Side side;
+  private final int cardId;
+  private final float x;
+  private final float y;
+
+  /**
+   * 
+   * @param side
+   *              who is deploying the card.
+   * @param cardId
+   *              the identifier of the card inside the match.
+   * @param position
+   *              where the card has been dropped.
+   */
+  public DeployCommand(final Side side, final int cardId, final Vector2 position) {
+    this.side = side;
+    this.cardId = cardId;
+    this.x = position.x;
+    this.y = position.y;
+  }
+
+  @Override
+  public void execute(final GameModel model) {
+    model.deployCard(this.side, this.cardId, new Vector2(this.x, this.y));
+  }
+
+  /**
+   * 
+   * @return who is deploying the card.
+   */
+  public Side getSide() {
+    return this.side;
+  }
+
+  /**
+   * 
+   * @return the identifier of the card inside the match.
+   */
+  public int getCardId() {
+    return this.cardId;
+  }
+
+  /**
+   * 
+   * @return where the card has been dropped.
+   */
+  public Vector2 getPosition() {
+    return new Vector2(this.x, this.y);
+  }
+
+  @Override
+  public String toString() {
+    return "DeployCommand [side=" + side + ", cardId=" + cardId + ", x=" + x + ", y=" + y + "]";
+  }
+}
@@ -1,5 +1,6 @@
 package model.deck;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -7,41 +8,69 @@ import java.util.stream.Collectors;
 
 import com.badlogic.gdx.math.Vector2;
 
+import controller.SaveController;
 import model.GlobalData;
 import model.entities.cards.Card;
-import model.entities.cards.buildings.InfernoTower;
-import model.entities.cards.troops.Archer;
-import model.entities.cards.troops.Barbarian;
-import model.entities.cards.troops.Giant;
-import model.entities.cards.troops.MiniPekka;
-import model.entities.cards.troops.Valkyrie;
-import model.entities.cards.troops.Wizard;
+import model.entities.cards.CardType;
 
 /**
  * 
- * Class Deck.
+ * Class Deck: the deck saved with the profile of the user is read when the deck is first needed.
  *
  */
 public final class PlayersDeck extends BasicDeck {
 
-  private static final PlayersDeck DECK = new PlayersDeck();
+  private static final List<CardType> DEFAULT_DECK = List.of(CardType.BARBARIAN, CardType.GIANT, CardType.INFERNO_TOWER, CardType.WIZARD);
   private final Map<String, Card> deckMap;
   private final Map<String, Card> cardsMap;
 
   /**
-   * initialize basic cards and decks.
+   * Holder of the only deck, created on the first call of {@link PlayersDeck#getInstance()}.
+   */
+  private static final class Holder {
+    private static final PlayersDeck DECK = new PlayersDeck();
+  }
+
+  /**
+   * initialize the saved deck, or the basic one, and the cards out of the deck.
    */
   private PlayersDeck() {
     this.deckMap = new HashMap<>();
-    this.deckMap.put("Barbarian", Barbarian.create(GlobalData.USER, newPositionFree()));
-    this.deckMap.put("Giant", Giant.create(GlobalData.USER, newPositionFree()));
-    this.deckMap.put("InfernoTower", InfernoTower.create(GlobalData.USER, newPositionFree()));
-    this.deckMap.put("Wizard", Wizard.create(GlobalData.USER, newPositionFree())); 
     this.cardsMap = new HashMap<>();
-    this.cardsMap.put("Archer", Archer.create(GlobalData.USER, new Vector2(0, 0)));
-    this.cardsMap.put("MiniPekka", MiniPekka.create(GlobalData.USER, new Vector2(0, 0)));
-    this.cardsMap.put("Valkrie", Valkyrie.create(GlobalData.USER, new Vector2(0, 0)));
+    final var saved = SaveController.loadDeck().orElseGet(this::defaultDeck);
+    for (final var type : CardType.values()) {
+      final var position = saved.get(type);
+      if (position != null && super.getPositionFree().remove(position)) {
+        final var card = type.create(GlobalData.getUser(), position);
+        this.deckMap.put(PlayersDeck.nameOf(card), card);
+      } else {
+        final var card = type.create(GlobalData.getUser(), new Vector2(0, 0));
+        this.cardsMap.put(PlayersDeck.nameOf(card), card);
+      }
+    }
+  }
+
+  private Map<CardType, Vector2> defaultDeck() {
+    final Map<CardType, Vector2> deck = new EnumMap<>(CardType.class);
+    final var positions = List.copyOf(super.getPositionFree());
+    for (int i = 0; i < DEFAULT_DECK.size(); i++) {
+      deck.put(DEFAULT_DECK.get(i), positions.get(i));
+    }
+    return deck;
+  }
+
+  private static String nameOf(final Card card) {
+    return card.getClass().getSimpleName();
+  }
 
+  /**
+   * 
+   * @return the position of each card type of the deck, as saved with the profile.
+   */
+  public Map<CardType, Vector2> composition() {
+    final Map<CardType, Vector2> composition = new EnumMap<>(CardType.class);
+    this.deckMap.values().forEach(card -> composition.put(CardType.of(card), new Vector2(card.getPosition())));
+    return composition;
   }
 
   /**
@@ -132,6 +161,6 @@ public final class PlayersDeck extends BasicDeck {
    * @return the only DECK
    */
   public static PlayersDeck getInstance() {
-    return DECK;
+    return Holder.DECK;
   }
 }
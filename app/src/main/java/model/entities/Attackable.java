@@ -1,5 +1,6 @@
 package model.entities;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 import com.badlogic.gdx.math.Vector2;
@@ -53,6 +54,11 @@ public interface Attackable {
    */
   void reduceHPBy(double damage);
 
+  /**
+   * @return the amount of life taken by each hit of the entity.
+   */
+  double getDamage();
+
   /** 
    * Hits one time the current target, if any.
    */
@@ -73,4 +79,30 @@ public interface Attackable {
    */
   User getOwner();
 
+  /**
+   * @return the identifier given to the entity by its match, -1 if the entity is not part of a match.
+   */
+  int getId();
+
+  /**
+   * Sets the identifier of the entity inside its match.
+   * @param id
+   *              the new identifier.
+   */
+  void setId(int id);
+
+  /**
+   * Writes the state of the entity which changes during a match, its target excluded.
+   * @param buffer
+   *              where the state is written.
+   */
+  void saveState(ByteBuffer buffer);
+
+  /**
+   * Reads the state written by {@link #saveState(ByteBuffer)}.
+   * @param buffer
+   *              where the state is read from.
+   */
+  void loadState(ByteBuffer buffer);
+
 }
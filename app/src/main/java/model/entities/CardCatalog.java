@@ -0,0 +1,98 @@
+package model.entities;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import model.entities.users.UserLevel;
+
+/**
+ * The stats of every card and tower, read once from {@value #FILE}: balance changes need no recompiling.
+ * Each entry holds the cost, range, speed and projectile of a kind of entity, its HP and damage for each {@link UserLevel}
+ * and the frames of its animations.
+ */
+public final class CardCatalog {
+
+  /**
+   * The resource the catalog is read from.
+   */
+  public static final String FILE = "/catalog.json";
+
+  private static final Map<String, EntityStats> ENTRIES = CardCatalog.load();
+
+  private CardCatalog() {
+  }
+
+  /**
+   * Fields of an entry of the file.
+   */
+  private static final class Entry {
+    private int cost;
+    private double range;
+    private Speeds speed;
+    private float projectileSpeed;
+    private float reloadTime;
+    private double splashRadius;
+    private List<Level> levels;
+    private Map<String, List<String>> animations;
+  }
+
+  /**
+   * Stats of an entry for a level.
+   */
+  private static final class Level {
+    private double hp;
+    private double damage;
+  }
+
+  private static Map<String, EntityStats> load() {
+    final var stream = CardCatalog.class.getResourceAsStream(FILE);
+    if (stream == null) {
+      throw new IllegalStateException(FILE + " is missing");
+    }
+    final Map<String, Entry> entries;
+    try (Reader in = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+      entries = new Gson().fromJson(in, new TypeToken<Map<String, Entry>>() { }.getType());
+    } catch (IOException e) {
+      throw new IllegalStateException(FILE + " cannot be read", e);
+    }
+    final Map<String, EntityStats> catalog = new HashMap<>();
+    entries.forEach((name, entry) -> catalog.put(name, CardCatalog.toStats(name, entry)));
+    return Map.copyOf(catalog);
+  }
+
+  private static EntityStats toStats(final String name, final Entry entry) {
+    final int levels = UserLevel.values().length;
+    if (entry.speed == null || entry.levels == null || entry.levels.size() != levels || entry.animations == null) {
+      throw new IllegalStateException(name + " needs a speed, " + levels + " levels and its animations in " + FILE);
+    }
+    final double[] maxHP = entry.levels.stream().mapToDouble(l -> l.hp).toArray();
+    final double[] damage = entry.levels.stream().mapToDouble(l -> l.damage).toArray();
+    final Map<String, List<String>> animations = entry.animations.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> List.copyOf(e.getValue())));
+    return new EntityStats(entry.cost, entry.range, entry.speed, entry.projectileSpeed, entry.reloadTime, entry.splashRadius,
+        maxHP, damage, animations);
+  }
+
+  /**
+   *
+   * @param name
+   *              the name of a kind of entity, as the name of its {@link model.entities.cards.CardType} or KING_TOWER and QUEEN_TOWER.
+   * @return the stats of the entity.
+   */
+  public static EntityStats get(final String name) {
+    final var stats = ENTRIES.get(name);
+    if (stats == null) {
+      throw new IllegalArgumentException(name + " is not in the catalog");
+    }
+    return stats;
+  }
+}
@@ -0,0 +1,112 @@
+package model.entities;
+
+import java.util.List;
+import java.util.Map;
+
+import model.entities.users.UserLevel;
+
+/**
+ * The immutable stats of a kind of entity, as read from the {@link CardCatalog}: they are shared by every entity of that kind,
+ * so reading them never allocates.
+ */
+public final class EntityStats {
+
+  private final int cost;
+  private final double range;
+  private final Speeds speed;
+  private final float projectileSpeed;
+  private final float reloadTime;
+  private final double splashRadius;
+  private final double[] maxHP;
+  private final double[] damage;
+  private final Map<String, List<String>> animations;
+
+  EntityStats(final int cost, final double range, final Speeds speed, final float projectileSpeed, final float reloadTime,
+      final double splashRadius, final double[] maxHP, final double[] damage, final Map<String, List<String>> animations) {
+    this.cost = cost;
+    this.range = range;
+    this.speed = speed;
+    this.projectileSpeed = projectileSpeed;
+    this.reloadTime = reloadTime;
+    this.splashRadius = splashRadius;
+    this.maxHP = maxHP.clone();
+    this.damage = damage.clone();
+    this.animations = animations;
+  }
+
+  /**
+   *
+   * @return the elixir cost of the card, 0 for a tower.
+   */
+  public int getCost() {
+    return this.cost;
+  }
+
+  /**
+   *
+   * @return the distance from which the entity hits its targets.
+   */
+  public double getRange() {
+    return this.range;
+  }
+
+  /**
+   *
+   * @return the speed of the entity.
+   */
+  public Speeds getSpeed() {
+    return this.speed;
+  }
+
+  /**
+   *
+   * @return the speed of the projectiles of a ranged entity.
+   */
+  public float getProjectileSpeed() {
+    return this.projectileSpeed;
+  }
+
+  /**
+   *
+   * @return the seconds between two projectiles of a ranged entity.
+   */
+  public float getReloadTime() {
+    return this.reloadTime;
+  }
+
+  /**
+   *
+   * @return the radius hit by a splash attacker.
+   */
+  public double getSplashRadius() {
+    return this.splashRadius;
+  }
+
+  /**
+   *
+   * @param level
+   *              the level of the owner.
+   * @return the maximum HP of the entity.
+   */
+  public double getMaxHP(final UserLevel level) {
+    return this.maxHP[level.ordinal()];
+  }
+
+  /**
+   *
+   * @param level
+   *              the level of the owner.
+   * @return the damage of a hit of the entity.
+   */
+  public double getDamage(final UserLevel level) {
+    return this.damage[level.ordinal()];
+  }
+
+  /**
+   *
+   * @return the files of the frames of each animation of the entity, by animation name.
+   */
+  public Map<String, List<String>> getAnimations() {
+    return this.animations;
+  }
+}
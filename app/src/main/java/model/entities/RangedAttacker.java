@@ -0,0 +1,21 @@
+package model.entities;
+
+import model.combat.Reload;
+
+/**
+ * Defines entities that hit their target by firing projectiles instead of hitting it instantly.
+ */
+public interface RangedAttacker extends Attackable {
+
+  /**
+   * 
+   * @return the speed of the fired projectiles, in pixels per second.
+   */
+  float getProjectileSpeed();
+
+  /**
+   * 
+   * @return how often the entity can fire a projectile.
+   */
+  Reload getReload();
+}
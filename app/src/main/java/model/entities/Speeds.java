@@ -7,13 +7,27 @@ public enum Speeds {
   /**
    * Slow speed troops.
    */
-  SLOW,
+  SLOW(8),
   /**
    * Medium speed troops.
    */
-  MEDIUM,
+  MEDIUM(10),
   /**
    * Fast speed troops.
    */
-  FAST 
+  FAST(12);
+
+  private final float pixelsPerSecond;
+
+  Speeds(final float pixelsPerSecond) {
+    this.pixelsPerSecond = pixelsPerSecond;
+  }
+
+  /**
+   * 
+   * @return how many pixels an entity moves each second.
+   */
+  public float getPixelsPerSecond() {
+    return this.pixelsPerSecond;
+  }
 }
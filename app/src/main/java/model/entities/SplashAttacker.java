@@ -0,0 +1,19 @@
+package model.entities;
+
+/**
+ * Defines entities whose hits damage every enemy inside an area, not only their current target.
+ */
+public interface SplashAttacker extends Attackable {
+
+  /**
+   * 
+   * @return the radius of the area damaged by each hit.
+   */
+  double getSplashRadius();
+
+  /**
+   * 
+   * @return whether the area is centered on the current target (I.e. Wizard) or on the attacker itself (I.e. Valkyrie).
+   */
+  boolean isSplashOnTarget();
+}
@@ -1,5 +1,6 @@
 package model.entities.cards;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,12 +19,15 @@ public abstract class Card implements Attackable {
 
   private final int cost;
   private final User owner;
-  private Vector2 position;
+  private final Vector2 position;
+  private final Vector2 previousPosition;
   private double currentHP;
   private final double damage;
   private final Speeds speed;  //movement and hit speed
   private final double range;
   private Optional<Attackable> currentTarget;
+  private final Vector2 separation;
+  private int id;
 
 
   /**
@@ -47,12 +51,15 @@ public abstract class Card implements Attackable {
   protected Card(final int cost, final Vector2 position, final User owner, final double maxHP, final double damage, final Speeds speed, final double range) {
     this.cost = cost;
     this.owner = owner;
-    this.position = position;
+    this.position = new Vector2(position);
+    this.previousPosition = new Vector2(position);
     this.currentHP = maxHP; 
     this.damage = damage;
     this.speed = speed;
     this.range = range;
     this.currentTarget = Optional.empty();
+    this.separation = new Vector2();
+    this.id = -1;
   }
 
   /**
@@ -70,13 +77,63 @@ public abstract class Card implements Attackable {
   }
 
   /**
-   * Change the card position.
+   * Change the card position, without any movement in between (I.e. when the card is deployed).
    * 
    * @param newPos
    *              the updated position.
    */
   public void setPosition(final Vector2 newPos) {
-    this.position = newPos;
+    this.position.set(newPos);
+    this.previousPosition.set(newPos);
+  }
+
+  /**
+   * 
+   * @return the position of the card at the end of the previous tick, used to interpolate its movement.
+   */
+  public Vector2 getPreviousPosition() {
+    return this.previousPosition;
+  }
+
+  /**
+   * Moves the card by the given amount, keeping track of where it was at the end of the previous tick.
+   * 
+   * @param x
+   *              the movement along the x axis.
+   * @param y
+   *              the movement along the y axis.
+   */
+  protected void moveBy(final float x, final float y) {
+    this.previousPosition.set(this.position);
+    this.position.add(x, y);
+  }
+
+  /**
+   * Moves the card further within the current tick, keeping where it was at the end of the previous one
+   * (I.e. when it is pushed away from its neighbours after walking).
+   * 
+   * @param x
+   *              the movement along the x axis.
+   * @param y
+   *              the movement along the y axis.
+   */
+  protected void shift(final float x, final float y) {
+    this.position.add(x, y);
+  }
+
+  /**
+   * Marks the card as still for the current tick.
+   */
+  public void stay() {
+    this.previousPosition.set(this.position);
+  }
+
+  /**
+   * 
+   * @return how far the card has to move away from the allied troops crowding its position, updated once per tick.
+   */
+  public Vector2 getSeparation() {
+    return this.separation;
   }
 
   /**
@@ -186,4 +243,28 @@ public abstract class Card implements Attackable {
   public boolean isDead() {
     return this.currentHP <= 0;
   }
+
+  @Override
+  public int getId() {
+    return this.id;
+  }
+
+  @Override
+  public void setId(final int id) {
+    this.id = id;
+  }
+
+  @Override
+  public void saveState(final ByteBuffer buffer) {
+    buffer.putFloat(this.position.x).putFloat(this.position.y);
+    buffer.putFloat(this.previousPosition.x).putFloat(this.previousPosition.y);
+    buffer.putDouble(this.currentHP);
+  }
+
+  @Override
+  public void loadState(final ByteBuffer buffer) {
+    this.position.set(buffer.getFloat(), buffer.getFloat());
+    this.previousPosition.set(buffer.getFloat(), buffer.getFloat());
+    this.currentHP = buffer.getDouble();
+  }
 }
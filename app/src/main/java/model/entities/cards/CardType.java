@@ -0,0 +1,91 @@
+package model.entities.cards;
+
+import java.util.function.BiFunction;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.cards.buildings.InfernoTower;
+import model.entities.cards.troops.Archer;
+import model.entities.cards.troops.Barbarian;
+import model.entities.cards.troops.Giant;
+import model.entities.cards.troops.MiniPekka;
+import model.entities.cards.troops.Valkyrie;
+import model.entities.cards.troops.Wizard;
+import model.entities.users.User;
+
+/**
+ * Every type of card which can be played, with the factory creating it.
+ */
+public enum CardType {
+
+  /**
+   * Archer troop.
+   */
+  ARCHER(Archer.class, Archer::create),
+
+  /**
+   * Barbarian troop.
+   */
+  BARBARIAN(Barbarian.class, Barbarian::create),
+
+  /**
+   * Giant troop.
+   */
+  GIANT(Giant.class, Giant::create),
+
+  /**
+   * Mini Pekka troop.
+   */
+  MINI_PEKKA(MiniPekka.class, MiniPekka::create),
+
+  /**
+   * Valkyrie troop.
+   */
+  VALKYRIE(Valkyrie.class, Valkyrie::create),
+
+  /**
+   * Wizard troop.
+   */
+  WIZARD(Wizard.class, Wizard::create),
+
+  /**
+   * Inferno Tower building.
+   */
+  INFERNO_TOWER(InfernoTower.class, InfernoTower::create);
+
+  private final Class<? extends Card> cardClass;
+  private final BiFunction<User, Vector2, Card> factory;
+
+  CardType(final Class<? extends Card> cardClass, final BiFunction<User, Vector2, Card> factory) {
+    this.cardClass = cardClass;
+    this.factory = factory;
+  }
+
+  /**
+   * Create a card of this type based on the user level.
+   * 
+   * @param user
+   *          who wants to deploy the card.
+   * @param position
+   *          x,y coordinates.
+   * @return the card itself.
+   */
+  public Card create(final User user, final Vector2 position) {
+    return this.factory.apply(user, position);
+  }
+
+  /**
+   * 
+   * @param card
+   *          the card to find the type of.
+   * @return the type of the card.
+   */
+  public static CardType of(final Card card) {
+    for (final var type : CardType.values()) {
+      if (type.cardClass.equals(card.getClass())) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown card " + card.getClass().getSimpleName());
+  }
+}
@@ -33,9 +33,5 @@ public abstract class Building extends Card {
     super(cost, position, owner, maxHP, damage, speed, range);
   }
 
-  @Override
-  public void setPosition(final Vector2 newPos) {
-  }
-
 }
 
@@ -1,15 +1,15 @@
 
 package model.entities.cards.buildings;
 
-import java.io.File;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.math.Vector2;
 
+import model.entities.CardCatalog;
+import model.entities.EntityStats;
 import model.entities.Attackable;
-import model.entities.Speeds;
 import model.entities.cards.Card;
 import model.entities.users.User;
 
@@ -18,23 +18,13 @@ import model.entities.users.User;
  */
 public final class InfernoTower extends Building {
 
-  private static final String INFERNO_WORD = "infernoTower";
-
-  private static final String SELF_WALK = INFERNO_WORD + File.separator + "self" + File.separator + "staying" + File.separator;
-  private static final String SELF_ATT = INFERNO_WORD + File.separator + "self" + File.separator + "attacking" + File.separator;
-  private static final String BOT_WALK = INFERNO_WORD + File.separator + "bot" + File.separator + "staying" + File.separator;
-  private static final String BOT_ATT = INFERNO_WORD + File.separator + "bot" + File.separator + "attacking" + File.separator;
-
-  /**
-   * Elixir cost of the card.
-   */
-  public static final int ELIXIR_COST = 3;
-  private static final int RANGE = 30;
+  private static final EntityStats STATS = CardCatalog.get("INFERNO_TOWER");
 
   private final List<Attackable> targets;
 
-  private InfernoTower(final User owner, final Vector2 position, final double maxHP, final double damage) {
-    super(InfernoTower.ELIXIR_COST, position, owner, maxHP, damage, Speeds.MEDIUM, InfernoTower.RANGE);
+  private InfernoTower(final User owner, final Vector2 position) {
+    super(InfernoTower.STATS.getCost(), position, owner, InfernoTower.STATS.getMaxHP(owner.getCurrentLevel()), InfernoTower.STATS.getDamage(owner.getCurrentLevel()),
+        InfernoTower.STATS.getSpeed(), InfernoTower.STATS.getRange());
     this.targets = Collections.emptyList();
   }
 
@@ -66,24 +56,12 @@ public final class InfernoTower extends Building {
    * @return the InfernoTower itself.
    */
   public static Building create(final User user, final Vector2 position) {
-    switch (user.getCurrentLevel()) {
-      case LVL1: return new InfernoTower(user, position, 12_000, 100);
-      case LVL2: return new InfernoTower(user, position, 200 * 60, 100);
-      case LVL3: return new InfernoTower(user, position, 200 * 60, 100);
-      case LVL4: return new InfernoTower(user, position, 200 * 60, 100);
-      case LVL5: return new InfernoTower(user, position, 200 * 60, 100);
-      default:   return new InfernoTower(user, position, 200 * 60, 100);
-      }
+    return new InfernoTower(user, position);
   }
 
   @Override
   public Map<String, List<String>> getAnimationFiles() {
-    return  Map.of(
-        "SELF_MOVING", List.of(InfernoTower.SELF_WALK + "0.png", InfernoTower.SELF_WALK + "1.png", InfernoTower.SELF_WALK + "2.png", InfernoTower.SELF_WALK + "3.png"),
-        "SELF_FIGHTING", List.of(InfernoTower.SELF_ATT + "0.png", InfernoTower.SELF_ATT + "1.png", InfernoTower.SELF_ATT + "2.png", InfernoTower.SELF_ATT + "3.png"),
-        "ENEMY_MOVING", List.of(InfernoTower.BOT_WALK + "0.png", InfernoTower.BOT_WALK + "1.png", InfernoTower.BOT_WALK + "2.png", InfernoTower.BOT_WALK + "3.png"),
-        "ENEMY_FIGHTING", List.of(InfernoTower.BOT_ATT + "0.png", InfernoTower.BOT_ATT + "1.png", InfernoTower.BOT_ATT + "2.png", InfernoTower.BOT_ATT + "3.png"),
-        "AS_CARD", List.of("cards" + File.separator + "InfernoTowerCard.png"));
+    return InfernoTower.STATS.getAnimations();
   }
 
   /**
@@ -1,32 +1,31 @@
 package model.entities.cards.troops;
 
-import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.math.Vector2;
 
-import model.entities.Speeds;
+import model.combat.Reload;
+import model.entities.CardCatalog;
+import model.entities.EntityStats;
+import model.entities.RangedAttacker;
 import model.entities.cards.Card;
 import model.entities.users.User;
 
 /** 
  * Archer troop. 
  */
-public final class Archer extends Troop {
+public final class Archer extends Troop implements RangedAttacker {
 
-  private static final String ARCHER_WORD = "archer";
+  private static final EntityStats STATS = CardCatalog.get("ARCHER");
 
-  private static final String SELF_WALK = ARCHER_WORD + File.separator + "self" + File.separator + "walking" + File.separator;
-  private static final String SELF_ATT = ARCHER_WORD + File.separator + "self" + File.separator + "attacking" + File.separator;
-  private static final String BOT_WALK = ARCHER_WORD + File.separator + "bot" + File.separator + "walking" + File.separator;
-  private static final String BOT_ATT = ARCHER_WORD + File.separator + "bot" + File.separator + "attacking" + File.separator;
+  private final Reload reload;
 
-  private static final int ELIXIR_COST = 3;
-  private static final double RANGE = 100;
-
-  private Archer(final User owner, final Vector2 position, final double maxHP, final double damage) {
-    super(Archer.ELIXIR_COST, position, owner, maxHP, damage, Speeds.FAST, Archer.RANGE);
+  private Archer(final User owner, final Vector2 position) {
+    super(Archer.STATS.getCost(), position, owner, Archer.STATS.getMaxHP(owner.getCurrentLevel()), Archer.STATS.getDamage(owner.getCurrentLevel()),
+        Archer.STATS.getSpeed(), Archer.STATS.getRange());
+    this.reload = new Reload(Archer.STATS.getReloadTime());
   }
 
   /**
@@ -38,26 +37,34 @@ public final class Archer extends Troop {
    * @return the archer itself.
    */
   public static Troop create(final User user, final Vector2 position) {
-      switch (user.getCurrentLevel()) {
-          case LVL1: return new Archer(user, position, 200*60, 100);
-          case LVL2: return new Archer(user, position, 250*60, 100);
-          case LVL3: return new Archer(user, position, 300*60, 100);
-          case LVL4: return new Archer(user, position, 350*60, 100);
-          case LVL5: return new Archer(user, position, 400*60, 100);
-          default: return new Archer(user, position, 200*60, 100);
-      }
+    return new Archer(user, position);
+  }
+
+  @Override
+  public float getProjectileSpeed() {
+    return Archer.STATS.getProjectileSpeed();
+  }
+
+  @Override
+  public Reload getReload() {
+    return this.reload;
+  }
+
+  @Override
+  public void saveState(final ByteBuffer buffer) {
+    super.saveState(buffer);
+    this.reload.saveState(buffer);
+  }
+
+  @Override
+  public void loadState(final ByteBuffer buffer) {
+    super.loadState(buffer);
+    this.reload.loadState(buffer);
   }
 
   @Override
   public Map<String, List<String>> getAnimationFiles() {
-    return Map.of(
-        "SELF_MOVING", List.of(Archer.SELF_WALK + "0.png", Archer.SELF_WALK + "1.png"),
-        "SELF_FIGHTING", List.of(Archer.SELF_ATT + "0.png", Archer.SELF_ATT + "1.png", Archer.SELF_ATT + "2.png", Archer.SELF_ATT + "3.png", 
-            Archer.SELF_ATT + "4.png", Archer.SELF_ATT + "5.png"),
-        "ENEMY_MOVING", List.of(Archer.BOT_WALK + "0.png", Archer.BOT_WALK + "1.png", Archer.BOT_WALK + "2.png", Archer.BOT_WALK + "3.png"),
-        "ENEMY_FIGHTING", List.of(Archer.BOT_ATT + "0.png", Archer.BOT_ATT + "1.png", Archer.BOT_ATT + "2.png", Archer.BOT_ATT + "3.png", 
-            Archer.BOT_ATT + "4.png"),
-        "AS_CARD", List.of("cards" + File.separator + "ArchersCard.png"));
+    return Archer.STATS.getAnimations();
   }
 
   @Override
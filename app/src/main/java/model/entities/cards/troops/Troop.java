@@ -1,5 +1,7 @@
 package model.entities.cards.troops;
 
+import java.nio.ByteBuffer;
+
 import com.badlogic.gdx.math.Vector2;
 
 import model.entities.Speeds;
@@ -11,7 +13,8 @@ import model.entities.users.User;
  */
 public abstract class Troop extends Card {
 
-
+  private final Vector2 waypoint;
+  private boolean hasWaypoint;
 
   /**
    * Constructor.
@@ -33,8 +36,83 @@ public abstract class Troop extends Card {
    */
   protected Troop(final int cost, final Vector2 position, final User owner, final double maxHP, final double damage, /*final double hitSpeed,*/ final Speeds speed, final double range) {
     super(cost, position, owner, maxHP, damage, speed, range);
+    this.waypoint = new Vector2();
+    this.hasWaypoint = false;
   }
 
+  /**
+   * 
+   * @return whether the troop is currently walking toward a waypoint.
+   */
+  public boolean hasWaypoint() {
+    return this.hasWaypoint;
+  }
 
-}
+  /**
+   * 
+   * @return the point the troop is walking toward, meaningful only if {@link #hasWaypoint()}.
+   */
+  public Vector2 getWaypoint() {
+    return this.waypoint;
+  }
+
+  /**
+   * Sets the point the troop has to walk toward.
+   * 
+   * @param waypoint
+   *              the next point of the path of the troop.
+   */
+  public void setWaypoint(final Vector2 waypoint) {
+    this.waypoint.set(waypoint);
+    this.hasWaypoint = true;
+  }
+
+  /**
+   * Walks toward the current waypoint, if any, at the speed of the troop.
+   * 
+   * @param delta
+   *              the elapsed time, in seconds.
+   */
+  public void walk(final float delta) {
+    if (!this.hasWaypoint) {
+      super.stay();
+      return;
+    }
+    final var position = super.getPosition();
+    final float step = super.getSpeed().getPixelsPerSecond() * delta;
+    final float distance = position.dst(this.waypoint);
+    if (distance <= step) {
+      super.moveBy(this.waypoint.x - position.x, this.waypoint.y - position.y);
+      this.hasWaypoint = false;
+    } else {
+      super.moveBy((this.waypoint.x - position.x) / distance * step, (this.waypoint.y - position.y) / distance * step);
+    }
+  }
 
+  /**
+   * Steers the troop away from the troops crowding it, on top of its movement of the current tick: it has to be called
+   * after {@link #walk(float)} or {@link #stay()}.
+   * 
+   * @param x
+   *              the movement along the x axis.
+   * @param y
+   *              the movement along the y axis.
+   */
+  public void steer(final float x, final float y) {
+    super.shift(x, y);
+  }
+
+  @Override
+  public void saveState(final ByteBuffer buffer) {
+    super.saveState(buffer);
+    buffer.put((byte) (this.hasWaypoint ? 1 : 0));
+    buffer.putFloat(this.waypoint.x).putFloat(this.waypoint.y);
+  }
+
+  @Override
+  public void loadState(final ByteBuffer buffer) {
+    super.loadState(buffer);
+    this.hasWaypoint = buffer.get() == 1;
+    this.waypoint.set(buffer.getFloat(), buffer.getFloat());
+  }
+}
@@ -1,35 +1,26 @@
 package model.entities.cards.troops;
 
-import java.io.File;
 import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.math.Vector2;
 
-import model.entities.Speeds;
+import model.entities.CardCatalog;
+import model.entities.EntityStats;
+import model.entities.SplashAttacker;
 import model.entities.cards.Card;
 import model.entities.users.User;
 
 /**
  * Valkyrie troop.
  */
-public final class Valkyrie extends Troop {
+public final class Valkyrie extends Troop implements SplashAttacker {
 
-  private static final String VALKYRIE_WORD = "valkyrie";
+  private static final EntityStats STATS = CardCatalog.get("VALKYRIE");
 
-  private static final String SELF_WALK = VALKYRIE_WORD + File.separator + "self" + File.separator + "walking" + File.separator;
-  private static final String SELF_ATT = VALKYRIE_WORD + File.separator + "self" + File.separator + "attacking" + File.separator;
-  private static final String BOT_WALK = VALKYRIE_WORD + File.separator + "bot" + File.separator + "walking" + File.separator;
-  private static final String BOT_ATT = VALKYRIE_WORD + File.separator + "bot" + File.separator + "attacking" + File.separator;
-
-  /**
-   * Elixir cost of the card.
-   */
-  public static final int ELIXIR_COST = 4;
-  private static final int RANGE = 60;
-
-  private Valkyrie(final User owner, final Vector2 position, final double maxHP, final double damage) {
-    super(Valkyrie.ELIXIR_COST, position, owner, maxHP, damage, Speeds.MEDIUM, Valkyrie.RANGE);
+  private Valkyrie(final User owner, final Vector2 position) {
+    super(Valkyrie.STATS.getCost(), position, owner, Valkyrie.STATS.getMaxHP(owner.getCurrentLevel()), Valkyrie.STATS.getDamage(owner.getCurrentLevel()),
+        Valkyrie.STATS.getSpeed(), Valkyrie.STATS.getRange());
   }
 
   /**
@@ -41,26 +32,22 @@ public final class Valkyrie extends Troop {
    * @return the valkyrie itself.
    */
   public static Troop create(final User user, final Vector2 position) {
-      switch (user.getCurrentLevel()) {
-          case LVL1: return new Valkyrie(user, position, 300*60, 120);
-          case LVL2: return new Valkyrie(user, position, 350*60, 120);
-          case LVL3: return new Valkyrie(user, position, 400*60, 120);
-          case LVL4: return new Valkyrie(user, position, 450*60, 120);
-          case LVL5: return new Valkyrie(user, position, 5000*60, 120);
-          default: return new Valkyrie(user, position, 300, 120);
-      }
+    return new Valkyrie(user, position);
+  }
+
+  @Override
+  public double getSplashRadius() {
+    return Valkyrie.STATS.getSplashRadius();
+  }
+
+  @Override
+  public boolean isSplashOnTarget() {
+    return false;
   }
 
   @Override
   public Map<String, List<String>> getAnimationFiles() {
-    return Map.of(
-        "SELF_MOVING", List.of(Valkyrie.SELF_WALK + "0.png", Valkyrie.SELF_WALK + "1.png"),
-        "SELF_FIGHTING", List.of(Valkyrie.SELF_ATT + "0.png", Valkyrie.SELF_ATT + "1.png", Valkyrie.SELF_ATT + "2.png", Valkyrie.SELF_ATT + "3.png", 
-            Valkyrie.SELF_ATT + "4.png", Valkyrie.SELF_ATT + "5.png"),
-        "ENEMY_MOVING", List.of(Valkyrie.BOT_WALK + "0.png", Valkyrie.BOT_WALK + "1.png"),
-        "ENEMY_FIGHTING", List.of(Valkyrie.BOT_ATT + "0.png", Valkyrie.BOT_ATT + "1.png", Valkyrie.BOT_ATT + "2.png", Valkyrie.BOT_ATT + "3.png", 
-            Valkyrie.BOT_ATT + "4.png", Valkyrie.BOT_ATT + "5.png", Valkyrie.BOT_ATT + "6.png"),
-        "AS_CARD", List.of("cards" + File.separator + "ValkyrieCard.png"));
+    return Valkyrie.STATS.getAnimations();
   }
 
   @Override
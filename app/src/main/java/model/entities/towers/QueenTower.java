@@ -1,11 +1,9 @@
 package model.entities.towers;
 
-import java.util.List;
-import java.util.Map;
-
 import com.badlogic.gdx.math.Vector2;
 
-import model.entities.Speeds;
+import model.entities.CardCatalog;
+import model.entities.EntityStats;
 import model.entities.users.User;
 
 /**
@@ -13,10 +11,10 @@ import model.entities.users.User;
  */
 public final class QueenTower extends Tower {
 
-  private static final double RANGE = 100;
+  private static final EntityStats STATS = CardCatalog.get("QUEEN_TOWER");
 
-  private QueenTower(final Vector2 position, final User owner, final double damage, final double hp) {
-    super(position, owner, RANGE, true, damage, hp, Speeds.MEDIUM);
+  private QueenTower(final Vector2 position, final User owner) {
+    super(position, owner, true, QueenTower.STATS);
   }
 
   /**
@@ -29,22 +27,6 @@ public final class QueenTower extends Tower {
    * @return a new QueenTower object.
    */
   public static QueenTower create(final User owner, final Vector2 position) {
-    switch (owner.getCurrentLevel()) {
-      case LVL1: return new QueenTower(position, owner, 100, 200 * 60);
-      case LVL2: return new QueenTower(position, owner, 100, 200 * 60);
-      case LVL3: return new QueenTower(position, owner, 100, 200 * 60);
-      case LVL4: return new QueenTower(position, owner, 100, 200 * 60);
-      case LVL5: return new QueenTower(position, owner, 100, 200 * 60);
-      default: return new QueenTower(position, owner, 100, 200 * 60);
-    }
-  }
-
-  @Override
-  public Map<String, List<String>> getAnimationFiles() {
-    return Map.of(
-        "SELF", List.of("towers/self/queen_tower.png"),
-        "ENEMY", List.of("towers/enemy/queen_tower.png"),
-        "DESTROYED", List.of("towers/destroyed/destroyed.png"),
-        "FIGHTING", List.of("towers/fighting/0.png", "towers/fighting/1.png", "towers/fighting/2.png", "towers/fighting/3.png"));
+    return new QueenTower(position, owner);
   }
 }
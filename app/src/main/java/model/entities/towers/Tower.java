@@ -1,5 +1,6 @@
 package model.entities.towers;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -7,14 +8,17 @@ import java.util.Optional;
 
 import com.badlogic.gdx.math.Vector2;
 
+import model.combat.Reload;
 import model.entities.Attackable;
+import model.entities.EntityStats;
+import model.entities.RangedAttacker;
 import model.entities.Speeds;
 import model.entities.users.User;
 
 /**
  * Tower abstract class.
  */
-public abstract class Tower implements Attackable {
+public abstract class Tower implements RangedAttacker {
 
   private final User owner;
   private final Vector2 position;
@@ -24,6 +28,9 @@ public abstract class Tower implements Attackable {
   private double currentHP;
   private final Speeds hitSpeed;
   private Optional<Attackable> currentTarget;
+  private final Reload reload;
+  private final EntityStats stats;
+  private int id;
 
   /**
    * Builds a new Tower.
@@ -31,27 +38,24 @@ public abstract class Tower implements Attackable {
    * @param position 
    *            {@inheritDoc}.
    * @param owner
-   *            the owner of the tower.
-   * @param range
-   *            the distance between the tower and an enemy before it starts to targeting him.
+   *            the owner of the tower, whose level chooses its damage and health.
    * @param isActive
    *            King tower is activated when the first queen tower has been destroyed.
-   * @param damage
-   *            how much health does it take per hit.
-   * @param hp
-   *            the maximum health of the tower.
-   * @param hitSpeed
-   *            the number of hits per second.
+   * @param stats
+   *            the stats of the kind of tower.
    */
-  public Tower(final Vector2 position, final User owner, final double range, final boolean isActive, final double damage, final double hp, final Speeds hitSpeed) {
+  public Tower(final Vector2 position, final User owner, final boolean isActive, final EntityStats stats) {
     this.owner = owner;
     this.position = position;
-    this.range = range;
+    this.range = stats.getRange();
     this.isActive = isActive;
-    this.damage = damage;
-    this.currentHP = hp;
-    this.hitSpeed = hitSpeed;
+    this.damage = stats.getDamage(owner.getCurrentLevel());
+    this.currentHP = stats.getMaxHP(owner.getCurrentLevel());
+    this.hitSpeed = stats.getSpeed();
     this.currentTarget = Optional.empty();
+    this.reload = new Reload(stats.getReloadTime());
+    this.stats = stats;
+    this.id = -1;
   }
 
   @Override
@@ -68,6 +72,30 @@ public abstract class Tower implements Attackable {
     this.currentHP = this.currentHP < damage ? 0 : this.currentHP - damage;
   }
 
+  @Override
+  public int getId() {
+    return this.id;
+  }
+
+  @Override
+  public void setId(final int id) {
+    this.id = id;
+  }
+
+  @Override
+  public void saveState(final ByteBuffer buffer) {
+    buffer.putDouble(this.currentHP);
+    buffer.put((byte) (this.isActive ? 1 : 0));
+    this.reload.saveState(buffer);
+  }
+
+  @Override
+  public void loadState(final ByteBuffer buffer) {
+    this.currentHP = buffer.getDouble();
+    this.isActive = buffer.get() == 1;
+    this.reload.loadState(buffer);
+  }
+
   @Override
   public boolean isDead() {
     return this.currentHP <= 0;
@@ -132,7 +160,9 @@ public abstract class Tower implements Attackable {
    * 
    * @return a map containing the file locations for each animation.
    */
-  public abstract Map<String, List<String>> getAnimationFiles();
+  public Map<String, List<String>> getAnimationFiles() {
+    return this.stats.getAnimations();
+  }
 
   @Override
   public Optional<Attackable> getCurrentTarget() {
@@ -150,6 +180,16 @@ public abstract class Tower implements Attackable {
   }
 
 
+  @Override
+  public float getProjectileSpeed() {
+    return this.stats.getProjectileSpeed();
+  }
+
+  @Override
+  public Reload getReload() {
+    return this.reload;
+  }
+
   @Override
   public void attackCurrentTarget() {
    this.currentTarget.ifPresent(t -> t.reduceHPBy(this.damage));
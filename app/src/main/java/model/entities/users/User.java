@@ -36,6 +36,32 @@ public class User {
     this.currentLevel = UserLevel.LVL1;
   }
 
+  /**
+   * Constructor of a user with its progress (I.e. when a profile is loaded).
+   *
+   * @param name
+   *           nickname of the user.
+   * @param currentXP
+   *           xp of the current level.
+   * @param currentLevel
+   *           the level of the user.
+   * @param plays
+   *           how many matches the user played.
+   * @param wins
+   *           how many matches the user won.
+   * @param destroyedTowers
+   *           how many towers the user destroyed.
+   */
+  public User(final String name, final int currentXP, final UserLevel currentLevel, final int plays, final int wins,
+      final int destroyedTowers) {
+    this.name = name;
+    this.currentXP = currentXP;
+    this.currentLevel = currentLevel;
+    this.plays = plays;
+    this.wins = wins;
+    this.destroyedTowers = destroyedTowers;
+  }
+
   /**
    * @return the name of the user.
    */
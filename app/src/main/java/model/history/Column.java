@@ -0,0 +1,91 @@
+package model.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file holding a single field of every record of the {@link MatchHistory}, each value taking the same number of bytes:
+ * the values of any range of records are contiguous and are read through a memory mapping, so a query touches
+ * only the fields it needs.
+ */
+final class Column {
+
+  private static final int MAGIC = 0x4352_4d43;
+  private static final short VERSION = 1;
+  private static final int HEADER_SIZE = Integer.BYTES + 2 * Short.BYTES;
+
+  private final Path file;
+  private final int width;
+
+  /**
+   *
+   * @param file
+   *              the file of the column.
+   * @param width
+   *              the bytes taken by a value.
+   */
+  Column(final Path file, final int width) {
+    this.file = file;
+    this.width = width;
+  }
+
+  /**
+   * Checks the header of the file, writing it if the file is missing or empty.
+   *
+   * @return how many values the file holds completely.
+   */
+  long open() throws IOException {
+    try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      if (channel.size() < HEADER_SIZE) {
+        channel.truncate(0);
+        channel.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).putShort((short) this.width).flip());
+        return 0;
+      }
+      final var header = ByteBuffer.allocate(HEADER_SIZE);
+      if (channel.read(header, 0) < HEADER_SIZE) {
+        throw new IOException(this.file + " cannot be read");
+      }
+      header.flip();
+      if (header.getInt() != MAGIC || header.getShort() != VERSION || header.getShort() != this.width) {
+        throw new IOException(this.file + " is not a column of the match history");
+      }
+      return (channel.size() - HEADER_SIZE) / this.width;
+    }
+  }
+
+  /**
+   * Drops the values after the given number (I.e. the ones of a record not written to every column).
+   */
+  void truncate(final long values) throws IOException {
+    try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.WRITE)) {
+      channel.truncate(HEADER_SIZE + values * this.width);
+    }
+  }
+
+  /**
+   * Appends the values between the position and the limit of the buffer, then flushes them to the disk.
+   */
+  void append(final ByteBuffer values) throws IOException {
+    try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+      while (values.hasRemaining()) {
+        channel.write(values);
+      }
+      channel.force(false);
+    }
+  }
+
+  /**
+   *
+   * @return a read-only view of the values of the given records, the first one at index 0.
+   */
+  MappedByteBuffer map(final long first, final long count) throws IOException {
+    try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * this.width, count * this.width);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package model.history;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Writes rows of fixed width fields as columns, in a stream and in constant memory: rows are buffered in groups of
+ * {@link #ROW_GROUP}, then each column of the group is written as a contiguous block, as the row groups of Parquet.
+ * The stream begins with the magic number, the version and, for each column, its name and the bytes taken by a value;
+ * each group begins with its number of rows, and the last group is followed by an empty one and by the number of rows.
+ * Numbers are big-endian.
+ */
+final class ColumnarWriter implements Closeable {
+
+  /**
+   * The first bytes of the stream.
+   */
+  static final int MAGIC = 0x4352_4558;
+
+  /**
+   * The version of the format.
+   */
+  static final short VERSION = 1;
+
+  /**
+   * How many rows are buffered before they are written.
+   */
+  static final int ROW_GROUP = 4096;
+
+  private final DataOutputStream out;
+  private final ByteBuffer[] columns;
+  private int rows;
+  private long written;
+
+  /**
+   *
+   * @param stream
+   *              where the columns are written.
+   * @param names
+   *              the names of the columns.
+   * @param widths
+   *              the bytes taken by a value of each column.
+   * @throws IOException
+   *              if the header cannot be written.
+   */
+  ColumnarWriter(final OutputStream stream, final List<String> names, final List<Integer> widths) throws IOException {
+    this.out = new DataOutputStream(stream);
+    this.columns = new ByteBuffer[names.size()];
+    this.out.writeInt(MAGIC);
+    this.out.writeShort(VERSION);
+    this.out.writeShort(names.size());
+    for (int i = 0; i < this.columns.length; i++) {
+      this.out.writeUTF(names.get(i));
+      this.out.writeShort(widths.get(i));
+      this.columns[i] = ByteBuffer.allocate(ROW_GROUP * widths.get(i));
+    }
+  }
+
+  /**
+   *
+   * @param index
+   *              the position of a column.
+   * @return where the value of the column of the current row is put.
+   */
+  ByteBuffer column(final int index) {
+    return this.columns[index];
+  }
+
+  /**
+   * Ends the current row, after a value has been put in every column.
+   *
+   * @throws IOException
+   *              if a full group cannot be written.
+   */
+  void endRow() throws IOException {
+    this.rows++;
+    if (this.rows == ROW_GROUP) {
+      this.writeGroup();
+    }
+  }
+
+  private void writeGroup() throws IOException {
+    if (this.rows == 0) {
+      return;
+    }
+    this.out.writeInt(this.rows);
+    for (final var column : this.columns) {
+      this.out.write(column.array(), 0, column.position());
+      column.clear();
+    }
+    this.written += this.rows;
+    this.rows = 0;
+  }
+
+  /**
+   * Writes the last group and the number of rows, then closes the stream.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      this.writeGroup();
+      this.out.writeInt(0);
+      this.out.writeLong(this.written);
+    } finally {
+      this.out.close();
+    }
+  }
+}
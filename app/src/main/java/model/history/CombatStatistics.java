@@ -0,0 +1,172 @@
+package model.history;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import model.GameModel;
+import model.entities.cards.CardType;
+
+/**
+ * How each card type fought in a set of matches: how many times it was deployed and the elixir paid for it, the damage it
+ * dealt, to any entity and to towers only, the damage it took and the time it spent in the arena.
+ * In the {@link MatchHistory} the figures of a match take {@link #BYTES} bytes, each figure stored as an int.
+ */
+public final class CombatStatistics {
+
+  private static final int DEPLOYS = 0;
+  private static final int ELIXIR = 1;
+  private static final int DAMAGE_DEALT = 2;
+  private static final int TOWER_DAMAGE = 3;
+  private static final int DAMAGE_TAKEN = 4;
+  private static final int TICKS_ALIVE = 5;
+  private static final int FIGURES = 6;
+
+  /**
+   * The bytes taken by the figures of a match.
+   */
+  public static final int BYTES = CardType.values().length * FIGURES * Integer.BYTES;
+
+  private final long[] figures;
+
+  /**
+   * Constructor: no card has been deployed yet.
+   */
+  public CombatStatistics() {
+    this.figures = new long[CardType.values().length * FIGURES];
+  }
+
+  /**
+   * Adds a deployed card.
+   *
+   * @param type
+   *              the type of the card.
+   * @param elixir
+   *              the elixir paid for the card.
+   * @param damageDealt
+   *              the damage dealt by the card.
+   * @param towerDamage
+   *              the damage dealt by the card to towers.
+   * @param damageTaken
+   *              the damage taken by the card.
+   * @param ticksAlive
+   *              how many ticks the card spent in the arena.
+   */
+  public void add(final CardType type, final int elixir, final double damageDealt, final double towerDamage,
+      final double damageTaken, final int ticksAlive) {
+    final int base = type.ordinal() * FIGURES;
+    this.figures[base + DEPLOYS]++;
+    this.figures[base + ELIXIR] += elixir;
+    this.figures[base + DAMAGE_DEALT] += Math.round(damageDealt);
+    this.figures[base + TOWER_DAMAGE] += Math.round(towerDamage);
+    this.figures[base + DAMAGE_TAKEN] += Math.round(damageTaken);
+    this.figures[base + TICKS_ALIVE] += ticksAlive;
+  }
+
+  /**
+   * Adds the figures of other matches.
+   *
+   * @param other
+   *              the figures to be added.
+   */
+  public void add(final CombatStatistics other) {
+    for (int i = 0; i < this.figures.length; i++) {
+      this.figures[i] += other.figures[i];
+    }
+  }
+
+  /**
+   * Writes the figures of a match in {@link #BYTES} bytes.
+   */
+  void write(final ByteBuffer buffer) {
+    for (final long figure : this.figures) {
+      buffer.putInt((int) Math.min(figure, Integer.MAX_VALUE));
+    }
+  }
+
+  /**
+   * Adds the figures of a match written by {@link #write(ByteBuffer)}, without creating them.
+   */
+  void add(final ByteBuffer buffer, final int offset) {
+    for (int i = 0; i < this.figures.length; i++) {
+      this.figures[i] += buffer.getInt(offset + i * Integer.BYTES);
+    }
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return how many cards of the type have been deployed.
+   */
+  public long getDeploys(final CardType type) {
+    return this.figures[type.ordinal() * FIGURES + DEPLOYS];
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return the damage dealt by the cards of the type.
+   */
+  public long getDamageDealt(final CardType type) {
+    return this.figures[type.ordinal() * FIGURES + DAMAGE_DEALT];
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return the damage dealt to towers by the cards of the type.
+   */
+  public long getTowerDamage(final CardType type) {
+    return this.figures[type.ordinal() * FIGURES + TOWER_DAMAGE];
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return the damage taken by the cards of the type.
+   */
+  public long getDamageTaken(final CardType type) {
+    return this.figures[type.ordinal() * FIGURES + DAMAGE_TAKEN];
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return the seconds spent in the arena by a card of the type, on average.
+   */
+  public float getAverageSecondsAlive(final CardType type) {
+    final long deploys = this.getDeploys(type);
+    return deploys == 0 ? 0 : (float) this.figures[type.ordinal() * FIGURES + TICKS_ALIVE] / deploys / GameModel.TICKS_PER_SECOND;
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return the damage dealt by the cards of the type for each elixir paid for them.
+   */
+  public float getElixirEfficiency(final CardType type) {
+    final long elixir = this.figures[type.ordinal() * FIGURES + ELIXIR];
+    return elixir == 0 ? 0 : (float) this.getDamageDealt(type) / elixir;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.figures);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || this.getClass() != obj.getClass()) {
+      return false;
+    }
+    return Arrays.equals(this.figures, ((CombatStatistics) obj).figures);
+  }
+}
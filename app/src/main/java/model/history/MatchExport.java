@@ -0,0 +1,177 @@
+package model.history;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import model.GameModel;
+import model.entities.cards.CardType;
+
+/**
+ * Exports the matches of the {@link MatchHistory} and the statistics of each card type, for the analysis outside the game,
+ * as CSV or in the columns of a {@link ColumnarWriter}. Matches are streamed from the history one at a time, and only the
+ * ones kept by the {@link MatchFilter} are created, so an export takes the same memory whatever the size of the history.
+ */
+public final class MatchExport {
+
+  private static final String SEPARATOR = ",";
+  private static final String LINE = "\n";
+  private static final List<String> MATCH_COLUMNS = List.of("timestamp", "deck", "opponent", "destroyed_towers", "lost_towers",
+      "ticks", "elixir_spent");
+  private static final List<Integer> MATCH_WIDTHS = List.of(Long.BYTES, MatchRecord.DECK_SLOTS, 1, 1, 1, Integer.BYTES,
+      Integer.BYTES);
+  private static final List<String> CARD_COLUMNS = List.of("card", "plays", "wins", "deploys", "damage_dealt", "tower_damage",
+      "damage_taken");
+  private static final List<Integer> CARD_WIDTHS = List.of(1, Integer.BYTES, Integer.BYTES, Long.BYTES, Long.BYTES, Long.BYTES,
+      Long.BYTES);
+
+  private MatchExport() {
+  }
+
+  /**
+   * Writes a line for each match, after a header: when it ended, the deck, the opponent, the towers, the outcome,
+   * how long it lasted and the elixir spent.
+   *
+   * @param history
+   *              the history of the matches.
+   * @param filter
+   *              which matches are written.
+   * @param out
+   *              where the CSV is written.
+   * @return how many matches have been written.
+   * @throws IOException
+   *              if the history cannot be read or the CSV cannot be written.
+   */
+  public static long writeCsv(final MatchHistory history, final MatchFilter filter, final Writer out) throws IOException {
+    out.write(String.join(SEPARATOR, "ended", "deck", "opponent", "destroyed_towers", "lost_towers", "result", "seconds",
+        "elixir_spent") + LINE);
+    final long[] written = {0};
+    MatchExport.forEach(history, filter, match -> {
+      out.write(String.join(SEPARATOR, Instant.ofEpochMilli(match.getTimestamp()).toString(),
+          match.getDeck().stream().map(CardType::name).collect(Collectors.joining(" ")),
+          match.getOpponent().name(),
+          Integer.toString(match.getDestroyedTowers()),
+          Integer.toString(match.getLostTowers()),
+          match.isWin() ? "WIN" : match.isDraw() ? "DRAW" : "LOSS",
+          Float.toString((float) match.getTicks() / GameModel.TICKS_PER_SECOND),
+          Integer.toString(match.getElixirSpent())) + LINE);
+      written[0]++;
+    });
+    out.flush();
+    return written[0];
+  }
+
+  /**
+   * Writes the fields of the matches as the columns timestamp, deck, opponent, destroyed_towers, lost_towers, ticks and
+   * elixir_spent: the timestamp is the end of the match in milliseconds since the epoch, the deck the ordinals of its card
+   * types with -1 in the empty slots and the opponent the ordinal of its difficulty. The stream is closed.
+   *
+   * @param history
+   *              the history of the matches.
+   * @param filter
+   *              which matches are written.
+   * @param stream
+   *              where the columns are written.
+   * @return how many matches have been written.
+   * @throws IOException
+   *              if the history cannot be read or the columns cannot be written.
+   */
+  public static long writeColumnar(final MatchHistory history, final MatchFilter filter, final OutputStream stream)
+      throws IOException {
+    final long[] written = {0};
+    try (var out = new ColumnarWriter(stream, MATCH_COLUMNS, MATCH_WIDTHS)) {
+      MatchExport.forEach(history, filter, match -> {
+        out.column(0).putLong(match.getTimestamp());
+        match.writeDeck(out.column(1));
+        out.column(2).put((byte) match.getOpponent().ordinal());
+        out.column(3).put((byte) match.getDestroyedTowers());
+        out.column(4).put((byte) match.getLostTowers());
+        out.column(5).putInt(match.getTicks());
+        out.column(6).putInt(match.getElixirSpent());
+        out.endRow();
+        written[0]++;
+      });
+    }
+    return written[0];
+  }
+
+  /**
+   * Writes a line for each card type, after a header: in how many matches it was in the deck, how many of them were won,
+   * the rate of the wins and how the cards of the type fought.
+   *
+   * @param statistics
+   *              the aggregates of the matches, I.e. the ones kept by a filter.
+   * @param out
+   *              where the CSV is written.
+   * @throws IOException
+   *              if the CSV cannot be written.
+   */
+  public static void writeCardsCsv(final MatchStatistics statistics, final Writer out) throws IOException {
+    out.write(String.join(SEPARATOR, "card", "plays", "wins", "win_rate", "deploys", "damage_dealt", "tower_damage",
+        "damage_taken", "seconds_alive", "damage_per_elixir") + LINE);
+    final var combat = statistics.getCombat();
+    for (final var type : CardType.values()) {
+      final int plays = statistics.getCardPlays(type);
+      final int wins = statistics.getCardWins(type);
+      out.write(String.join(SEPARATOR, type.name(), Integer.toString(plays), Integer.toString(wins),
+          Float.toString(plays == 0 ? 0 : (float) wins / plays), Long.toString(combat.getDeploys(type)),
+          Long.toString(combat.getDamageDealt(type)), Long.toString(combat.getTowerDamage(type)),
+          Long.toString(combat.getDamageTaken(type)), Float.toString(combat.getAverageSecondsAlive(type)),
+          Float.toString(combat.getElixirEfficiency(type))) + LINE);
+    }
+    out.flush();
+  }
+
+  /**
+   * Writes the statistics of each card type as the columns card, plays, wins, deploys, damage_dealt, tower_damage and
+   * damage_taken, the card as the ordinal of its type. The stream is closed.
+   *
+   * @param statistics
+   *              the aggregates of the matches.
+   * @param stream
+   *              where the columns are written.
+   * @throws IOException
+   *              if the columns cannot be written.
+   */
+  public static void writeCardsColumnar(final MatchStatistics statistics, final OutputStream stream) throws IOException {
+    try (var out = new ColumnarWriter(stream, CARD_COLUMNS, CARD_WIDTHS)) {
+      for (final var type : CardType.values()) {
+        out.column(0).put((byte) type.ordinal());
+        out.column(1).putInt(statistics.getCardPlays(type));
+        out.column(2).putInt(statistics.getCardWins(type));
+        out.column(3).putLong(statistics.getCombat().getDeploys(type));
+        out.column(4).putLong(statistics.getCombat().getDamageDealt(type));
+        out.column(5).putLong(statistics.getCombat().getTowerDamage(type));
+        out.column(6).putLong(statistics.getCombat().getDamageTaken(type));
+        out.endRow();
+      }
+    }
+  }
+
+  /**
+   * What is done with a match, which may fail writing it.
+   */
+  @FunctionalInterface
+  private interface MatchWriter {
+    void write(MatchRecord match) throws IOException;
+  }
+
+  private static void forEach(final MatchHistory history, final MatchFilter filter, final MatchWriter action)
+      throws IOException {
+    try {
+      history.forEach(filter, match -> {
+        try {
+          action.write(match);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+}
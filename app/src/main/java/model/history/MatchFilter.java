@@ -0,0 +1,124 @@
+package model.history;
+
+import model.ai.BotDifficulty;
+import model.entities.cards.CardType;
+
+/**
+ * Which matches of the {@link MatchHistory} are read: the ones ended in a period, with some card types in the deck and
+ * against some opponents. The history applies the period by a binary search over the timestamps and tests the deck and
+ * the opponent on their columns, so the other fields of a match are read only when the match is kept.
+ * A filter is immutable: each condition returns a new filter.
+ */
+public final class MatchFilter {
+
+  private static final MatchFilter ALL = new MatchFilter(Long.MIN_VALUE, Long.MAX_VALUE, 0, (1 << BotDifficulty.values().length) - 1);
+
+  private final long from;
+  private final long to;
+  private final int cards;
+  private final int opponents;
+
+  private MatchFilter(final long from, final long to, final int cards, final int opponents) {
+    this.from = from;
+    this.to = to;
+    this.cards = cards;
+    this.opponents = opponents;
+  }
+
+  /**
+   *
+   * @return a filter keeping every match.
+   */
+  public static MatchFilter all() {
+    return ALL;
+  }
+
+  /**
+   *
+   * @param start
+   *              the start of the period, in milliseconds since the epoch.
+   * @param end
+   *              the end of the period, excluded.
+   * @return a filter keeping only the matches ended in the period.
+   */
+  public MatchFilter between(final long start, final long end) {
+    return new MatchFilter(start, end, this.cards, this.opponents);
+  }
+
+  /**
+   *
+   * @param types
+   *              card types.
+   * @return a filter keeping only the matches played with all of those card types in the deck.
+   */
+  public MatchFilter withCards(final CardType... types) {
+    int mask = this.cards;
+    for (final var type : types) {
+      mask |= 1 << type.ordinal();
+    }
+    return new MatchFilter(this.from, this.to, mask, this.opponents);
+  }
+
+  /**
+   *
+   * @param difficulties
+   *              the difficulties of the opponents.
+   * @return a filter keeping only the matches played against one of those opponents.
+   */
+  public MatchFilter against(final BotDifficulty... difficulties) {
+    int mask = 0;
+    for (final var difficulty : difficulties) {
+      mask |= 1 << difficulty.ordinal();
+    }
+    return new MatchFilter(this.from, this.to, this.cards, mask);
+  }
+
+  /**
+   * @return the start of the period, in milliseconds since the epoch.
+   */
+  public long getFrom() {
+    return this.from;
+  }
+
+  /**
+   * @return the end of the period, excluded.
+   */
+  public long getTo() {
+    return this.to;
+  }
+
+  /**
+   *
+   * @return whether the filter keeps only some decks or some opponents, so that those columns must be read.
+   */
+  boolean isSelective() {
+    return this.cards != 0 || this.opponents != ALL.opponents;
+  }
+
+  /**
+   * Tests the fields of a match read from the columns, without creating its record.
+   *
+   * @param cardMask
+   *              the mask of the ordinals of the card types of the deck.
+   * @param opponent
+   *              the ordinal of the difficulty of the opponent.
+   */
+  boolean test(final int cardMask, final int opponent) {
+    return (cardMask & this.cards) == this.cards && (this.opponents & 1 << opponent) != 0;
+  }
+
+  /**
+   *
+   * @param record
+   *              a match.
+   * @return whether the match is kept.
+   */
+  public boolean test(final MatchRecord record) {
+    int mask = 0;
+    for (final var type : record.getDeck()) {
+      mask |= 1 << type.ordinal();
+    }
+    return record.getTimestamp() >= this.from && record.getTimestamp() < this.to
+        && this.test(mask, record.getOpponent().ordinal());
+  }
+}
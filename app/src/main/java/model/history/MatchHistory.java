@@ -0,0 +1,386 @@
+package model.history;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import model.ai.BotDifficulty;
+
+/**
+ * The finished matches of the player, in the order they end. Each field of the {@link MatchRecord}s is appended to its own
+ * {@link Column} in {@link #COLUMNS_DIR}, and columns are read through memory mappings: aggregates read only the columns
+ * they need, the matches of a period are found by a binary search over the timestamps, and the aggregates of the whole
+ * history are updated with the records appended since the last read only, so the history is never loaded as a whole.
+ * Records are read a chunk at a time, and a {@link MatchFilter} is tested on the deck and opponent columns before the
+ * other fields of a record are read.
+ * A record not written to every column because of a crash is dropped when the history is opened, except for its
+ * {@link CombatStatistics}, written last: records without them, I.e. the ones of older versions of the game, have
+ * empty ones.
+ */
+public final class MatchHistory {
+
+  /**
+   * The directory of the columns.
+   */
+  public static final String COLUMNS_DIR = "matches";
+
+  /**
+   * The row log written by the first version of the history, moved into the columns when found.
+   */
+  static final String LEGACY_LOG_FILE = "matches.log";
+
+  private static final String LEGACY_INDEX_FILE = "matches.idx";
+  private static final int LEGACY_MAGIC = 0x4352_4d48;
+  private static final int CHUNK = 4096;
+  private static final int LEGACY_RECORD_SIZE = Long.BYTES + MatchRecord.DECK_SLOTS + 3 + 2 * Integer.BYTES;
+
+  private final Path directory;
+  private final Column timestamps;
+  private final Column decks;
+  private final Column opponents;
+  private final Column destroyedTowers;
+  private final Column lostTowers;
+  private final Column ticks;
+  private final Column elixirSpent;
+  private final Column combat;
+  private final List<Column> columns;
+  private final MatchStatistics totals;
+  private long totalsRecords;
+  private long size;
+  private long lastTimestamp;
+  private boolean opened;
+
+  /**
+   *
+   * @param directory
+   *              where the directory of the columns is kept.
+   */
+  public MatchHistory(final Path directory) {
+    this.directory = directory;
+    final var columnsDirectory = directory.resolve(COLUMNS_DIR);
+    this.timestamps = new Column(columnsDirectory.resolve("timestamp.col"), Long.BYTES);
+    this.decks = new Column(columnsDirectory.resolve("deck.col"), MatchRecord.DECK_SLOTS);
+    this.opponents = new Column(columnsDirectory.resolve("opponent.col"), Byte.BYTES);
+    this.destroyedTowers = new Column(columnsDirectory.resolve("destroyed.col"), Byte.BYTES);
+    this.lostTowers = new Column(columnsDirectory.resolve("lost.col"), Byte.BYTES);
+    this.ticks = new Column(columnsDirectory.resolve("ticks.col"), Integer.BYTES);
+    this.elixirSpent = new Column(columnsDirectory.resolve("elixir.col"), Integer.BYTES);
+    this.combat = new Column(columnsDirectory.resolve("combat.col"), CombatStatistics.BYTES);
+    this.columns = List.of(this.timestamps, this.decks, this.opponents, this.destroyedTowers, this.lostTowers, this.ticks,
+        this.elixirSpent);
+    this.totals = new MatchStatistics();
+    this.totalsRecords = 0;
+    this.size = 0;
+    this.lastTimestamp = Long.MIN_VALUE;
+    this.opened = false;
+  }
+
+  private void open() throws IOException {
+    if (this.opened) {
+      return;
+    }
+    Files.createDirectories(this.directory.resolve(COLUMNS_DIR));
+    final var legacy = this.directory.resolve(LEGACY_LOG_FILE);
+    long complete = Long.MAX_VALUE;
+    for (final var column : this.columns) {
+      complete = Math.min(complete, column.open());
+    }
+    this.size = Files.exists(legacy) ? 0 : complete;
+    for (final var column : this.columns) {
+      column.truncate(this.size);
+    }
+    final long fought = this.combat.open();
+    if (fought < this.size) {
+      this.combat.append(ByteBuffer.allocate((int) (this.size - fought) * CombatStatistics.BYTES));
+    } else {
+      this.combat.truncate(this.size);
+    }
+    if (this.size > 0) {
+      this.lastTimestamp = this.timestamps.map(this.size - 1, 1).getLong(0);
+    }
+    this.opened = true;
+    if (Files.exists(legacy)) {
+      this.migrate(legacy);
+    }
+  }
+
+  /**
+   * Appends the records of the row log to the columns, then deletes it: a migration interrupted by a crash starts over.
+   */
+  private void migrate(final Path legacy) throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(legacy)))) {
+      if (in.readInt() != LEGACY_MAGIC || in.readUnsignedShort() != 1 || in.readUnsignedShort() != LEGACY_RECORD_SIZE) {
+        throw new IOException(legacy + " is not a match history");
+      }
+      final byte[] row = new byte[LEGACY_RECORD_SIZE];
+      final List<MatchRecord> records = new ArrayList<>();
+      while (in.readNBytes(row, 0, row.length) == row.length) {
+        final var buffer = ByteBuffer.wrap(row);
+        final long timestamp = buffer.getLong();
+        final var deck = MatchRecord.readDeck(buffer, buffer.position());
+        buffer.position(buffer.position() + MatchRecord.DECK_SLOTS);
+        final var opponent = BotDifficulty.values()[buffer.get()];
+        final int destroyed = buffer.get();
+        final int lost = buffer.get();
+        records.add(new MatchRecord(timestamp, deck, opponent, destroyed, lost, buffer.getInt(), buffer.getInt()));
+        if (records.size() == CHUNK) {
+          this.appendAll(records);
+          records.clear();
+        }
+      }
+      this.appendAll(records);
+    }
+    Files.delete(legacy);
+    Files.deleteIfExists(this.directory.resolve(LEGACY_INDEX_FILE));
+  }
+
+  /**
+   * Appends a finished match to every column and flushes it to the disk. Records are kept in time order: a match ending
+   * before the last one recorded (I.e. after the clock has been set back) is recorded with the timestamp of the last one.
+   *
+   * @param record
+   *              the match.
+   * @throws IOException
+   *              if the columns cannot be written.
+   */
+  public void append(final MatchRecord record) throws IOException {
+    this.appendAll(List.of(record));
+  }
+
+  /**
+   * Appends finished matches, in the given order, as {@link #append(MatchRecord)} does: the values of every match are
+   * written to each column at once, so each column is opened and flushed to the disk once per call.
+   *
+   * @param records
+   *              the matches.
+   * @throws IOException
+   *              if the columns cannot be written.
+   */
+  public synchronized void appendAll(final List<MatchRecord> records) throws IOException {
+    this.open();
+    final int count = records.size();
+    if (count == 0) {
+      return;
+    }
+    final var timestampValues = ByteBuffer.allocate(count * Long.BYTES);
+    final var deckValues = ByteBuffer.allocate(count * MatchRecord.DECK_SLOTS);
+    final var opponentValues = ByteBuffer.allocate(count);
+    final var destroyedValues = ByteBuffer.allocate(count);
+    final var lostValues = ByteBuffer.allocate(count);
+    final var tickValues = ByteBuffer.allocate(count * Integer.BYTES);
+    final var elixirValues = ByteBuffer.allocate(count * Integer.BYTES);
+    final var combatValues = ByteBuffer.allocate(count * CombatStatistics.BYTES);
+    long timestamp = this.lastTimestamp;
+    for (final var record : records) {
+      timestamp = Math.max(record.getTimestamp(), timestamp);
+      timestampValues.putLong(timestamp);
+      record.writeDeck(deckValues);
+      opponentValues.put((byte) record.getOpponent().ordinal());
+      destroyedValues.put((byte) record.getDestroyedTowers());
+      lostValues.put((byte) record.getLostTowers());
+      tickValues.putInt(record.getTicks());
+      elixirValues.putInt(record.getElixirSpent());
+      record.getCombat().write(combatValues);
+    }
+    this.timestamps.append(timestampValues.flip());
+    this.decks.append(deckValues.flip());
+    this.opponents.append(opponentValues.flip());
+    this.destroyedTowers.append(destroyedValues.flip());
+    this.lostTowers.append(lostValues.flip());
+    this.ticks.append(tickValues.flip());
+    this.elixirSpent.append(elixirValues.flip());
+    this.combat.append(combatValues.flip());
+    this.lastTimestamp = timestamp;
+    this.size += count;
+  }
+
+  /**
+   *
+   * @return how many matches have been recorded.
+   * @throws IOException
+   *              if the columns cannot be read.
+   */
+  public synchronized long size() throws IOException {
+    this.open();
+    return this.size;
+  }
+
+  /**
+   * Reads the records from the given one to the last one.
+   *
+   * @param first
+   *              the position of the first record to be read.
+   * @param action
+   *              what is done with each record, in time order.
+   * @throws IOException
+   *              if the columns cannot be read.
+   */
+  public synchronized void forEach(final long first, final Consumer<MatchRecord> action) throws IOException {
+    this.open();
+    this.read(first, this.size, MatchFilter.all(), action);
+  }
+
+  /**
+   * Reads the records of the matches ended in a period.
+   *
+   * @param from
+   *              the start of the period, in milliseconds since the epoch.
+   * @param to
+   *              the end of the period, excluded.
+   * @param action
+   *              what is done with each record, in time order.
+   * @throws IOException
+   *              if the columns cannot be read.
+   */
+  public synchronized void forEachBetween(final long from, final long to, final Consumer<MatchRecord> action) throws IOException {
+    this.forEach(MatchFilter.all().between(from, to), action);
+  }
+
+  /**
+   * Reads the records of the matches kept by a filter, a chunk of records at a time: the history is never held in memory,
+   * and only the matches kept are created.
+   *
+   * @param filter
+   *              which matches are read.
+   * @param action
+   *              what is done with each record, in time order.
+   * @throws IOException
+   *              if the columns cannot be read.
+   */
+  public synchronized void forEach(final MatchFilter filter, final Consumer<MatchRecord> action) throws IOException {
+    this.read(this.firstAtOrAfter(filter.getFrom()), this.firstAtOrAfter(filter.getTo()), filter, action);
+  }
+
+  /**
+   *
+   * @param from
+   *              the start of the period, in milliseconds since the epoch.
+   * @param to
+   *              the end of the period, excluded.
+   * @return the aggregates of the matches ended in the period.
+   * @throws IOException
+   *              if the columns cannot be read.
+   */
+  public synchronized MatchStatistics getStatistics(final long from, final long to) throws IOException {
+    return this.getStatistics(MatchFilter.all().between(from, to));
+  }
+
+  /**
+   *
+   * @param filter
+   *              which matches are aggregated.
+   * @return the aggregates of the matches kept by the filter.
+   * @throws IOException
+   *              if the columns cannot be read.
+   */
+  public synchronized MatchStatistics getStatistics(final MatchFilter filter) throws IOException {
+    final var statistics = new MatchStatistics();
+    this.aggregate(this.firstAtOrAfter(filter.getFrom()), this.firstAtOrAfter(filter.getTo()), filter, statistics);
+    return statistics;
+  }
+
+  /**
+   * Updates the aggregates of the whole history with the records appended since the last call.
+   *
+   * @return the aggregates of every match recorded.
+   * @throws IOException
+   *              if the columns cannot be read.
+   */
+  public synchronized MatchStatistics getTotals() throws IOException {
+    this.open();
+    this.aggregate(this.totalsRecords, this.size, MatchFilter.all(), this.totals);
+    this.totalsRecords = this.size;
+    return new MatchStatistics(this.totals);
+  }
+
+  /**
+   * Binary search over the timestamps, which are sorted since records are appended in time order.
+   */
+  private long firstAtOrAfter(final long timestamp) throws IOException {
+    this.open();
+    if (this.size == 0) {
+      return 0;
+    }
+    final var values = this.timestamps.map(0, this.size);
+    long low = 0;
+    long high = this.size;
+    while (low < high) {
+      final long middle = (low + high) >>> 1;
+      if (values.getLong((int) middle * Long.BYTES) < timestamp) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Adds the kept records of a range to the aggregates reading only the columns they need, without creating the records.
+   */
+  private void aggregate(final long first, final long end, final MatchFilter filter, final MatchStatistics statistics)
+      throws IOException {
+    for (long start = first; start < end; start += CHUNK) {
+      final int count = (int) Math.min(CHUNK, end - start);
+      final var deckValues = this.decks.map(start, count);
+      final var opponentValues = filter.isSelective() ? this.opponents.map(start, count) : null;
+      final var destroyedValues = this.destroyedTowers.map(start, count);
+      final var lostValues = this.lostTowers.map(start, count);
+      final var tickValues = this.ticks.map(start, count);
+      final var elixirValues = this.elixirSpent.map(start, count);
+      final var combatValues = this.combat.map(start, count);
+      for (int i = 0; i < count; i++) {
+        final int cards = MatchRecord.readCardMask(deckValues, i * MatchRecord.DECK_SLOTS);
+        if (opponentValues == null || filter.test(cards, opponentValues.get(i))) {
+          statistics.add(cards, destroyedValues.get(i), lostValues.get(i), tickValues.getInt(i * Integer.BYTES),
+              elixirValues.getInt(i * Integer.BYTES));
+          statistics.addCombat(combatValues, i * CombatStatistics.BYTES);
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates the kept records of a range, a chunk at a time: the deck and the opponent are tested first, and the other
+   * columns of a chunk are not read at all when no record of the chunk is kept.
+   */
+  private void read(final long first, final long end, final MatchFilter filter, final Consumer<MatchRecord> action)
+      throws IOException {
+    final var kept = new boolean[CHUNK];
+    for (long start = first; start < end; start += CHUNK) {
+      final int count = (int) Math.min(CHUNK, end - start);
+      final var deckValues = this.decks.map(start, count);
+      final var opponentValues = this.opponents.map(start, count);
+      boolean any = false;
+      for (int i = 0; i < count; i++) {
+        kept[i] = filter.test(MatchRecord.readCardMask(deckValues, i * MatchRecord.DECK_SLOTS), opponentValues.get(i));
+        any |= kept[i];
+      }
+      if (!any) {
+        continue;
+      }
+      final var timestampValues = this.timestamps.map(start, count);
+      final var destroyedValues = this.destroyedTowers.map(start, count);
+      final var lostValues = this.lostTowers.map(start, count);
+      final var tickValues = this.ticks.map(start, count);
+      final var elixirValues = this.elixirSpent.map(start, count);
+      final var combatValues = this.combat.map(start, count);
+      for (int i = 0; i < count; i++) {
+        if (kept[i]) {
+          final var figures = new CombatStatistics();
+          figures.add(combatValues, i * CombatStatistics.BYTES);
+          action.accept(new MatchRecord(timestampValues.getLong(i * Long.BYTES),
+              MatchRecord.readDeck(deckValues, i * MatchRecord.DECK_SLOTS), BotDifficulty.values()[opponentValues.get(i)],
+              destroyedValues.get(i), lostValues.get(i), tickValues.getInt(i * Integer.BYTES),
+              elixirValues.getInt(i * Integer.BYTES), figures));
+        }
+      }
+    }
+  }
+}
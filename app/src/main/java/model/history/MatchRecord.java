@@ -0,0 +1,204 @@
+package model.history;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.ai.BotDifficulty;
+import model.entities.cards.CardType;
+
+/**
+ * A finished match, as stored in the {@link MatchHistory}: every field takes a fixed number of bytes, so the n-th match
+ * of the history is found without reading the ones before it.
+ */
+public final class MatchRecord {
+
+  /**
+   * How many cards of the deck are stored: the cards beyond are dropped.
+   */
+  public static final int DECK_SLOTS = 8;
+
+  private static final byte EMPTY_SLOT = -1;
+
+  private final long timestamp;
+  private final List<CardType> deck;
+  private final BotDifficulty opponent;
+  private final int destroyedTowers;
+  private final int lostTowers;
+  private final int ticks;
+  private final int elixirSpent;
+  private final CombatStatistics combat;
+
+  /**
+   *
+   * @param timestamp
+   *              when the match ended, in milliseconds since the epoch.
+   * @param deck
+   *              the card types of the deck of the player.
+   * @param opponent
+   *              the difficulty of the bot the player faced.
+   * @param destroyedTowers
+   *              the towers destroyed by the player.
+   * @param lostTowers
+   *              the towers of the player destroyed by the bot.
+   * @param ticks
+   *              how long the match lasted.
+   * @param elixirSpent
+   *              the elixir spent by the player.
+   */
+  public MatchRecord(final long timestamp, final List<CardType> deck, final BotDifficulty opponent, final int destroyedTowers,
+      final int lostTowers, final int ticks, final int elixirSpent) {
+    this(timestamp, deck, opponent, destroyedTowers, lostTowers, ticks, elixirSpent, new CombatStatistics());
+  }
+
+  /**
+   *
+   * @param timestamp
+   *              when the match ended, in milliseconds since the epoch.
+   * @param deck
+   *              the card types of the deck of the player.
+   * @param opponent
+   *              the difficulty of the bot the player faced.
+   * @param destroyedTowers
+   *              the towers destroyed by the player.
+   * @param lostTowers
+   *              the towers of the player destroyed by the bot.
+   * @param ticks
+   *              how long the match lasted.
+   * @param elixirSpent
+   *              the elixir spent by the player.
+   * @param combat
+   *              how the cards of the player fought, which is copied.
+   */
+  public MatchRecord(final long timestamp, final List<CardType> deck, final BotDifficulty opponent, final int destroyedTowers,
+      final int lostTowers, final int ticks, final int elixirSpent, final CombatStatistics combat) {
+    this.timestamp = timestamp;
+    this.deck = List.copyOf(deck.size() > DECK_SLOTS ? deck.subList(0, DECK_SLOTS) : deck);
+    this.opponent = opponent;
+    this.destroyedTowers = destroyedTowers;
+    this.lostTowers = lostTowers;
+    this.ticks = ticks;
+    this.elixirSpent = elixirSpent;
+    this.combat = new CombatStatistics();
+    this.combat.add(combat);
+  }
+
+  /**
+   * Writes the deck in {@link #DECK_SLOTS} bytes, the empty slots holding -1.
+   */
+  void writeDeck(final ByteBuffer buffer) {
+    for (int slot = 0; slot < DECK_SLOTS; slot++) {
+      buffer.put(slot < this.deck.size() ? (byte) this.deck.get(slot).ordinal() : EMPTY_SLOT);
+    }
+  }
+
+  /**
+   * Reads a deck written by {@link #writeDeck(ByteBuffer)}.
+   */
+  static List<CardType> readDeck(final ByteBuffer buffer, final int offset) {
+    final List<CardType> deck = new ArrayList<>(DECK_SLOTS);
+    for (int slot = 0; slot < DECK_SLOTS; slot++) {
+      final byte type = buffer.get(offset + slot);
+      if (type != EMPTY_SLOT) {
+        deck.add(CardType.values()[type]);
+      }
+    }
+    return deck;
+  }
+
+  /**
+   * Reads the card types of a deck written by {@link #writeDeck(ByteBuffer)} without creating it.
+   *
+   * @return a mask with the bit of the ordinal of each type of the deck set.
+   */
+  static int readCardMask(final ByteBuffer buffer, final int offset) {
+    int mask = 0;
+    for (int slot = 0; slot < DECK_SLOTS; slot++) {
+      final byte type = buffer.get(offset + slot);
+      if (type != EMPTY_SLOT) {
+        mask |= 1 << type;
+      }
+    }
+    return mask;
+  }
+
+  /**
+   *
+   * @return when the match ended, in milliseconds since the epoch.
+   */
+  public long getTimestamp() {
+    return this.timestamp;
+  }
+
+  /**
+   *
+   * @return the card types of the deck of the player.
+   */
+  public List<CardType> getDeck() {
+    return this.deck;
+  }
+
+  /**
+   *
+   * @return the difficulty of the bot the player faced.
+   */
+  public BotDifficulty getOpponent() {
+    return this.opponent;
+  }
+
+  /**
+   *
+   * @return the towers destroyed by the player.
+   */
+  public int getDestroyedTowers() {
+    return this.destroyedTowers;
+  }
+
+  /**
+   *
+   * @return the towers of the player destroyed by the bot.
+   */
+  public int getLostTowers() {
+    return this.lostTowers;
+  }
+
+  /**
+   *
+   * @return how long the match lasted, in ticks.
+   */
+  public int getTicks() {
+    return this.ticks;
+  }
+
+  /**
+   *
+   * @return the elixir spent by the player.
+   */
+  public int getElixirSpent() {
+    return this.elixirSpent;
+  }
+
+  /**
+   *
+   * @return how the cards of the player fought.
+   */
+  public CombatStatistics getCombat() {
+    return this.combat;
+  }
+
+  /**
+   *
+   * @return whether the player destroyed more towers than the bot.
+   */
+  public boolean isWin() {
+    return this.destroyedTowers > this.lostTowers;
+  }
+
+  /**
+   *
+   * @return whether both sides destroyed the same number of towers.
+   */
+  public boolean isDraw() {
+    return this.destroyedTowers == this.lostTowers;
+  }
+}
@@ -0,0 +1,211 @@
+package model.history;
+
+import java.nio.ByteBuffer;
+
+import model.GameModel;
+import model.entities.cards.CardType;
+
+/**
+ * Aggregates of a set of matches of the {@link MatchHistory}, updated one record at a time so that the records
+ * never need to be held together: outcomes, towers, length, elixir, how often each card type was in the deck and
+ * how it fought.
+ */
+public final class MatchStatistics {
+
+  private int plays;
+  private int wins;
+  private int draws;
+  private long destroyedTowers;
+  private long lostTowers;
+  private long ticks;
+  private long elixirSpent;
+  private final int[] cardPlays;
+  private final int[] cardWins;
+  private final CombatStatistics combat;
+
+  /**
+   * Constructor: no match has been added yet.
+   */
+  public MatchStatistics() {
+    this.cardPlays = new int[CardType.values().length];
+    this.cardWins = new int[CardType.values().length];
+    this.combat = new CombatStatistics();
+  }
+
+  /**
+   *
+   * @param other
+   *              the statistics to be copied.
+   */
+  public MatchStatistics(final MatchStatistics other) {
+    this.plays = other.plays;
+    this.wins = other.wins;
+    this.draws = other.draws;
+    this.destroyedTowers = other.destroyedTowers;
+    this.lostTowers = other.lostTowers;
+    this.ticks = other.ticks;
+    this.elixirSpent = other.elixirSpent;
+    this.cardPlays = other.cardPlays.clone();
+    this.cardWins = other.cardWins.clone();
+    this.combat = new CombatStatistics();
+    this.combat.add(other.combat);
+  }
+
+  /**
+   * Adds a match to the aggregates.
+   *
+   * @param record
+   *              the match.
+   */
+  public void add(final MatchRecord record) {
+    int cards = 0;
+    for (final var type : record.getDeck()) {
+      cards |= 1 << type.ordinal();
+    }
+    this.add(cards, record.getDestroyedTowers(), record.getLostTowers(), record.getTicks(), record.getElixirSpent());
+    this.combat.add(record.getCombat());
+  }
+
+  /**
+   * Adds the combat figures of a match read from their column, without creating them.
+   */
+  void addCombat(final ByteBuffer buffer, final int offset) {
+    this.combat.add(buffer, offset);
+  }
+
+  /**
+   *
+   * @return how each card type fought in the matches.
+   */
+  public CombatStatistics getCombat() {
+    return this.combat;
+  }
+
+  /**
+   * Adds a match read from the columns of the history, without creating its record.
+   *
+   * @param cards
+   *              the mask of the ordinals of the card types of the deck.
+   */
+  void add(final int cards, final int destroyed, final int lost, final int matchTicks, final int elixir) {
+    this.plays++;
+    final boolean win = destroyed > lost;
+    if (win) {
+      this.wins++;
+    } else if (destroyed == lost) {
+      this.draws++;
+    }
+    this.destroyedTowers += destroyed;
+    this.lostTowers += lost;
+    this.ticks += matchTicks;
+    this.elixirSpent += elixir;
+    for (int type = 0; type < this.cardPlays.length; type++) {
+      if ((cards & 1 << type) != 0) {
+        this.cardPlays[type]++;
+        if (win) {
+          this.cardWins[type]++;
+        }
+      }
+    }
+  }
+
+  /**
+   *
+   * @return the matches played.
+   */
+  public int getPlays() {
+    return this.plays;
+  }
+
+  /**
+   *
+   * @return the matches won.
+   */
+  public int getWins() {
+    return this.wins;
+  }
+
+  /**
+   *
+   * @return the matches ended in a draw.
+   */
+  public int getDraws() {
+    return this.draws;
+  }
+
+  /**
+   *
+   * @return the matches lost.
+   */
+  public int getLosses() {
+    return this.plays - this.wins - this.draws;
+  }
+
+  /**
+   *
+   * @return the towers destroyed by the player.
+   */
+  public long getDestroyedTowers() {
+    return this.destroyedTowers;
+  }
+
+  /**
+   *
+   * @return the towers of the player destroyed by the bot.
+   */
+  public long getLostTowers() {
+    return this.lostTowers;
+  }
+
+  /**
+   *
+   * @return the fraction of the matches won, 0 if no match has been played.
+   */
+  public float getWinRate() {
+    return this.plays == 0 ? 0 : (float) this.wins / this.plays;
+  }
+
+  /**
+   *
+   * @return the average towers destroyed in a match, 0 if no match has been played.
+   */
+  public float getAverageDestroyedTowers() {
+    return this.plays == 0 ? 0 : (float) this.destroyedTowers / this.plays;
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return the matches played with the card type in the deck.
+   */
+  public int getCardPlays(final CardType type) {
+    return this.cardPlays[type.ordinal()];
+  }
+
+  /**
+   *
+   * @param type
+   *              a card type.
+   * @return the matches won with the card type in the deck.
+   */
+  public int getCardWins(final CardType type) {
+    return this.cardWins[type.ordinal()];
+  }
+
+  /**
+   *
+   * @return the average length of a match in seconds, 0 if no match has been played.
+   */
+  public float getAverageSeconds() {
+    return this.plays == 0 ? 0 : (float) this.ticks / GameModel.TICKS_PER_SECOND / this.plays;
+  }
+
+  /**
+   *
+   * @return the average elixir spent in a match, 0 if no match has been played.
+   */
+  public float getAverageElixir() {
+    return this.plays == 0 ? 0 : (float) this.elixirSpent / this.plays;
+  }
+}
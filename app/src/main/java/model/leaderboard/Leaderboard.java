@@ -0,0 +1,326 @@
+package model.leaderboard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import model.entities.users.User;
+
+/**
+ * The users ranked by each {@link Ranking}. Every ranking is a {@link RankTree}, so the position of a user is updated
+ * in O(log n) when its profile is saved, and the first k users are read in O(log n + k).
+ * On disk the leaderboard is a snapshot of every {@link Standing} plus a log of the standings updated since the snapshot:
+ * an update appends to the log only, and when the leaderboard is opened the snapshot is read, the trees are built from
+ * the sorted standings without rebalancing and the log is replayed. The log is folded into a new snapshot when it grows
+ * past a quarter of the snapshot, checked when it is opened and after each update. An update not completely written
+ * because of a crash is dropped.
+ */
+public final class Leaderboard {
+
+  /**
+   * The file of the snapshot.
+   */
+  public static final String SNAPSHOT_FILE = "leaderboard.snapshot";
+
+  /**
+   * The file of the log.
+   */
+  public static final String LOG_FILE = "leaderboard.log";
+
+  private static final int SNAPSHOT_MAGIC = 0x4352_4c53;
+  private static final int LOG_MAGIC = 0x4352_4c4c;
+  private static final short VERSION = 1;
+  private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+  private static final int MIN_COMPACTION = 1024;
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  private final Path snapshot;
+  private final Path log;
+  private final Map<String, Standing> standings;
+  private final Map<Ranking, RankTree<Standing>> rankings;
+  private int logged;
+  private boolean opened;
+
+  /**
+   *
+   * @param directory
+   *              where the snapshot and the log are kept.
+   */
+  public Leaderboard(final Path directory) {
+    this.snapshot = directory.resolve(SNAPSHOT_FILE);
+    this.log = directory.resolve(LOG_FILE);
+    this.standings = new HashMap<>();
+    this.rankings = new EnumMap<>(Ranking.class);
+    for (final var ranking : Ranking.values()) {
+      this.rankings.put(ranking, new RankTree<>(ranking.getOrder()));
+    }
+    this.logged = 0;
+    this.opened = false;
+  }
+
+  /**
+   *
+   * @return whether the leaderboard has been saved before.
+   */
+  public boolean exists() {
+    return Files.exists(this.snapshot) || Files.exists(this.log);
+  }
+
+  private void open() throws IOException {
+    if (this.opened) {
+      return;
+    }
+    Files.createDirectories(this.snapshot.getParent());
+    final List<Standing> read = Files.exists(this.snapshot) ? this.readSnapshot() : List.of();
+    for (final var standing : read) {
+      this.standings.put(standing.getName(), standing);
+    }
+    for (final var ranking : Ranking.values()) {
+      final List<Standing> sorted = new ArrayList<>(read);
+      sorted.sort(ranking.getOrder());
+      this.rankings.get(ranking).build(sorted);
+    }
+    if (Files.exists(this.log)) {
+      this.replayLog();
+    }
+    this.opened = true;
+    if (this.isLogTooLong()) {
+      this.compact();
+    }
+  }
+
+  private List<Standing> readSnapshot() throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.snapshot)))) {
+      if (in.readInt() != SNAPSHOT_MAGIC || in.readShort() != VERSION) {
+        throw new IOException(this.snapshot + " is not a snapshot of the leaderboard");
+      }
+      final int count = in.readInt();
+      final List<Standing> standings = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        standings.add(Standing.read(in));
+      }
+      return standings;
+    }
+  }
+
+  /**
+   * Applies the updates of the log, then drops an update left incomplete at its end. The log is read as a whole, as it is
+   * never much larger than a quarter of the snapshot.
+   */
+  private void replayLog() throws IOException {
+    final byte[] bytes = Files.readAllBytes(this.log);
+    final var stream = new ByteArrayInputStream(bytes);
+    final var in = new DataInputStream(stream);
+    int complete = 0;
+    if (bytes.length >= HEADER_SIZE) {
+      if (in.readInt() != LOG_MAGIC || in.readShort() != VERSION) {
+        throw new IOException(this.log + " is not a log of the leaderboard");
+      }
+      complete = HEADER_SIZE;
+      try {
+        while (stream.available() > 0) {
+          this.apply(Standing.read(in));
+          this.logged++;
+          complete = bytes.length - stream.available();
+        }
+      } catch (EOFException e) {
+        // the last update has not been written completely
+      }
+    }
+    if (complete < bytes.length) {
+      try (FileChannel channel = FileChannel.open(this.log, StandardOpenOption.WRITE)) {
+        channel.truncate(complete);
+      }
+    }
+  }
+
+  /**
+   * Moves a user to its new position in every ranking and appends its standing to the log.
+   *
+   * @param user
+   *              a user whose profile has been saved.
+   * @throws IOException
+   *              if the log cannot be written.
+   */
+  public void update(final User user) throws IOException {
+    this.update(Standing.of(user));
+  }
+
+  /**
+   * Moves a user to its new position in every ranking and appends its standing to the log, folding the log into a new
+   * snapshot when it has grown past a quarter of the snapshot.
+   *
+   * @param standing
+   *              the standing of a user whose profile has been saved (I.e. taken when the profile was saved, to update
+   *              the leaderboard on another thread).
+   * @throws IOException
+   *              if the log cannot be written.
+   */
+  public synchronized void update(final Standing standing) throws IOException {
+    this.open();
+    if (standing.equals(this.standings.get(standing.getName()))) {
+      return;
+    }
+    this.apply(standing);
+    final var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      if (!Files.exists(this.log) || Files.size(this.log) < HEADER_SIZE) {
+        out.writeInt(LOG_MAGIC);
+        out.writeShort(VERSION);
+      }
+      standing.write(out);
+    }
+    try (FileChannel channel = FileChannel.open(this.log, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND)) {
+      final var buffer = ByteBuffer.wrap(bytes.toByteArray());
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(false);
+    }
+    this.logged++;
+    if (this.isLogTooLong()) {
+      this.compact();
+    }
+  }
+
+  private boolean isLogTooLong() {
+    return this.logged > Math.max(MIN_COMPACTION, this.standings.size() / 4);
+  }
+
+  private void apply(final Standing standing) {
+    final var old = this.standings.put(standing.getName(), standing);
+    for (final var tree : this.rankings.values()) {
+      if (old != null) {
+        tree.remove(old);
+      }
+      tree.add(standing);
+    }
+  }
+
+  /**
+   * Writes a new snapshot, sorted by {@link Ranking#XP} so that it is read back almost in order, and empties the log.
+   * The snapshot replaces the old one atomically: replaying the old log over the new snapshot changes nothing.
+   *
+   * @throws IOException
+   *              if the snapshot cannot be written.
+   */
+  public synchronized void compact() throws IOException {
+    this.open();
+    final var temporary = this.snapshot.resolveSibling(SNAPSHOT_FILE + TEMPORARY_SUFFIX);
+    final var tree = this.rankings.get(Ranking.XP);
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+      out.writeInt(SNAPSHOT_MAGIC);
+      out.writeShort(VERSION);
+      out.writeInt(tree.size());
+      for (final var standing : tree.first(tree.size())) {
+        standing.write(out);
+      }
+    }
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    }
+    try {
+      Files.move(temporary, this.snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporary, this.snapshot, StandardCopyOption.REPLACE_EXISTING);
+    }
+    Files.deleteIfExists(this.log);
+    this.logged = 0;
+  }
+
+  /**
+   * Adds the users missing from the leaderboard (I.e. the profiles saved before the leaderboard existed).
+   *
+   * @param users
+   *              the users, which may be read one at a time.
+   * @throws IOException
+   *              if the leaderboard cannot be written.
+   */
+  public synchronized void addAll(final Iterable<User> users) throws IOException {
+    this.open();
+    for (final var user : users) {
+      if (!this.standings.containsKey(user.getName())) {
+        this.apply(Standing.of(user));
+      }
+    }
+    this.compact();
+  }
+
+  /**
+   *
+   * @return how many users are ranked.
+   * @throws IOException
+   *              if the leaderboard cannot be read.
+   */
+  public synchronized int size() throws IOException {
+    this.open();
+    return this.standings.size();
+  }
+
+  /**
+   *
+   * @param ranking
+   *              the order of the users.
+   * @param count
+   *              how many users are wanted at most.
+   * @return the best users, the best first.
+   * @throws IOException
+   *              if the leaderboard cannot be read.
+   */
+  public synchronized List<Standing> getTop(final Ranking ranking, final int count) throws IOException {
+    this.open();
+    return this.rankings.get(ranking).first(count);
+  }
+
+  /**
+   *
+   * @param ranking
+   *              the order of the users.
+   * @param name
+   *              the name of a user.
+   * @return the position of the user, from 1, or empty if the user is not ranked.
+   * @throws IOException
+   *              if the leaderboard cannot be read.
+   */
+  public synchronized OptionalInt getRank(final Ranking ranking, final String name) throws IOException {
+    this.open();
+    final var standing = this.standings.get(name);
+    return standing == null ? OptionalInt.empty() : OptionalInt.of(this.rankings.get(ranking).indexOf(standing) + 1);
+  }
+
+  /**
+   *
+   * @param ranking
+   *              the order of the users.
+   * @param rank
+   *              a position, from 1.
+   * @return the user at that position, or empty if fewer users are ranked.
+   * @throws IOException
+   *              if the leaderboard cannot be read.
+   */
+  public synchronized Optional<Standing> getAt(final Ranking ranking, final int rank) throws IOException {
+    this.open();
+    final var tree = this.rankings.get(ranking);
+    return rank < 1 || rank > tree.size() ? Optional.empty() : Optional.of(tree.get(rank - 1));
+  }
+}
@@ -0,0 +1,262 @@
+package model.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An AVL tree whose nodes know the size of their subtree, so the position of an element and the element at a position
+ * are found in O(log n), while the first k elements are read in O(log n + k).
+ * A tree is built from sorted elements in O(n).
+ *
+ * @param <T>
+ *              the type of the elements.
+ */
+final class RankTree<T> {
+
+  private final Comparator<? super T> order;
+  private Node<T> root;
+
+  private static final class Node<T> {
+    private final T value;
+    private Node<T> left;
+    private Node<T> right;
+    private int height;
+    private int size;
+
+    Node(final T value) {
+      this.value = value;
+      this.height = 1;
+      this.size = 1;
+    }
+  }
+
+  /**
+   *
+   * @param order
+   *              the order of the elements: elements comparing equal are the same element.
+   */
+  RankTree(final Comparator<? super T> order) {
+    this.order = order;
+  }
+
+  /**
+   * Replaces the elements of the tree with balanced ones.
+   *
+   * @param sorted
+   *              the new elements, sorted by the order of the tree and without duplicates.
+   */
+  void build(final List<? extends T> sorted) {
+    this.root = RankTree.build(sorted, 0, sorted.size());
+  }
+
+  private static <T> Node<T> build(final List<? extends T> sorted, final int from, final int to) {
+    if (from >= to) {
+      return null;
+    }
+    final int middle = (from + to) >>> 1;
+    final var node = new Node<T>(sorted.get(middle));
+    node.left = RankTree.build(sorted, from, middle);
+    node.right = RankTree.build(sorted, middle + 1, to);
+    RankTree.update(node);
+    return node;
+  }
+
+  /**
+   *
+   * @return how many elements are in the tree.
+   */
+  int size() {
+    return RankTree.size(this.root);
+  }
+
+  /**
+   * Adds an element, unless an equal one is in the tree.
+   *
+   * @param value
+   *              the element.
+   */
+  void add(final T value) {
+    this.root = this.add(this.root, value);
+  }
+
+  private Node<T> add(final Node<T> node, final T value) {
+    if (node == null) {
+      return new Node<>(value);
+    }
+    final int comparison = this.order.compare(value, node.value);
+    if (comparison < 0) {
+      node.left = this.add(node.left, value);
+    } else if (comparison > 0) {
+      node.right = this.add(node.right, value);
+    } else {
+      return node;
+    }
+    return RankTree.balance(node);
+  }
+
+  /**
+   * Removes an element, if it is in the tree.
+   *
+   * @param value
+   *              the element.
+   */
+  void remove(final T value) {
+    this.root = this.remove(this.root, value);
+  }
+
+  private Node<T> remove(final Node<T> node, final T value) {
+    if (node == null) {
+      return null;
+    }
+    final int comparison = this.order.compare(value, node.value);
+    if (comparison < 0) {
+      node.left = this.remove(node.left, value);
+    } else if (comparison > 0) {
+      node.right = this.remove(node.right, value);
+    } else if (node.left == null) {
+      return node.right;
+    } else if (node.right == null) {
+      return node.left;
+    } else {
+      var successor = node.right;
+      while (successor.left != null) {
+        successor = successor.left;
+      }
+      final var replacement = new Node<>(successor.value);
+      replacement.right = RankTree.removeFirst(node.right);
+      replacement.left = node.left;
+      return RankTree.balance(replacement);
+    }
+    return RankTree.balance(node);
+  }
+
+  private static <T> Node<T> removeFirst(final Node<T> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    node.left = RankTree.removeFirst(node.left);
+    return RankTree.balance(node);
+  }
+
+  /**
+   *
+   * @param value
+   *              an element.
+   * @return how many elements come before it, or -1 if it is not in the tree.
+   */
+  int indexOf(final T value) {
+    var node = this.root;
+    int before = 0;
+    while (node != null) {
+      final int comparison = this.order.compare(value, node.value);
+      if (comparison < 0) {
+        node = node.left;
+      } else if (comparison > 0) {
+        before += RankTree.size(node.left) + 1;
+        node = node.right;
+      } else {
+        return before + RankTree.size(node.left);
+      }
+    }
+    return -1;
+  }
+
+  /**
+   *
+   * @param index
+   *              the position of an element, from 0.
+   * @return the element at that position.
+   */
+  T get(final int index) {
+    if (index < 0 || index >= this.size()) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    var node = this.root;
+    int remaining = index;
+    while (true) {
+      final int left = RankTree.size(node.left);
+      if (remaining < left) {
+        node = node.left;
+      } else if (remaining > left) {
+        remaining -= left + 1;
+        node = node.right;
+      } else {
+        return node.value;
+      }
+    }
+  }
+
+  /**
+   *
+   * @param count
+   *              how many elements are wanted at most.
+   * @return the first elements, in order.
+   */
+  List<T> first(final int count) {
+    final List<T> first = new ArrayList<>(Math.min(count, this.size()));
+    final var path = new ArrayDeque<Node<T>>();
+    var node = this.root;
+    while (first.size() < count && (node != null || !path.isEmpty())) {
+      if (node != null) {
+        path.push(node);
+        node = node.left;
+      } else {
+        node = path.pop();
+        first.add(node.value);
+        node = node.right;
+      }
+    }
+    return first;
+  }
+
+  private static int size(final Node<?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static int height(final Node<?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static void update(final Node<?> node) {
+    node.height = Math.max(RankTree.height(node.left), RankTree.height(node.right)) + 1;
+    node.size = RankTree.size(node.left) + RankTree.size(node.right) + 1;
+  }
+
+  private static <T> Node<T> balance(final Node<T> node) {
+    RankTree.update(node);
+    final int balance = RankTree.height(node.left) - RankTree.height(node.right);
+    if (balance > 1) {
+      if (RankTree.height(node.left.left) < RankTree.height(node.left.right)) {
+        node.left = RankTree.rotateLeft(node.left);
+      }
+      return RankTree.rotateRight(node);
+    }
+    if (balance < -1) {
+      if (RankTree.height(node.right.right) < RankTree.height(node.right.left)) {
+        node.right = RankTree.rotateRight(node.right);
+      }
+      return RankTree.rotateLeft(node);
+    }
+    return node;
+  }
+
+  private static <T> Node<T> rotateRight(final Node<T> node) {
+    final var left = node.left;
+    node.left = left.right;
+    left.right = node;
+    RankTree.update(node);
+    RankTree.update(left);
+    return left;
+  }
+
+  private static <T> Node<T> rotateLeft(final Node<T> node) {
+    final var right = node.right;
+    node.right = right.left;
+    right.left = node;
+    RankTree.update(node);
+    RankTree.update(right);
+    return right;
+  }
+}
@@ -0,0 +1,43 @@
+package model.leaderboard;
+
+import java.util.Comparator;
+
+/**
+ * The orders of the leaderboard, the best user first. Users with the same figures are ordered by name, so that every
+ * user has a position of its own.
+ */
+public enum Ranking {
+
+  /**
+   * By level, then by xp of the level.
+   */
+  XP(Comparator.comparing(Standing::getLevel).thenComparingInt(Standing::getXp)),
+
+  /**
+   * By level.
+   */
+  LEVEL(Comparator.comparing(Standing::getLevel)),
+
+  /**
+   * By won matches.
+   */
+  WINS(Comparator.comparingInt(Standing::getWins)),
+
+  /**
+   * By ratio between won and lost matches.
+   */
+  WIN_RATIO(Comparator.comparingDouble(Standing::getRatio));
+
+  private final Comparator<Standing> order;
+
+  Ranking(final Comparator<Standing> score) {
+    this.order = score.reversed().thenComparing(Standing::getName);
+  }
+
+  /**
+   * @return the order of the users, the best first.
+   */
+  Comparator<Standing> getOrder() {
+    return this.order;
+  }
+}
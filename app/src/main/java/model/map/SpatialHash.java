@@ -0,0 +1,176 @@
+package model.map;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.Attackable;
+
+/**
+ * Spatial hash of {@link Attackable}s, used to answer range queries without scanning every entity on the field.
+ * Entities are bucketed by the square cell containing their position; buffers are reused between ticks, so
+ * rebuilding and querying the hash does not allocate once it has grown to the number of entities on the field.
+ */
+public class SpatialHash {
+
+  private static final int BUCKETS = 256;
+  private static final int DEFAULT_CAPACITY = 64;
+  private static final int X_PRIME = 73_856_093;
+  private static final int Y_PRIME = 19_349_663;
+
+  private final float cellSize;
+  private final int[] heads;
+  private int[] next;
+  private int[] cellX;
+  private int[] cellY;
+  private float[] posX;
+  private float[] posY;
+  private Attackable[] items;
+  private int size;
+  private Attackable[] results;
+  private int resultCount;
+
+  /**
+   * 
+   * @param cellSize
+   *              the side, in pixels, of each cell. Queries are fastest when it is close to the usual query radius.
+   */
+  public SpatialHash(final float cellSize) {
+    this.cellSize = cellSize;
+    this.heads = new int[BUCKETS];
+    Arrays.fill(this.heads, -1);
+    this.next = new int[DEFAULT_CAPACITY];
+    this.cellX = new int[DEFAULT_CAPACITY];
+    this.cellY = new int[DEFAULT_CAPACITY];
+    this.posX = new float[DEFAULT_CAPACITY];
+    this.posY = new float[DEFAULT_CAPACITY];
+    this.items = new Attackable[DEFAULT_CAPACITY];
+    this.results = new Attackable[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Removes every entity from the hash.
+   */
+  public void clear() {
+    Arrays.fill(this.heads, -1);
+    Arrays.fill(this.items, 0, this.size, null);
+    Arrays.fill(this.results, 0, this.resultCount, null);
+    this.size = 0;
+    this.resultCount = 0;
+  }
+
+  /**
+   * Adds an entity at its current position.
+   * 
+   * @param attackable
+   *              the entity to be added.
+   */
+  public void insert(final Attackable attackable) {
+    if (this.size == this.items.length) {
+      this.grow();
+    }
+    final int index = this.size++;
+    final var position = attackable.getPosition();
+    this.items[index] = attackable;
+    this.posX[index] = position.x;
+    this.posY[index] = position.y;
+    this.cellX[index] = this.toCell(position.x);
+    this.cellY[index] = this.toCell(position.y);
+    final int bucket = this.bucketOf(this.cellX[index], this.cellY[index]);
+    this.next[index] = this.heads[bucket];
+    this.heads[bucket] = index;
+  }
+
+  /**
+   * Clears the hash and adds every entity of the list.
+   * 
+   * @param attackables
+   *              the entities to be added.
+   */
+  public void rebuild(final List<? extends Attackable> attackables) {
+    this.clear();
+    for (final Attackable attackable : attackables) {
+      this.insert(attackable);
+    }
+  }
+
+  /**
+   * Finds every entity whose position is inside a circle. Results are read through {@link #getResult(int)} 
+   * and stay valid until the next query.
+   * 
+   * @param center
+   *              the center of the circle.
+   * @param radius
+   *              the radius of the circle.
+   * @return the number of entities found.
+   */
+  public int query(final Vector2 center, final double radius) {
+    Arrays.fill(this.results, 0, this.resultCount, null);
+    this.resultCount = 0;
+    final double squaredRadius = radius * radius;
+    final int minX = this.toCell((float) (center.x - radius));
+    final int maxX = this.toCell((float) (center.x + radius));
+    final int minY = this.toCell((float) (center.y - radius));
+    final int maxY = this.toCell((float) (center.y + radius));
+    for (int x = minX; x <= maxX; x++) {
+      for (int y = minY; y <= maxY; y++) {
+        for (int i = this.heads[this.bucketOf(x, y)]; i != -1; i = this.next[i]) {
+          if (this.cellX[i] == x && this.cellY[i] == y && this.squaredDistance(i, center) <= squaredRadius) {
+            this.addResult(this.items[i]);
+          }
+        }
+      }
+    }
+    return this.resultCount;
+  }
+
+  /**
+   * 
+   * @param index
+   *              the index of the result, between 0 and the value returned by the last query.
+   * @return an entity found by the last query.
+   */
+  public Attackable getResult(final int index) {
+    return this.results[index];
+  }
+
+  /**
+   * 
+   * @return the number of entities inside the hash.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  private void addResult(final Attackable attackable) {
+    if (this.resultCount == this.results.length) {
+      this.results = Arrays.copyOf(this.results, this.results.length * 2);
+    }
+    this.results[this.resultCount++] = attackable;
+  }
+
+  private double squaredDistance(final int index, final Vector2 center) {
+    final double dx = this.posX[index] - center.x;
+    final double dy = this.posY[index] - center.y;
+    return dx * dx + dy * dy;
+  }
+
+  private int toCell(final float coordinate) {
+    return (int) Math.floor(coordinate / this.cellSize);
+  }
+
+  private int bucketOf(final int x, final int y) {
+    return (x * X_PRIME ^ y * Y_PRIME) & (BUCKETS - 1);
+  }
+
+  private void grow() {
+    final int capacity = this.items.length * 2;
+    this.next = Arrays.copyOf(this.next, capacity);
+    this.cellX = Arrays.copyOf(this.cellX, capacity);
+    this.cellY = Arrays.copyOf(this.cellY, capacity);
+    this.posX = Arrays.copyOf(this.posX, capacity);
+    this.posY = Arrays.copyOf(this.posY, capacity);
+    this.items = Arrays.copyOf(this.items, capacity);
+  }
+}
@@ -0,0 +1,67 @@
+package model.replay;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.Side;
+import model.entities.cards.CardType;
+
+/**
+ * A card deployed during a match, as stored in a replay.
+ */
+public final class Deploy {
+
+  private final int tick;
+  private final Side side;
+  private final CardType type;
+  private final Vector2 cell;
+
+  /**
+   * 
+   * @param tick
+   *              the tick of the match before which the card has been deployed.
+   * @param side
+   *              who deployed the card.
+   * @param type
+   *              the type of the card.
+   * @param cell
+   *              the coordinates of the map unit where the card has been deployed.
+   */
+  public Deploy(final int tick, final Side side, final CardType type, final Vector2 cell) {
+    this.tick = tick;
+    this.side = side;
+    this.type = type;
+    this.cell = new Vector2(cell);
+  }
+
+  /**
+   * 
+   * @return the tick of the match before which the card has been deployed.
+   */
+  public int getTick() {
+    return this.tick;
+  }
+
+  /**
+   * 
+   * @return who deployed the card.
+   */
+  public Side getSide() {
+    return this.side;
+  }
+
+  /**
+   * 
+   * @return the type of the card.
+   */
+  public CardType getType() {
+    return this.type;
+  }
+
+  /**
+   * 
+   * @return the coordinates of the map unit where the card has been deployed.
+   */
+  public Vector2 getCell() {
+    return new Vector2(this.cell);
+  }
+}
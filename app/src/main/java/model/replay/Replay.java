@@ -0,0 +1,107 @@
+package model.replay;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+
+import model.entities.cards.Card;
+import model.entities.users.Bot;
+import model.entities.users.User;
+
+/**
+ * A recorded match: who played it, with which decks, and every card deployed.
+ */
+public final class Replay {
+
+  private final long seed;
+  private final User player;
+  private final Bot bot;
+  private final List<Card> playerDeck;
+  private final List<Card> botDeck;
+  private final List<Deploy> deploys;
+  private final OptionalInt endTick;
+
+  /**
+   * 
+   * @param seed
+   *              the seed of the match.
+   * @param player
+   *              the user who played the match.
+   * @param bot
+   *              the bot the user played against.
+   * @param playerDeck
+   *              the deck of the user.
+   * @param botDeck
+   *              the deck of the bot.
+   * @param deploys
+   *              every card deployed, sorted by tick.
+   * @param endTick
+   *              the tick the match ended at, empty if the recording was interrupted.
+   */
+  public Replay(final long seed, final User player, final Bot bot, final List<Card> playerDeck, final List<Card> botDeck, 
+      final List<Deploy> deploys, final OptionalInt endTick) {
+    this.seed = seed;
+    this.player = player;
+    this.bot = bot;
+    this.playerDeck = List.copyOf(playerDeck);
+    this.botDeck = List.copyOf(botDeck);
+    this.deploys = List.copyOf(deploys);
+    this.endTick = endTick;
+  }
+
+  /**
+   * 
+   * @return the seed of the match.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * 
+   * @return the user who played the match.
+   */
+  public User getPlayer() {
+    return this.player;
+  }
+
+  /**
+   * 
+   * @return the bot the user played against.
+   */
+  public Bot getBot() {
+    return this.bot;
+  }
+
+  /**
+   * 
+   * @return the deck of the user.
+   */
+  public List<Card> getPlayerDeck() {
+    return Collections.unmodifiableList(this.playerDeck);
+  }
+
+  /**
+   * 
+   * @return the deck of the bot.
+   */
+  public List<Card> getBotDeck() {
+    return Collections.unmodifiableList(this.botDeck);
+  }
+
+  /**
+   * 
+   * @return every card deployed, sorted by tick.
+   */
+  public List<Deploy> getDeploys() {
+    return Collections.unmodifiableList(this.deploys);
+  }
+
+  /**
+   * 
+   * @return the tick the match ended at, empty if the recording was interrupted.
+   */
+  public OptionalInt getEndTick() {
+    return this.endTick;
+  }
+}
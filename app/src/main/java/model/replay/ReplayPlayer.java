@@ -0,0 +1,76 @@
+package model.replay;
+
+import model.BotGameModel;
+import model.GameModel;
+import model.MatchResult;
+
+/**
+ * Plays a replay again, deploying its cards at the same ticks of the recorded match.
+ */
+public final class ReplayPlayer {
+
+  private final Replay replay;
+  private int nextDeploy;
+
+  /**
+   * 
+   * @param replay
+   *              the replay to be played.
+   */
+  public ReplayPlayer(final Replay replay) {
+    this.replay = replay;
+    this.nextDeploy = 0;
+  }
+
+  /**
+   * Creates the match of the replay and restarts the playback.
+   * 
+   * @return the match of the replay, before any card is deployed.
+   */
+  public BotGameModel createModel() {
+    this.nextDeploy = 0;
+    return new BotGameModel(this.replay.getPlayerDeck(), this.replay.getBotDeck(), this.replay.getPlayer(), this.replay.getBot(), this.replay.getSeed());
+  }
+
+  /**
+   * Deploys every card recorded up to the current tick of the match. It has to be called before each tick.
+   * 
+   * @param model
+   *              the match created by this player.
+   */
+  public void deployUntil(final GameModel model) {
+    final var deploys = this.replay.getDeploys();
+    while (this.nextDeploy < deploys.size() && deploys.get(this.nextDeploy).getTick() <= model.getCurrentTick()) {
+      final var deploy = deploys.get(this.nextDeploy);
+      model.deployCard(deploy.getSide(), deploy.getType(), deploy.getCell());
+      this.nextDeploy++;
+    }
+  }
+
+  /**
+   * 
+   * @param model
+   *              the match created by this player.
+   * @return whether the recorded match is over. If the recording has been interrupted, the match goes on until a side wins or time is over.
+   */
+  public boolean isOver(final GameModel model) {
+    if (this.replay.getEndTick().isPresent()) {
+      return model.getCurrentTick() >= this.replay.getEndTick().getAsInt();
+    }
+    return model.getCurrentTick() >= GameModel.MATCH_DURATION * GameModel.TICKS_PER_SECOND || model.getResult().isDecided();
+  }
+
+  /**
+   * Plays the whole replay, without drawing it.
+   * 
+   * @return the result of the match.
+   */
+  public MatchResult play() {
+    final var model = this.createModel();
+    while (!this.isOver(model)) {
+      this.deployUntil(model);
+      model.tick();
+    }
+    return model.getResult();
+  }
+}
@@ -0,0 +1,82 @@
+package model.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.Side;
+import model.entities.cards.Card;
+import model.entities.cards.CardType;
+import model.entities.users.Bot;
+import model.entities.users.User;
+import model.entities.users.UserLevel;
+
+/**
+ * Reads the replays written by {@link ReplayWriter}.
+ */
+public final class ReplayReader {
+
+  private ReplayReader() {
+  }
+
+  /**
+   * Reads a replay. The replay of a match whose recording has been interrupted keeps every complete deploy.
+   * 
+   * @param file
+   *              the file of the replay.
+   * @return the replay read.
+   * @throws IOException
+   *              if the file cannot be read or it is not a replay.
+   */
+  public static Replay read(final File file) throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != ReplayWriter.MAGIC || in.readUnsignedShort() != ReplayWriter.VERSION) {
+        throw new IOException(file + " is not a supported replay");
+      }
+      final long seed = in.readLong();
+      final var player = new User(in.readUTF());
+      player.setCurrentLevel(UserLevel.values()[in.readUnsignedByte()]);
+      final var playerDeck = ReplayReader.readDeck(in, player);
+      in.readUTF();
+      final var bot = new Bot();
+      bot.setCurrentLevel(UserLevel.values()[in.readUnsignedByte()]);
+      final var botDeck = ReplayReader.readDeck(in, bot);
+      final List<Deploy> deploys = new ArrayList<>();
+      OptionalInt endTick = OptionalInt.empty();
+      try {
+        while (endTick.isEmpty()) {
+          final int tag = in.readUnsignedByte();
+          if (tag == ReplayWriter.DEPLOY) {
+            deploys.add(new Deploy(in.readInt(), Side.values()[in.readUnsignedByte()], CardType.values()[in.readUnsignedByte()], 
+                new Vector2(in.readUnsignedByte(), in.readUnsignedByte())));
+          } else if (tag == ReplayWriter.END) {
+            endTick = OptionalInt.of(in.readInt());
+          } else {
+            throw new IOException(file + " is corrupted");
+          }
+        }
+      } catch (EOFException e) {
+        return new Replay(seed, player, bot, playerDeck, botDeck, deploys, OptionalInt.empty());
+      }
+      return new Replay(seed, player, bot, playerDeck, botDeck, deploys, endTick);
+    }
+  }
+
+  private static List<Card> readDeck(final DataInputStream in, final User owner) throws IOException {
+    final int size = in.readUnsignedByte();
+    final List<Card> deck = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final var type = CardType.values()[in.readUnsignedByte()];
+      deck.add(type.create(owner, new Vector2(in.readFloat(), in.readFloat())));
+    }
+    return deck;
+  }
+}
@@ -0,0 +1,31 @@
+package model.replay;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.Side;
+import model.entities.cards.CardType;
+
+/**
+ * Receives every card deployed during a match.
+ */
+public interface ReplayRecorder {
+
+  /**
+   * A recorder ignoring every deploy.
+   */
+  ReplayRecorder NONE = (tick, side, type, cell) -> { };
+
+  /**
+   * Records a card deployed during the match.
+   * 
+   * @param tick
+   *              the tick of the match before which the card has been deployed.
+   * @param side
+   *              who deployed the card.
+   * @param type
+   *              the type of the card.
+   * @param cell
+   *              the coordinates of the map unit where the card has been deployed.
+   */
+  void recordDeploy(int tick, Side side, CardType type, Vector2 cell);
+}
@@ -0,0 +1,146 @@
+package model.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.BotGameModel;
+import model.Side;
+import model.entities.cards.Card;
+import model.entities.cards.CardType;
+import model.entities.users.User;
+
+/**
+ * Records a match in a binary file: the header, describing players and decks, is written when the match starts, 
+ * then each deploy is appended as soon as it happens, so that nothing has to be written when the match is over.
+ */
+public final class ReplayWriter implements ReplayRecorder, Closeable {
+
+  /**
+   * The first bytes of every replay.
+   */
+  static final int MAGIC = 0x4352_5250;
+
+  /**
+   * The version of the replay format.
+   */
+  static final int VERSION = 2;
+
+  /**
+   * Tag of a deploy record.
+   */
+  static final int DEPLOY = 1;
+
+  /**
+   * Tag of the record closing a match.
+   */
+  static final int END = 2;
+
+  private final DataOutputStream out;
+  private boolean open;
+
+  private ReplayWriter(final DataOutputStream out) {
+    this.out = out;
+    this.open = true;
+  }
+
+  /**
+   * Starts the recording of a match.
+   * 
+   * @param file
+   *              where the match is recorded.
+   * @param model
+   *              the match to be recorded, before any card is deployed.
+   * @return the writer recording the match.
+   * @throws IOException
+   *              if the header of the replay cannot be written.
+   */
+  public static ReplayWriter create(final File file, final BotGameModel model) throws IOException {
+    final var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    try {
+      out.writeInt(MAGIC);
+      out.writeShort(VERSION);
+      out.writeLong(model.getSeed());
+      ReplayWriter.writeUser(out, model.getPlayer());
+      ReplayWriter.writeDeck(out, model.getPlayerDeck());
+      ReplayWriter.writeUser(out, model.getBot());
+      ReplayWriter.writeDeck(out, model.getBotDeck());
+      out.flush();
+    } catch (IOException e) {
+      out.close();
+      throw e;
+    }
+    return new ReplayWriter(out);
+  }
+
+  private static void writeUser(final DataOutputStream out, final User user) throws IOException {
+    out.writeUTF(user.getName());
+    out.writeByte(user.getCurrentLevel().ordinal());
+  }
+
+  private static void writeDeck(final DataOutputStream out, final List<Card> deck) throws IOException {
+    out.writeByte(deck.size());
+    for (final var card : deck) {
+      out.writeByte(CardType.of(card).ordinal());
+      out.writeFloat(card.getPosition().x);
+      out.writeFloat(card.getPosition().y);
+    }
+  }
+
+  @Override
+  public void recordDeploy(final int tick, final Side side, final CardType type, final Vector2 cell) {
+    if (this.open) {
+      try {
+        this.out.writeByte(DEPLOY);
+        this.out.writeInt(tick);
+        this.out.writeByte(side.ordinal());
+        this.out.writeByte(type.ordinal());
+        this.out.writeByte((int) cell.x);
+        this.out.writeByte((int) cell.y);
+        this.out.flush();
+      } catch (IOException e) {
+        e.printStackTrace();
+        this.close();
+      }
+    }
+  }
+
+  /**
+   * Records the end of the match and closes the file.
+   * 
+   * @param tick
+   *              the tick the match ended at.
+   */
+  public void end(final int tick) {
+    if (this.open) {
+      try {
+        this.out.writeByte(END);
+        this.out.writeInt(tick);
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+      this.close();
+    }
+  }
+
+  /**
+   * Closes the file, without recording the end of the match.
+   */
+  @Override
+  public void close() {
+    if (this.open) {
+      this.open = false;
+      try {
+        this.out.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
+    }
+  }
+}
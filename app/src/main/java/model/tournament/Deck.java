@@ -0,0 +1,104 @@
+package model.tournament;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.cards.Card;
+import model.entities.cards.CardType;
+import model.entities.users.User;
+
+/**
+ * A deck taking part in a tournament: the types of its cards, in the order they are drawn.
+ */
+public final class Deck {
+
+  private static final float FIRST_CARD_X = 200;
+  private static final float CARD_SPACING = 100;
+
+  private final List<CardType> types;
+
+  /**
+   *
+   * @param types
+   *              the types of the cards of the deck.
+   */
+  public Deck(final List<CardType> types) {
+    this.types = List.copyOf(types);
+  }
+
+  /**
+   * Builds every deck made of distinct card types.
+   *
+   * @param size
+   *              how many cards each deck has.
+   * @return the decks, in lexicographic order of their types.
+   */
+  public static List<Deck> combinations(final int size) {
+    final List<Deck> decks = new ArrayList<>();
+    Deck.combinations(new ArrayList<>(), 0, size, decks);
+    return Collections.unmodifiableList(decks);
+  }
+
+  private static void combinations(final List<CardType> prefix, final int from, final int size, final List<Deck> decks) {
+    if (prefix.size() == size) {
+      decks.add(new Deck(prefix));
+      return;
+    }
+    final var types = CardType.values();
+    for (int i = from; i < types.length; i++) {
+      prefix.add(types[i]);
+      Deck.combinations(prefix, i + 1, size, decks);
+      prefix.remove(prefix.size() - 1);
+    }
+  }
+
+  /**
+   *
+   * @return the types of the cards of the deck.
+   */
+  public List<CardType> getTypes() {
+    return this.types;
+  }
+
+  /**
+   * Creates the cards of the deck, laid side by side as in the hand of a user.
+   *
+   * @param owner
+   *              who owns the cards.
+   * @param handY
+   *              the vertical position of the hand.
+   * @return the cards.
+   */
+  public List<Card> create(final User owner, final float handY) {
+    final List<Card> cards = new ArrayList<>();
+    for (int i = 0; i < this.types.size(); i++) {
+      cards.add(this.types.get(i).create(owner, new Vector2(FIRST_CARD_X + i * CARD_SPACING, handY)));
+    }
+    return cards;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.types.hashCode();
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return this.types.equals(((Deck) obj).types);
+  }
+
+  @Override
+  public String toString() {
+    return this.types.stream().map(CardType::name).collect(Collectors.joining("+"));
+  }
+}
@@ -0,0 +1,348 @@
+package model.tournament;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.MatchRandom;
+import model.entities.cards.CardType;
+
+/**
+ * Searches the decks made of the card types of the game by a genetic algorithm. The fitness of a deck is its average score
+ * against a set of reference decks, over headless {@link SelfPlayGame}s played in parallel; every deck faces the references
+ * with the same seeds, so that decks are compared on the same matches. Fitness values are memoized, so a deck is never
+ * played twice, and after each generation the population, the random state and the memoized values are saved to a checkpoint
+ * a run can be resumed from.
+ */
+public final class DeckOptimizer {
+
+  /**
+   * How many copies of a card type a deck can hold.
+   */
+  public static final int MAX_COPIES = 2;
+
+  private static final int CHECKPOINT_MAGIC = 0x4352_4f50;
+  private static final int CHECKPOINT_VERSION = 1;
+  private static final int ELITES = 2;
+  private static final int SELECTION_SIZE = 3;
+  private static final int RANDOM_STATE_SIZE = Long.BYTES;
+
+  private final List<Deck> references;
+  private final int deckSize;
+  private final int populationSize;
+  private final long[][] seeds;
+  private final int threads;
+  private final MatchRandom random;
+  private final Map<Deck, Double> fitness;
+  private final AtomicLong simulatedGames;
+  private List<Deck> population;
+  private int generation;
+
+  /**
+   *
+   * @param references
+   *              the decks the candidates are played against.
+   * @param deckSize
+   *              how many cards a candidate deck has.
+   * @param populationSize
+   *              how many decks each generation has.
+   * @param gamesPerReference
+   *              how many games a candidate plays against each reference, swapping sides after each game.
+   * @param threads
+   *              how many games are played in parallel.
+   * @param seed
+   *              the seed of the search and of the games.
+   */
+  public DeckOptimizer(final List<Deck> references, final int deckSize, final int populationSize, final int gamesPerReference,
+      final int threads, final long seed) {
+    if (references.isEmpty() || deckSize < 1 || deckSize > CardType.values().length * MAX_COPIES
+        || populationSize <= ELITES || gamesPerReference < 1 || threads < 1) {
+      throw new IllegalArgumentException("Invalid optimizer configuration");
+    }
+    this.references = List.copyOf(references);
+    this.deckSize = deckSize;
+    this.populationSize = populationSize;
+    this.threads = threads;
+    this.random = new MatchRandom(seed);
+    this.seeds = new long[references.size()][gamesPerReference];
+    for (final long[] referenceSeeds : this.seeds) {
+      for (int game = 0; game < gamesPerReference; game++) {
+        referenceSeeds[game] = this.random.nextLong();
+      }
+    }
+    this.fitness = new ConcurrentHashMap<>();
+    this.simulatedGames = new AtomicLong();
+    this.population = List.of();
+    this.generation = 0;
+  }
+
+  /**
+   * Evolves the population until the given generation, resuming from the checkpoint if there is one.
+   *
+   * @param generations
+   *              the generation to be reached, counting the ones of the checkpoint.
+   * @param checkpoint
+   *              the file the state of the search is saved to after each generation.
+   * @return the fittest deck of the last generation.
+   * @throws IOException
+   *              if the checkpoint cannot be read or written.
+   */
+  public Deck run(final int generations, final Path checkpoint) throws IOException {
+    if (Files.exists(checkpoint)) {
+      this.load(checkpoint);
+    } else if (this.population.isEmpty()) {
+      final List<Deck> decks = new ArrayList<>();
+      while (decks.size() < this.populationSize) {
+        decks.add(this.randomDeck());
+      }
+      this.population = decks;
+    }
+    final ExecutorService pool = Executors.newFixedThreadPool(this.threads, r -> {
+      final var thread = new Thread(r, "deck-optimizer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      while (this.generation < generations) {
+        this.evaluate(this.population, pool);
+        this.population = this.breed();
+        this.generation++;
+        this.save(checkpoint);
+      }
+      this.evaluate(this.population, pool);
+      this.save(checkpoint);
+    } finally {
+      pool.shutdownNow();
+    }
+    return this.ranked(this.population).get(0);
+  }
+
+  private void evaluate(final List<Deck> decks, final ExecutorService pool) {
+    final List<CompletableFuture<Void>> evaluations = new ArrayList<>();
+    decks.stream().distinct().filter(deck -> !this.fitness.containsKey(deck)).forEach(deck -> {
+      final List<CompletableFuture<Double>> games = new ArrayList<>();
+      for (int reference = 0; reference < this.references.size(); reference++) {
+        for (int game = 0; game < this.seeds[reference].length; game++) {
+          final var opponent = this.references.get(reference);
+          final long seed = this.seeds[reference][game];
+          final boolean swapped = game % 2 == 1;
+          games.add(CompletableFuture.supplyAsync(() -> {
+            this.simulatedGames.incrementAndGet();
+            final double score = (swapped ? SelfPlayGame.play(opponent, deck, seed) : SelfPlayGame.play(deck, opponent, seed)).getPlayerScore();
+            return swapped ? 1 - score : score;
+          }, pool));
+        }
+      }
+      evaluations.add(CompletableFuture.allOf(games.toArray(CompletableFuture[]::new))
+          .thenRun(() -> this.fitness.put(deck, games.stream().mapToDouble(CompletableFuture::join).average().orElse(0))));
+    });
+    CompletableFuture.allOf(evaluations.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private List<Deck> ranked(final List<Deck> decks) {
+    final List<Deck> ranked = new ArrayList<>(decks);
+    ranked.sort(Comparator.comparingDouble((Deck d) -> -this.fitness.get(d)).thenComparing(Deck::toString));
+    return ranked;
+  }
+
+  private List<Deck> breed() {
+    final List<Deck> next = new ArrayList<>(this.ranked(this.population).subList(0, ELITES));
+    while (next.size() < this.populationSize) {
+      next.add(this.mutate(this.crossover(this.select(), this.select())));
+    }
+    return next;
+  }
+
+  private Deck select() {
+    Deck best = this.population.get(this.random.nextInt(this.population.size()));
+    for (int i = 1; i < SELECTION_SIZE; i++) {
+      final var other = this.population.get(this.random.nextInt(this.population.size()));
+      if (this.fitness.get(other) > this.fitness.get(best)) {
+        best = other;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Picks the cards of the child at random among the ones of both parents.
+   */
+  private List<CardType> crossover(final Deck first, final Deck second) {
+    final List<CardType> parents = new ArrayList<>(first.getTypes());
+    parents.addAll(second.getTypes());
+    final int[] copies = new int[CardType.values().length];
+    final List<CardType> child = new ArrayList<>();
+    while (child.size() < this.deckSize) {
+      final var type = parents.remove(this.random.nextInt(parents.size()));
+      if (copies[type.ordinal()] < MAX_COPIES) {
+        copies[type.ordinal()]++;
+        child.add(type);
+      }
+    }
+    return child;
+  }
+
+  /**
+   * Replaces each card with a random one with probability 1 / deck size.
+   */
+  private Deck mutate(final List<CardType> types) {
+    final int[] copies = new int[CardType.values().length];
+    types.forEach(type -> copies[type.ordinal()]++);
+    for (int i = 0; i < types.size(); i++) {
+      if (this.random.nextInt(this.deckSize) == 0) {
+        copies[types.get(i).ordinal()]--;
+        final var type = this.randomType(copies);
+        copies[type.ordinal()]++;
+        types.set(i, type);
+      }
+    }
+    return DeckOptimizer.canonical(types);
+  }
+
+  private Deck randomDeck() {
+    final int[] copies = new int[CardType.values().length];
+    final List<CardType> types = new ArrayList<>();
+    while (types.size() < this.deckSize) {
+      final var type = this.randomType(copies);
+      copies[type.ordinal()]++;
+      types.add(type);
+    }
+    return DeckOptimizer.canonical(types);
+  }
+
+  private CardType randomType(final int[] copies) {
+    CardType type;
+    do {
+      type = CardType.values()[this.random.nextInt(CardType.values().length)];
+    } while (copies[type.ordinal()] >= MAX_COPIES);
+    return type;
+  }
+
+  /**
+   * Sorts the cards of a deck, so that decks holding the same cards share their memoized fitness.
+   */
+  private static Deck canonical(final List<CardType> types) {
+    final List<CardType> sorted = new ArrayList<>(types);
+    Collections.sort(sorted);
+    return new Deck(sorted);
+  }
+
+  private void save(final Path checkpoint) throws IOException {
+    final var temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+      out.writeInt(CHECKPOINT_MAGIC);
+      out.writeShort(CHECKPOINT_VERSION);
+      out.writeInt(this.deckSize);
+      out.writeInt(this.generation);
+      final var state = ByteBuffer.allocate(RANDOM_STATE_SIZE);
+      this.random.saveState(state);
+      out.write(state.array());
+      out.writeInt(this.population.size());
+      for (final var deck : this.population) {
+        DeckOptimizer.writeDeck(out, deck);
+      }
+      out.writeInt(this.fitness.size());
+      for (final var entry : this.fitness.entrySet()) {
+        DeckOptimizer.writeDeck(out, entry.getKey());
+        out.writeDouble(entry.getValue());
+      }
+    }
+    Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private void load(final Path checkpoint) throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpoint)))) {
+      if (in.readInt() != CHECKPOINT_MAGIC || in.readUnsignedShort() != CHECKPOINT_VERSION || in.readInt() != this.deckSize) {
+        throw new IOException(checkpoint + " is not a checkpoint of this optimizer");
+      }
+      this.generation = in.readInt();
+      final byte[] state = new byte[RANDOM_STATE_SIZE];
+      in.readFully(state);
+      this.random.loadState(ByteBuffer.wrap(state));
+      final int size = in.readInt();
+      final List<Deck> decks = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        decks.add(this.readDeck(in));
+      }
+      this.population = decks;
+      final int evaluated = in.readInt();
+      for (int i = 0; i < evaluated; i++) {
+        this.fitness.put(this.readDeck(in), in.readDouble());
+      }
+    }
+  }
+
+  private static void writeDeck(final DataOutputStream out, final Deck deck) throws IOException {
+    for (final var type : deck.getTypes()) {
+      out.writeByte(type.ordinal());
+    }
+  }
+
+  private Deck readDeck(final DataInputStream in) throws IOException {
+    final List<CardType> types = new ArrayList<>(this.deckSize);
+    for (int i = 0; i < this.deckSize; i++) {
+      types.add(CardType.values()[in.readUnsignedByte()]);
+    }
+    return new Deck(types);
+  }
+
+  /**
+   *
+   * @return how many generations have been bred.
+   */
+  public int getGeneration() {
+    return this.generation;
+  }
+
+  /**
+   *
+   * @return the decks of the current generation.
+   */
+  public List<Deck> getPopulation() {
+    return Collections.unmodifiableList(this.population);
+  }
+
+  /**
+   *
+   * @param deck
+   *              a deck.
+   * @return the average score of the deck against the references, if it has been evaluated.
+   */
+  public OptionalDouble getFitness(final Deck deck) {
+    final var value = this.fitness.get(deck);
+    return value == null ? OptionalDouble.empty() : OptionalDouble.of(value);
+  }
+
+  /**
+   *
+   * @return how many decks have been evaluated.
+   */
+  public int getEvaluatedDecks() {
+    return this.fitness.size();
+  }
+
+  /**
+   *
+   * @return how many games have been played by this optimizer, not counting the ones of a resumed checkpoint.
+   */
+  public long getSimulatedGames() {
+    return this.simulatedGames.get();
+  }
+}
@@ -0,0 +1,71 @@
+package model.tournament;
+
+import java.util.Arrays;
+
+/**
+ * Elo ratings of the decks of a tournament, updated after every game.
+ */
+public final class EloRatings {
+
+  /**
+   * The rating of a deck before its first game.
+   */
+  public static final double INITIAL_RATING = 1500;
+
+  /**
+   * How much a single game can move a rating.
+   */
+  public static final double K_FACTOR = 16;
+
+  private static final double SCALE = 400;
+
+  private final double[] ratings;
+
+  /**
+   *
+   * @param decks
+   *              how many decks are rated.
+   */
+  public EloRatings(final int decks) {
+    this.ratings = new double[decks];
+    Arrays.fill(this.ratings, INITIAL_RATING);
+  }
+
+  /**
+   *
+   * @param deck
+   *              the index of a deck.
+   * @return the rating of the deck.
+   */
+  public double get(final int deck) {
+    return this.ratings[deck];
+  }
+
+  /**
+   *
+   * @param deck
+   *              the index of a deck.
+   * @param opponent
+   *              the index of the opponent.
+   * @return the score the deck is expected to get against the opponent, from 0 to 1.
+   */
+  public double expectedScore(final int deck, final int opponent) {
+    return 1 / (1 + Math.pow(10, (this.ratings[opponent] - this.ratings[deck]) / SCALE));
+  }
+
+  /**
+   * Updates the ratings of two decks after a game: the points gained by one are lost by the other.
+   *
+   * @param deck
+   *              the index of a deck.
+   * @param opponent
+   *              the index of the opponent.
+   * @param score
+   *              the score of the deck: 1 for a win, 0.5 for a draw, 0 for a loss.
+   */
+  public void update(final int deck, final int opponent, final double score) {
+    final double delta = K_FACTOR * (score - this.expectedScore(deck, opponent));
+    this.ratings[deck] += delta;
+    this.ratings[opponent] -= delta;
+  }
+}
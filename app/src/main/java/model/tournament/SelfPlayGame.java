@@ -0,0 +1,89 @@
+package model.tournament;
+
+import model.BotGameModel;
+import model.GameModel;
+import model.MatchResult;
+import model.Side;
+import model.ai.BotDifficulty;
+import model.ai.RandomBot;
+import model.entities.cards.CardType;
+import model.entities.users.Bot;
+import model.entities.users.User;
+
+/**
+ * A headless match between two decks, each one played by a {@link RandomBot} deciding at the rate of {@link BotDifficulty#EASY}.
+ * The match goes on until a side loses all its towers or time is over.
+ */
+public final class SelfPlayGame {
+
+  private static final float PLAYER_HAND_Y = 100;
+  private static final float BOT_HAND_Y = 1000;
+  private static final int MATCH_TICKS = GameModel.MATCH_DURATION * GameModel.TICKS_PER_SECOND;
+
+  private final MatchResult result;
+  private final int[][] deploys;
+
+  private SelfPlayGame(final MatchResult result, final int[][] deploys) {
+    this.result = result;
+    this.deploys = deploys;
+  }
+
+  /**
+   * Plays a match.
+   *
+   * @param playerDeck
+   *              the deck of the player side.
+   * @param botDeck
+   *              the deck of the enemy side.
+   * @param seed
+   *              the seed of the match.
+   * @return the played match.
+   */
+  public static SelfPlayGame play(final Deck playerDeck, final Deck botDeck, final long seed) {
+    final var player = new User("Player");
+    final var bot = new Bot();
+    final var model = new BotGameModel(playerDeck.create(player, PLAYER_HAND_Y), botDeck.create(bot, BOT_HAND_Y), player, bot, seed);
+    final int[][] deploys = new int[Side.values().length][CardType.values().length];
+    model.setRecorder((tick, side, type, cell) -> deploys[side.ordinal()][type.ordinal()]++);
+    final var playerBot = new RandomBot(model, Side.PLAYER);
+    final var enemyBot = new RandomBot(model, Side.ENEMY);
+    final int decisionTicks = BotDifficulty.EASY.getDecisionTicks();
+    while (model.getCurrentTick() < MATCH_TICKS && !model.getResult().isDecided()) {
+      if (model.getCurrentTick() % decisionTicks == 0) {
+        playerBot.choose(model).ifPresent(model::submit);
+        enemyBot.choose(model).ifPresent(model::submit);
+      }
+      model.tick();
+    }
+    return new SelfPlayGame(model.getResult(), deploys);
+  }
+
+  /**
+   *
+   * @return the result of the match.
+   */
+  public MatchResult getResult() {
+    return this.result;
+  }
+
+  /**
+   *
+   * @return the score of the player side: 1 for a win, 0.5 for a draw, 0 for a loss, as the side which destroyed more towers wins.
+   */
+  public double getPlayerScore() {
+    final int difference = this.result.getEnemyDestroyedTowers() - this.result.getPlayerDestroyedTowers();
+    return difference > 0 ? 1 : difference < 0 ? 0 : 0.5;
+  }
+
+  /**
+   *
+   * @param side
+   *              a side of the match.
+   * @param type
+   *              a type of card.
+   * @return how many cards of the type the side deployed.
+   */
+  public int getDeploys(final Side side, final CardType type) {
+    return this.deploys[side.ordinal()][type.ordinal()];
+  }
+}
@@ -0,0 +1,248 @@
+package model.tournament;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import model.Side;
+import model.entities.cards.CardType;
+
+/**
+ * The aggregated results of a tournament: Elo ratings, the matrix of wins between decks and the contribution of each card type.
+ * Its size depends only on the number of decks, never on the number of games played.
+ */
+public final class Standings {
+
+  private final List<Deck> decks;
+  private final EloRatings ratings;
+  private final int[][] wins;
+  private final int[][] draws;
+  private final long[] cardGames;
+  private final long[] cardWins;
+  private final long[] cardDraws;
+  private final long[] cardDeploys;
+  private final long[] cardDeploysInWins;
+  private long games;
+
+  /**
+   *
+   * @param decks
+   *              the decks of the tournament.
+   */
+  public Standings(final List<Deck> decks) {
+    this.decks = List.copyOf(decks);
+    this.ratings = new EloRatings(decks.size());
+    this.wins = new int[decks.size()][decks.size()];
+    this.draws = new int[decks.size()][decks.size()];
+    final int types = CardType.values().length;
+    this.cardGames = new long[types];
+    this.cardWins = new long[types];
+    this.cardDraws = new long[types];
+    this.cardDeploys = new long[types];
+    this.cardDeploysInWins = new long[types];
+  }
+
+  /**
+   * Adds a game to the standings.
+   *
+   * @param player
+   *              the index of the deck on the player side.
+   * @param bot
+   *              the index of the deck on the enemy side.
+   * @param game
+   *              the played game.
+   */
+  public void record(final int player, final int bot, final SelfPlayGame game) {
+    final double score = game.getPlayerScore();
+    if (score == 1) {
+      this.wins[player][bot]++;
+    } else if (score == 0) {
+      this.wins[bot][player]++;
+    } else {
+      this.draws[player][bot]++;
+      this.draws[bot][player]++;
+    }
+    this.ratings.update(player, bot, score);
+    this.recordCards(player, Side.PLAYER, score, game);
+    this.recordCards(bot, Side.ENEMY, 1 - score, game);
+    this.games++;
+  }
+
+  private void recordCards(final int deck, final Side side, final double score, final SelfPlayGame game) {
+    for (final var type : EnumSet.copyOf(this.decks.get(deck).getTypes())) {
+      final int card = type.ordinal();
+      final int deploys = game.getDeploys(side, type);
+      this.cardGames[card]++;
+      this.cardDeploys[card] += deploys;
+      if (score == 1) {
+        this.cardWins[card]++;
+        this.cardDeploysInWins[card] += deploys;
+      } else if (score != 0) {
+        this.cardDraws[card]++;
+      }
+    }
+  }
+
+  /**
+   *
+   * @return the decks of the tournament.
+   */
+  public List<Deck> getDecks() {
+    return this.decks;
+  }
+
+  /**
+   *
+   * @return the Elo ratings of the decks.
+   */
+  public EloRatings getRatings() {
+    return this.ratings;
+  }
+
+  /**
+   *
+   * @return how many games have been played.
+   */
+  public long getGames() {
+    return this.games;
+  }
+
+  /**
+   *
+   * @param deck
+   *              the index of a deck.
+   * @param opponent
+   *              the index of the opponent.
+   * @return how many games the deck won against the opponent.
+   */
+  public int getWins(final int deck, final int opponent) {
+    return this.wins[deck][opponent];
+  }
+
+  /**
+   *
+   * @param deck
+   *              the index of a deck.
+   * @param opponent
+   *              the index of the opponent.
+   * @return how many games the two decks drew.
+   */
+  public int getDraws(final int deck, final int opponent) {
+    return this.draws[deck][opponent];
+  }
+
+  /**
+   *
+   * @param deck
+   *              the index of a deck.
+   * @param opponent
+   *              the index of the opponent.
+   * @return how many games the two decks played against each other.
+   */
+  public int getGamesBetween(final int deck, final int opponent) {
+    return this.wins[deck][opponent] + this.wins[opponent][deck] + this.draws[deck][opponent];
+  }
+
+  /**
+   *
+   * @param type
+   *              a type of card.
+   * @return how many games have been played by decks containing the card.
+   */
+  public long getCardGames(final CardType type) {
+    return this.cardGames[type.ordinal()];
+  }
+
+  /**
+   *
+   * @param type
+   *              a type of card.
+   * @return how many games have been won by decks containing the card.
+   */
+  public long getCardWins(final CardType type) {
+    return this.cardWins[type.ordinal()];
+  }
+
+  /**
+   *
+   * @param type
+   *              a type of card.
+   * @return how many times the card has been deployed.
+   */
+  public long getCardDeploys(final CardType type) {
+    return this.cardDeploys[type.ordinal()];
+  }
+
+  /**
+   *
+   * @return the indexes of the decks, from the highest rated to the lowest.
+   */
+  public List<Integer> getRanking() {
+    return IntStream.range(0, this.decks.size()).boxed()
+        .sorted(Comparator.comparingDouble((Integer d) -> -this.ratings.get(d)).thenComparing(d -> d))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Writes the ratings, the win matrix and the card statistics as CSV files.
+   *
+   * @param ratingsFile
+   *              where the ratings of the decks are written, from the highest to the lowest.
+   * @param matrixFile
+   *              where the wins of each deck (row) against each other deck (column) are written.
+   * @param cardsFile
+   *              where the statistics of each card type are written.
+   * @throws IOException
+   *              if a file cannot be written.
+   */
+  public void write(final Path ratingsFile, final Path matrixFile, final Path cardsFile) throws IOException {
+    try (BufferedWriter out = Files.newBufferedWriter(ratingsFile)) {
+      out.write("rank,deck,cards,rating,wins,draws,losses");
+      out.newLine();
+      final var ranking = this.getRanking();
+      for (int rank = 0; rank < ranking.size(); rank++) {
+        final int deck = ranking.get(rank);
+        int won = 0;
+        int drawn = 0;
+        int lost = 0;
+        for (int opponent = 0; opponent < this.decks.size(); opponent++) {
+          won += this.wins[deck][opponent];
+          drawn += this.draws[deck][opponent];
+          lost += this.wins[opponent][deck];
+        }
+        out.write((rank + 1) + "," + deck + "," + this.decks.get(deck) + "," + String.format(Locale.ROOT, "%.1f", this.ratings.get(deck))
+            + "," + won + "," + drawn + "," + lost);
+        out.newLine();
+      }
+    }
+    try (BufferedWriter out = Files.newBufferedWriter(matrixFile)) {
+      out.write("deck" + IntStream.range(0, this.decks.size()).mapToObj(d -> "," + d).collect(Collectors.joining()));
+      out.newLine();
+      for (int deck = 0; deck < this.decks.size(); deck++) {
+        final int row = deck;
+        out.write(row + IntStream.range(0, this.decks.size()).mapToObj(d -> "," + this.wins[row][d]).collect(Collectors.joining()));
+        out.newLine();
+      }
+    }
+    try (BufferedWriter out = Files.newBufferedWriter(cardsFile)) {
+      out.write("card,games,wins,draws,score,deploys,deploysPerGame,deploysInWins");
+      out.newLine();
+      for (final var type : CardType.values()) {
+        final int card = type.ordinal();
+        final long played = Math.max(1, this.cardGames[card]);
+        out.write(type.name() + "," + this.cardGames[card] + "," + this.cardWins[card] + "," + this.cardDraws[card]
+            + "," + String.format(Locale.ROOT, "%.4f", (this.cardWins[card] + this.cardDraws[card] / 2.0) / played)
+            + "," + this.cardDeploys[card] + "," + String.format(Locale.ROOT, "%.2f", (double) this.cardDeploys[card] / played)
+            + "," + this.cardDeploysInWins[card]);
+        out.newLine();
+      }
+    }
+  }
+}
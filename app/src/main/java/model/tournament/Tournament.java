@@ -0,0 +1,143 @@
+package model.tournament;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import model.MatchRandom;
+
+/**
+ * Plays a tournament between decks, each game being a headless {@link SelfPlayGame}: games run in parallel on worker threads,
+ * while their results are applied to the {@link Standings} and streamed to disk in the order they have been scheduled,
+ * so that the same seed gives the same tournament whatever the number of threads.
+ * Only a bounded window of games is in flight at any time, so memory does not grow with the number of games.
+ */
+public final class Tournament {
+
+  /**
+   * The file every game is appended to.
+   */
+  public static final String GAMES_FILE = "games.csv";
+
+  /**
+   * The file of the final ratings.
+   */
+  public static final String RATINGS_FILE = "ratings.csv";
+
+  /**
+   * The file of the final win matrix.
+   */
+  public static final String MATRIX_FILE = "matrix.csv";
+
+  /**
+   * The file of the final card statistics.
+   */
+  public static final String CARDS_FILE = "cards.csv";
+
+  private static final int GAMES_PER_THREAD = 4;
+
+  private final List<Deck> decks;
+  private final TournamentFormat format;
+  private final int rounds;
+  private final int gamesPerPairing;
+  private final int threads;
+  private final long seed;
+
+  /**
+   *
+   * @param decks
+   *              the decks taking part in the tournament.
+   * @param format
+   *              how the decks are paired in each round.
+   * @param rounds
+   *              how many rounds are played.
+   * @param gamesPerPairing
+   *              how many games two paired decks play in a round, swapping sides after each game.
+   * @param threads
+   *              how many games are played in parallel.
+   * @param seed
+   *              the seed the seeds of the games are drawn from.
+   */
+  public Tournament(final List<Deck> decks, final TournamentFormat format, final int rounds, final int gamesPerPairing,
+      final int threads, final long seed) {
+    if (decks.size() < 2 || rounds < 1 || gamesPerPairing < 1 || threads < 1) {
+      throw new IllegalArgumentException("A tournament needs two decks and at least a round, a game and a thread");
+    }
+    this.decks = List.copyOf(decks);
+    this.format = format;
+    this.rounds = rounds;
+    this.gamesPerPairing = gamesPerPairing;
+    this.threads = threads;
+    this.seed = seed;
+  }
+
+  /**
+   * Plays the whole tournament, appending each game to {@link #GAMES_FILE} and writing the final standings
+   * to {@link #RATINGS_FILE}, {@link #MATRIX_FILE} and {@link #CARDS_FILE}.
+   *
+   * @param directory
+   *              where the files are written.
+   * @return the final standings.
+   * @throws IOException
+   *              if the files cannot be written.
+   */
+  public Standings run(final Path directory) throws IOException {
+    Files.createDirectories(directory);
+    final var standings = new Standings(this.decks);
+    final var random = new MatchRandom(this.seed);
+    final ExecutorService pool = Executors.newFixedThreadPool(this.threads, r -> {
+      final var thread = new Thread(r, "tournament");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try (BufferedWriter games = Files.newBufferedWriter(directory.resolve(GAMES_FILE))) {
+      games.write("round,game,playerDeck,botDeck,seed,ticks,playerDestroyedTowers,botDestroyedTowers,playerScore");
+      games.newLine();
+      for (int round = 0; round < this.rounds; round++) {
+        this.playRound(round, this.format.pair(standings), standings, random, pool, games);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    standings.write(directory.resolve(RATINGS_FILE), directory.resolve(MATRIX_FILE), directory.resolve(CARDS_FILE));
+    return standings;
+  }
+
+  private void playRound(final int round, final List<int[]> pairings, final Standings standings, final MatchRandom random,
+      final ExecutorService pool, final BufferedWriter out) throws IOException {
+    final int games = pairings.size() * this.gamesPerPairing;
+    final int capacity = this.threads * GAMES_PER_THREAD;
+    final List<CompletableFuture<SelfPlayGame>> window = new ArrayList<>(Collections.nCopies(capacity, null));
+    final int[][] sides = new int[capacity][2];
+    int scheduled = 0;
+    for (int game = 0; game < games; game++) {
+      while (scheduled < games && scheduled < game + capacity) {
+        final int[] pairing = pairings.get(scheduled / this.gamesPerPairing);
+        final boolean swapped = scheduled % 2 == 1;
+        final int slot = scheduled % capacity;
+        final var player = this.decks.get(pairing[swapped ? 1 : 0]);
+        final var bot = this.decks.get(pairing[swapped ? 0 : 1]);
+        final long gameSeed = random.nextLong();
+        sides[slot][0] = pairing[swapped ? 1 : 0];
+        sides[slot][1] = pairing[swapped ? 0 : 1];
+        window.set(slot, CompletableFuture.supplyAsync(() -> SelfPlayGame.play(player, bot, gameSeed), pool));
+        scheduled++;
+      }
+      final int slot = game % capacity;
+      final var played = window.get(slot).join();
+      standings.record(sides[slot][0], sides[slot][1], played);
+      final var result = played.getResult();
+      out.write(round + "," + (standings.getGames() - 1) + "," + sides[slot][0] + "," + sides[slot][1] + "," + result.getSeed()
+          + "," + result.getTicks() + "," + result.getPlayerDestroyedTowers() + "," + result.getEnemyDestroyedTowers()
+          + "," + played.getPlayerScore());
+      out.newLine();
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package model.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How the decks of a tournament are paired in each round.
+ */
+public enum TournamentFormat {
+
+  /**
+   * Every deck meets every other deck once per round.
+   */
+  ROUND_ROBIN {
+    @Override
+    public List<int[]> pair(final Standings standings) {
+      final int decks = standings.getDecks().size();
+      final List<int[]> pairings = new ArrayList<>();
+      for (int first = 0; first < decks; first++) {
+        for (int second = first + 1; second < decks; second++) {
+          pairings.add(new int[] {first, second});
+        }
+      }
+      return pairings;
+    }
+  },
+
+  /**
+   * Each deck meets the closest rated deck it has not met yet, so that a round costs only half the decks in games.
+   * With an odd number of decks, the lowest rated unpaired one sits the round out.
+   */
+  SWISS {
+    @Override
+    public List<int[]> pair(final Standings standings) {
+      final var ranking = standings.getRanking();
+      final boolean[] paired = new boolean[ranking.size()];
+      final List<int[]> pairings = new ArrayList<>();
+      for (int i = 0; i < ranking.size(); i++) {
+        if (!paired[i]) {
+          final int opponent = TournamentFormat.closestOpponent(standings, ranking, paired, i);
+          if (opponent >= 0) {
+            paired[i] = true;
+            paired[opponent] = true;
+            pairings.add(new int[] {ranking.get(i), ranking.get(opponent)});
+          }
+        }
+      }
+      return pairings;
+    }
+  };
+
+  private static int closestOpponent(final Standings standings, final List<Integer> ranking, final boolean[] paired, final int deck) {
+    int rematch = -1;
+    for (int j = deck + 1; j < ranking.size(); j++) {
+      if (!paired[j]) {
+        if (standings.getGamesBetween(ranking.get(deck), ranking.get(j)) == 0) {
+          return j;
+        }
+        rematch = rematch < 0 ? j : rematch;
+      }
+    }
+    return rematch;
+  }
+
+  /**
+   * Pairs the decks for the next round.
+   *
+   * @param standings
+   *              the standings after the previous rounds.
+   * @return the pairs of indexes of the decks meeting in the round.
+   */
+  public abstract List<int[]> pair(Standings standings);
+}
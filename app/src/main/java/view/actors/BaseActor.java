@@ -18,6 +18,11 @@ public class BaseActor extends Actor {
   private final Vector2 origin;
   private final float w;
   private final float h;
+  private final Vector2 previousState;
+  private final Vector2 currentState;
+  private float previousRotation;
+  private float currentRotation;
+  private boolean simulated;
 
   /**
    * Constructor.
@@ -37,6 +42,9 @@ public class BaseActor extends Actor {
     super.setSize(w, h);
     this.origin = new Vector2(x, y);
     this.elapsedTime = 0;
+    this.previousState = new Vector2();
+    this.currentState = new Vector2();
+    this.simulated = false;
     super.setPosition(x, y);
     stage.addActor(this);
   }
@@ -124,6 +132,45 @@ public class BaseActor extends Actor {
     this.rotate = (float) Math.toDegrees(Math.atan2(dst.y - super.getY() - (this.h / 2), dst.x - super.getX() - (this.w / 2))) - 90;
   }
 
+  /**
+   * Records the state of the entity drawn by this actor at the end of the last simulation tick.
+   * From now on the actor is drawn between the previous state and this one, see {@link #interpolate(float)}.
+   * 
+   * @param previous
+   *            the center of the entity at the end of the tick before the last one.
+   * @param current
+   *            the center of the entity at the end of the last tick.
+   * @param facing
+   *            the position the entity is looking at; if it is the current position the rotation is kept.
+   */
+  public void setSimulationState(final Vector2 previous, final Vector2 current, final Vector2 facing) {
+    this.previousState.set(previous);
+    this.currentState.set(current);
+    this.previousRotation = this.currentRotation;
+    if (!facing.equals(current)) {
+      this.currentRotation = (float) Math.toDegrees(Math.atan2(facing.y - current.y, facing.x - current.x)) - 90;
+    }
+    if (!this.simulated) {
+      this.previousRotation = this.currentRotation;
+      this.simulated = true;
+    }
+  }
+
+  /**
+   * Places the actor between the last two simulation states. Actors without a simulation state are left untouched.
+   * 
+   * @param alpha
+   *            how far the frame is between the last tick and the next one, from 0 to 1.
+   */
+  public void interpolate(final float alpha) {
+    if (this.simulated) {
+      this.setPosition(this.previousState.x + (this.currentState.x - this.previousState.x) * alpha,
+          this.previousState.y + (this.currentState.y - this.previousState.y) * alpha);
+      final float turn = ((this.currentRotation - this.previousRotation) % 360 + 540) % 360 - 180;
+      this.rotate = this.previousRotation + turn * alpha;
+    }
+  }
+
   /**
    * update angle of the actor.
    * 
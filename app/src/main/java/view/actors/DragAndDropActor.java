@@ -2,11 +2,9 @@ package view.actors;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 
 /**
  * Actor who has DragAndDrop functionality.
@@ -92,14 +90,4 @@ public class DragAndDropActor extends BaseActor {
     super.setPosition(this.getPosition().x + (this.w / 2), this.getPosition().y + (this.h / 2));
   }
 
-  /**
-   * Place actor in new coordinates.
-   * 
-   * @param spot
-   *            new coordinates.
-   */
-  public void moveTo(final Vector2 spot) {
-    this.addAction(Actions.moveTo(spot.x - (this.w / 2), spot.y - (this.h / 2), 2f));
-  }
-
 }
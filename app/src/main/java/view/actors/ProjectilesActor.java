@@ -0,0 +1,69 @@
+package view.actors;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Disposable;
+
+import model.combat.ProjectileSystem;
+
+/**
+ * Draws every flying projectile. All of them share one texture, so they are drawn in a single sprite batch
+ * instead of needing an actor each. The texture is owned by the actor: it has to be disposed with the screen.
+ * Like the other entities, projectiles are drawn between their last two simulation states.
+ */
+public class ProjectilesActor extends Actor implements Disposable {
+
+  private static final int SIZE = 6;
+
+  private final ProjectileSystem projectiles;
+  private final Texture texture;
+  private float alpha;
+
+  /**
+   * Constructor.
+   * 
+   * @param stage
+   *          the stage where projectiles have to be drawn.
+   * @param projectiles
+   *          the projectiles to be drawn.
+   */
+  public ProjectilesActor(final Stage stage, final ProjectileSystem projectiles) {
+    this.projectiles = projectiles;
+    final var pixmap = new Pixmap(SIZE, SIZE, Pixmap.Format.RGBA8888);
+    pixmap.setColor(Color.WHITE);
+    pixmap.fillCircle(SIZE / 2, SIZE / 2, SIZE / 2 - 1);
+    this.texture = new Texture(pixmap);
+    pixmap.dispose();
+    stage.addActor(this);
+  }
+
+  /**
+   * Sets how far the projectiles are drawn between their previous position and the current one, see {@link BaseActor#interpolate(float)}.
+   * 
+   * @param alpha
+   *          how far the current frame is between the last simulation tick and the next one, from 0 to 1.
+   */
+  public void interpolate(final float alpha) {
+    this.alpha = alpha;
+  }
+
+  @Override
+  public void draw(final Batch batch, final float parentAlpha) {
+    final var active = this.projectiles.getActive();
+    for (int i = 0; i < active.size; i++) {
+      final var previous = active.get(i).getPreviousPosition();
+      final var current = active.get(i).getPosition();
+      batch.draw(this.texture, previous.x + (current.x - previous.x) * this.alpha - SIZE / 2f,
+          previous.y + (current.y - previous.y) * this.alpha - SIZE / 2f);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    this.texture.dispose();
+  }
+}
@@ -4,8 +4,10 @@ import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
 
 import controller.Controller;
 import controller.game.GameController;
@@ -13,10 +15,13 @@ import controller.game.GameController;
 import launcher.ClashRoyale;
 import utilities.AnimationUtilities;
 import view.actors.BaseActor;
+import view.actors.ProjectilesActor;
 import view.screens.BaseScreen;
 
 /**
  * In-game screen implementation.
+ * For debugging purpose, F3 shows or hides the counters of the bot and the latest combat events, and F4 dumps the whole
+ * combat log to a file, showing the overlay with the name of the file.
  */
 public class GameScreen extends BaseScreen {
 
@@ -26,9 +31,15 @@ public class GameScreen extends BaseScreen {
   private static final int ELISIR_Y = 100;
   private static final int POINT_X = 10;
   private static final int POINT_Y = 950;
+  private static final int OVERLAY_X = 10;
+  private static final int OVERLAY_Y = 900;
 
   private SpriteBatch sprite;
   private BitmapFont gamefont;
+  private BitmapFont overlayFont;
+  private ProjectilesActor projectiles;
+  private boolean overlay;
+  private String dumped;
 
   /**
    * Constructor.
@@ -45,15 +56,32 @@ public class GameScreen extends BaseScreen {
     super.getController().setInputProcessor(getMainStage());
     sprite = new SpriteBatch();
     gamefont = new BitmapFont(Gdx.files.internal("Fonts/font.fnt"));
+    overlayFont = new BitmapFont();
     final var arena = new BaseActor(0, 0, getMainStage(), AnimationUtilities.loadTexture("arenas/arena1.png"));
     arena.setSize(ClashRoyale.WIDTH, ClashRoyale.HEIGHT);
     ((GameController) super.getController()).loadActors(getMainStage());
     ((GameController) super.getController()).loadTowers(getMainStage());
+    projectiles = ((GameController) super.getController()).loadProjectiles(getMainStage());
   }
 
   @Override
   protected void update(final float dt) {
+    if (Gdx.input.isKeyJustPressed(Keys.F3)) {
+      overlay = !overlay;
+    }
+    if (Gdx.input.isKeyJustPressed(Keys.F4)) {
+      dumped = ((GameController) super.getController()).dumpCombatLog().map(file -> "Combat log dumped to " + file)
+          .orElse("Combat log not dumped");
+      overlay = true;
+    }
     super.getController().update(dt);
+    final float alpha = ((GameController) super.getController()).getTickAlpha();
+    for (final Actor actor : getMainStage().getActors()) {
+      if (actor instanceof BaseActor) {
+        ((BaseActor) actor).interpolate(alpha);
+      }
+    }
+    projectiles.interpolate(alpha);
   }
 
   @Override
@@ -63,10 +91,27 @@ public class GameScreen extends BaseScreen {
     gamefont.draw(sprite, "Elixir " + ((GameController) super.getController()).getPlayerCurrentElixir(), GameScreen.ELISIR_X, GameScreen.ELISIR_Y);
     gamefont.draw(sprite, "Time left " + ((GameController) super.getController()).getLeftTime(), GameScreen.TIMER_X, GameScreen.TIMER_Y);
     gamefont.draw(sprite, "Score: Player->" + ((GameController) super.getController()).getEnemyDestroyedTowers() + " Bot->" + ((GameController) super.getController()).getPlayerDestroyedTowers(), GameScreen.POINT_X, GameScreen.POINT_Y);
+    if (overlay) {
+      final var controller = (GameController) super.getController();
+      controller.getBotMetrics().ifPresent(metrics -> overlayFont.draw(sprite, metrics.toString(), GameScreen.OVERLAY_X, GameScreen.OVERLAY_Y));
+      if (dumped != null) {
+        overlayFont.draw(sprite, dumped, GameScreen.OVERLAY_X, GameScreen.OVERLAY_Y - overlayFont.getLineHeight());
+      }
+      overlayFont.draw(sprite, controller.getCombatOverlay(), GameScreen.OVERLAY_X, GameScreen.OVERLAY_Y - 2 * overlayFont.getLineHeight());
+    }
     sprite.end();
    }
 
 
+  @Override
+  public void dispose() {
+    super.dispose();
+    sprite.dispose();
+    gamefont.dispose();
+    overlayFont.dispose();
+    projectiles.dispose();
+  }
+
   /**
    * Show a dialog message telling you win.
    * 
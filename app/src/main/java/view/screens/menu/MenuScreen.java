@@ -93,14 +93,14 @@ public class MenuScreen extends BaseScreen {
     buttonExit.addListener(new ClickListener() {
       @Override
       public void clicked(final InputEvent event, final float x, final float y) {
-        getController().saveUser(GlobalData.USER);
+        getController().saveUser(GlobalData.getUser());
         Gdx.app.exit();
       }
     });
     buttonExit.pad(SPACE);
 
-    buttonScore = new TextButton("Score " + GlobalData.USER.getCurrentXP(), skinLabel);
-    buttonLevel = new TextButton(GlobalData.USER.getCurrentLevel().toString(), skinLabel);
+    buttonScore = new TextButton("Score " + GlobalData.getUser().getCurrentXP(), skinLabel);
+    buttonLevel = new TextButton(GlobalData.getUser().getCurrentLevel().toString(), skinLabel);
 
     table.add(heading);
     table.getCell(heading).spaceBottom(100);
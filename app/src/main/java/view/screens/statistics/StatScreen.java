@@ -14,6 +14,8 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import controller.Controller;
 import controller.statistics.StatController;
 
+import model.leaderboard.Ranking;
+
 import launcher.ClashRoyale;
 import utilities.AnimationUtilities;
 import view.actors.BaseActor;
@@ -29,6 +31,8 @@ public class StatScreen extends BaseScreen {
   private final StatController statController;
 
   private static final int SPACE = 15;
+  private static final int MOST_USED_CARDS = 3;
+  private static final int TOP_USERS = 3;
  
   /**
    * Constructor.
@@ -68,6 +72,23 @@ public class StatScreen extends BaseScreen {
     });
     buttonReturn.pad(10);
 
+    final var buttonExport = new TextButton("EXPORT", skin);
+    buttonExport.addListener(new ClickListener() {
+      @Override
+      public void clicked(final InputEvent event, final float x, final float y) {
+        if (buttonExport.isDisabled()) {
+          return;
+        }
+        buttonExport.setDisabled(true);
+        buttonExport.setText("EXPORTING");
+        statController.exportStatistics().thenAccept(directory -> Gdx.app.postRunnable(() -> {
+          buttonExport.setText(directory.isPresent() ? "EXPORTED" : "EXPORT FAILED");
+          buttonExport.setDisabled(false);
+        }));
+      }
+    });
+    buttonExport.pad(10);
+
     table.add().spaceBottom(SPACE).row();
     table.add(heading);
     table.getCell(heading).spaceBottom(100).row();
@@ -80,6 +101,32 @@ public class StatScreen extends BaseScreen {
     table.row();
     table.add("Destroyed towers: " + statController.getTowers());
     table.row();
+    final var history = statController.getHistory();
+    table.add(String.format("Win rate: %.0f%%  Towers per game: %.2f", history.getWinRate() * 100, history.getAverageDestroyedTowers()));
+    table.row();
+    table.add("Draws: " + history.getDraws() + "  Losses: " + history.getLosses() + "  Lost towers: " + history.getLostTowers());
+    table.row();
+    table.add(String.format("Average match: %.0f s, %.1f elixir", history.getAverageSeconds(), history.getAverageElixir()));
+    table.row();
+    for (final var type : statController.getMostUsedCards(MOST_USED_CARDS)) {
+      table.add(String.format("%s: %d games, %d wins, %.0f damage per elixir, %.0f s alive", type, history.getCardPlays(type),
+          history.getCardWins(type), history.getCombat().getElixirEfficiency(type), history.getCombat().getAverageSecondsAlive(type)));
+      table.row();
+    }
+    final var week = statController.getLastWeek();
+    table.add("Last 7 days: " + week.getPlays() + " games, " + week.getWins() + " wins");
+    table.row();
+    statController.getRank(Ranking.XP).ifPresent(rank -> {
+      table.add("Leaderboard position: " + rank);
+      table.row();
+    });
+    final var top = statController.getTop(Ranking.XP, TOP_USERS);
+    for (int i = 0; i < top.size(); i++) {
+      table.add(String.format("%d. %s (%s, %d xp)", i + 1, top.get(i).getName(), top.get(i).getLevel(), top.get(i).getXp()));
+      table.row();
+    }
+    table.add(buttonExport).spaceTop(SPACE);
+    table.row();
     table.add(buttonReturn).spaceTop(SPACE).right().expandX().expandY();
 
     super.getUiStage().addActor(table);
@@ -0,0 +1,45 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AsyncFileWriterTest {
+
+  private static final int SAVES = 1000;
+
+  @Test
+  void coalescedTest(@TempDir final Path directory) throws IOException {
+    final var file = directory.resolve("user.json");
+    final var writer = new AsyncFileWriter(file);
+    for (int i = 0; i < SAVES; i++) {
+      writer.submit(("save " + i).getBytes(StandardCharsets.UTF_8));
+    }
+    writer.flush();
+    assertArrayEquals(("save " + (SAVES - 1)).getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+    assertTrue(writer.getWrites() >= 1 && writer.getWrites() < SAVES);
+    assertFalse(Files.exists(directory.resolve("user.json.tmp")));
+  }
+
+  @Test
+  void replaceTest(@TempDir final Path directory) throws IOException {
+    final var file = directory.resolve("profile").resolve("user.json");
+    final var writer = new AsyncFileWriter(file);
+    writer.flush();
+    assertEquals(0, writer.getWrites());
+    writer.submit("a long first content".getBytes(StandardCharsets.UTF_8));
+    writer.flush();
+    writer.submit("short".getBytes(StandardCharsets.UTF_8));
+    writer.flush();
+    assertEquals("short", Files.readString(file));
+  }
+}
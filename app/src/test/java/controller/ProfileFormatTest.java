@@ -0,0 +1,98 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.google.gson.Gson;
+
+import model.entities.cards.CardType;
+import model.entities.users.User;
+import model.entities.users.UserLevel;
+
+class ProfileFormatTest {
+
+  private static final byte[] NO_DECK = new byte[0];
+
+  private static User player() {
+    return new User("Player", 42, UserLevel.LVL3, 30, 17, 55);
+  }
+
+  @Test
+  void roundTripTest() throws IOException {
+    final var user = ProfileFormatTest.player();
+    assertEquals(user, ProfileFormat.read(new ByteArrayInputStream(ProfileFormat.write(user, NO_DECK))).getUser());
+  }
+
+  @Test
+  void deckTest() throws IOException {
+    final Map<CardType, Vector2> deck = new EnumMap<>(CardType.class);
+    deck.put(CardType.ARCHER, new Vector2(200, 100));
+    deck.put(CardType.GIANT, new Vector2(500, 100));
+    deck.put(CardType.INFERNO_TOWER, new Vector2(300, 100));
+    final var encoded = ProfileFormat.writeDeck(deck);
+    assertEquals(1 + 3 * 5, encoded.length);
+    final var profile = ProfileFormat.read(new ByteArrayInputStream(ProfileFormat.write(ProfileFormatTest.player(), encoded)));
+    assertEquals(ProfileFormatTest.player(), profile.getUser());
+    assertEquals(deck, ProfileFormat.readDeck(profile.getDeck()));
+    assertEquals(0, ProfileFormat.read(new ByteArrayInputStream(ProfileFormat.write(ProfileFormatTest.player(), NO_DECK)))
+        .getDeck().length);
+    assertThrows(IOException.class, () -> ProfileFormat.readDeck(new byte[] {1, 100, 0, 0, 0, 0}));
+  }
+
+  @Test
+  void jsonMigrationTest() throws IOException {
+    final var user = ProfileFormatTest.player();
+    final var json = new Gson().toJson(user);
+    assertEquals(user, ProfileFormat.readJson(new StringReader(json)));
+    assertEquals(user, ProfileFormat.readJson(new StringReader("{\"skin\":[1,2],\"name\":\"Player\",\"currentXP\":42,"
+        + "\"currentLevel\":\"LVL3\",\"plays\":30,\"wins\":17,\"destroyedTowers\":55}")));
+    assertTrue(ProfileFormat.write(user, NO_DECK).length < json.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @Test
+  void unknownFieldsTest() throws IOException {
+    final var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      out.writeInt(ProfileFormat.MAGIC);
+      out.writeShort(ProfileFormat.VERSION);
+      out.writeShort(3);
+      out.writeShort(99);
+      out.writeByte(3);
+      out.writeUTF("a field of a newer game");
+      out.writeShort(4);
+      out.writeByte(1);
+      out.writeInt(12);
+      out.writeShort(1);
+      out.writeByte(3);
+      out.writeUTF("Player");
+    }
+    final var user = ProfileFormat.read(new ByteArrayInputStream(bytes.toByteArray())).getUser();
+    assertEquals("Player", user.getName());
+    assertEquals(12, user.getPlays());
+    assertEquals(0, user.getWins());
+    assertEquals(UserLevel.LVL1, user.getCurrentLevel());
+  }
+
+  @Test
+  void unreadableTest() {
+    final var newer = ProfileFormat.write(ProfileFormatTest.player(), NO_DECK);
+    newer[5] = (byte) (ProfileFormat.VERSION + 1);
+    assertThrows(IOException.class, () -> ProfileFormat.read(new ByteArrayInputStream(newer)));
+    assertThrows(IOException.class, () -> ProfileFormat.read(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))));
+    final var truncated = ProfileFormat.write(ProfileFormatTest.player(), NO_DECK);
+    assertThrows(IOException.class, () -> ProfileFormat.read(new ByteArrayInputStream(truncated, 0, truncated.length - 2)));
+  }
+}
@@ -0,0 +1,113 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.cards.CardType;
+import model.entities.users.UserLevel;
+
+class ProfileRepositoryTest {
+
+  @Test
+  void lazyLoadingTest(@TempDir final Path directory) throws IOException {
+    final var profiles = new ProfileRepository(directory, 4);
+    assertEquals(List.of(), profiles.names());
+    assertEquals(0, profiles.getCachedProfiles());
+    final var user = profiles.get("Player");
+    assertEquals(UserLevel.LVL1, user.getCurrentLevel());
+    assertTrue(Files.exists(directory.resolve("Player" + ProfileRepository.EXTENSION)));
+    assertEquals(1, profiles.getCachedProfiles());
+    user.addPlay();
+    user.addWin();
+    profiles.save(user);
+    profiles.flush();
+    final var reloaded = new ProfileRepository(directory, 4).get("Player");
+    assertEquals(user, reloaded);
+  }
+
+  @Test
+  void cacheTest(@TempDir final Path directory) throws IOException {
+    final var profiles = new ProfileRepository(directory, 2);
+    for (int i = 0; i < 10; i++) {
+      final var user = profiles.get("user" + i);
+      for (int play = 0; play < i; play++) {
+        user.addPlay();
+      }
+      profiles.save(user);
+    }
+    assertEquals(2, profiles.getCachedProfiles());
+    profiles.flush();
+    assertEquals(10, profiles.names().size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(i, profiles.get("user" + i).getPlays());
+    }
+    assertEquals(2, profiles.getCachedProfiles());
+    assertTrue(profiles.get("user9") == profiles.get("user9"));
+  }
+
+  @Test
+  void writersTest(@TempDir final Path directory) throws IOException {
+    final var profiles = new ProfileRepository(directory, 2);
+    for (int i = 0; i < 10; i++) {
+      final var user = profiles.get("user" + i);
+      user.addPlay();
+      profiles.save(user);
+    }
+    profiles.flush();
+    assertEquals(0, profiles.getPendingWriters());
+    final var reader = new ProfileRepository(directory, 2);
+    reader.get("user0");
+    for (final var name : reader.names()) {
+      assertEquals(1, reader.peek(name).get().getPlays());
+    }
+    assertTrue(reader.peek("nobody").isEmpty());
+    assertEquals(1, reader.getCachedProfiles());
+    assertEquals(0, reader.getPendingWriters());
+  }
+
+  @Test
+  void deckTest(@TempDir final Path directory) {
+    final var profiles = new ProfileRepository(directory, 1);
+    assertTrue(profiles.getDeck("Player").isEmpty());
+    final Map<CardType, Vector2> deck = Map.of(CardType.ARCHER, new Vector2(200, 100), CardType.WIZARD, new Vector2(300, 100));
+    profiles.saveDeck("Player", deck);
+    profiles.get("Other");
+    final var player = profiles.get("Player");
+    player.addPlay();
+    profiles.save(player);
+    profiles.flush();
+    final var reloaded = new ProfileRepository(directory, 1);
+    assertEquals(deck, reloaded.getDeck("Player").get());
+    assertEquals(1, reloaded.get("Player").getPlays());
+  }
+
+  @Test
+  void namesTest(@TempDir final Path directory) throws IOException {
+    final var profiles = new ProfileRepository(directory, 4);
+    profiles.get("a/b*c");
+    profiles.get("Dream");
+    profiles.get("..");
+    assertEquals(List.of("..", "Dream", "a/b*c"), profiles.names());
+    assertEquals("a/b*c", new ProfileRepository(directory, 4).get("a/b*c").getName());
+  }
+
+  @Test
+  void unreadableTest(@TempDir final Path directory) throws IOException {
+    Files.write(directory.resolve("Player" + ProfileRepository.EXTENSION), new byte[] {1, 2, 3});
+    final var user = new ProfileRepository(directory, 4).get("Player");
+    assertEquals(0, user.getPlays());
+    assertTrue(Files.exists(directory.resolve("Player" + ProfileRepository.EXTENSION + ".unreadable")));
+    assertTrue(Files.exists(directory.resolve("Player" + ProfileRepository.EXTENSION)));
+  }
+}
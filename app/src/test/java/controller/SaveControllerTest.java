@@ -15,7 +15,7 @@ import model.GlobalData;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class SaveControllerTest extends GdxTest{
 
-  private static final  String USER_DIR_PATH = System.getProperty("user.home") + File.separator + "royaleData" + File.separator + "user.json";
+  private static final  String USER_DIR_PATH = System.getProperty("user.home") + File.separator + "royaleData" + File.separator + "profiles" + File.separator + "Dream.profile";
   private final File file = new File(USER_DIR_PATH); 
   
   @BeforeAll
@@ -26,7 +26,7 @@ class SaveControllerTest extends GdxTest{
   
   @Test
   void loadFile() {
-    assertEquals(GlobalData.USER, SaveController.loadUser());
+    assertEquals(GlobalData.getUser(), SaveController.loadUser());
   }
   
   @Test
@@ -0,0 +1,111 @@
+package controller.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.BotGameModel;
+import model.GameModel;
+import model.Side;
+import model.ai.BotDifficulty;
+import model.command.DeployCommand;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BotControllerTest extends GdxTest {
+
+  private static final int TICKS = 30 * GameModel.TICKS_PER_SECOND;
+
+  private void play(final BotGameModel model, final BotController bot) {
+    for (int tick = 0; tick < TICKS; tick++) {
+      model.tick();
+      bot.update();
+    }
+    bot.stop();
+  }
+
+  @Test
+  void synchronousDifficultiesTest() {
+    for (final var difficulty : List.of(BotDifficulty.EASY, BotDifficulty.NORMAL)) {
+      final var model = TestMatches.newMatch(5);
+      final var bot = new BotController(model, difficulty);
+      this.play(model, bot);
+      assertEquals(TICKS / difficulty.getDecisionTicks(), bot.getMetrics().getDecisions());
+      assertTrue(bot.getMetrics().getDeploys() > 0);
+      assertTrue(model.getBotDeployedCards().size() + model.getPBotCardQueue().size() > 0);
+    }
+  }
+
+  @Test
+  void searchDifficultyTest() {
+    final var model = TestMatches.newMatch(5);
+    final var bot = new BotController(model, BotDifficulty.HARD);
+    this.play(model, bot);
+    assertTrue(bot.getMetrics().getDecisions() > 0);
+    assertTrue(bot.getMetrics().getDecisions() <= TICKS / BotDifficulty.HARD.getDecisionTicks());
+  }
+
+  private BotGameModel warmUp() {
+    final var model = TestMatches.newMatch(5);
+    for (int tick = 0; tick < 10 * GameModel.TICKS_PER_SECOND; tick++) {
+      model.tick();
+    }
+    return model;
+  }
+
+  @Test
+  void missedDeadlineTest() throws InterruptedException {
+    final var model = this.warmUp();
+    final var card = model.getBotChoosableCards().get(0);
+    final var stopped = new CountDownLatch(1);
+    final var bot = new BotController(model, BotDifficulty.EASY, (m, cancelled) -> CompletableFuture.supplyAsync(() -> {
+      while (!cancelled.getAsBoolean()) {
+        Thread.onSpinWait();
+      }
+      stopped.countDown();
+      return Optional.of(new DeployCommand(Side.ENEMY, card.getId(), new Vector2(400, 600)));
+    }));
+    bot.update();
+    while (bot.getMetrics().getDecisions() == 0) {
+      Thread.onSpinWait();
+    }
+    stopped.await();
+    bot.update();
+    model.tick();
+    assertEquals(1, bot.getMetrics().getMissedDeadlines());
+    assertEquals(1, bot.getMetrics().getTimeouts());
+    assertEquals(0, bot.getMetrics().getDeploys());
+    assertTrue(model.getBotDeployedCards().isEmpty());
+  }
+
+  @Test
+  void inlineDeadlineTest() {
+    final var model = this.warmUp();
+    final var card = model.getBotChoosableCards().get(0);
+    final var bot = new BotController(model, BotDifficulty.EASY, (m, cancelled) -> {
+      while (!cancelled.getAsBoolean()) {
+        Thread.onSpinWait();
+      }
+      return CompletableFuture.completedFuture(Optional.of(new DeployCommand(Side.ENEMY, card.getId(), new Vector2(400, 600))));
+    });
+    assertTimeoutPreemptively(Duration.ofSeconds(5), bot::update);
+    model.tick();
+    assertEquals(1, bot.getMetrics().getMissedDeadlines());
+    assertEquals(1, bot.getMetrics().getTimeouts());
+    assertTrue(model.getBotDeployedCards().isEmpty());
+  }
+}
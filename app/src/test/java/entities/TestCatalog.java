@@ -0,0 +1,56 @@
+package entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.CardCatalog;
+import model.entities.cards.CardType;
+import model.entities.cards.troops.Archer;
+import model.entities.cards.troops.Valkyrie;
+import model.entities.towers.KingTower;
+import model.entities.towers.QueenTower;
+import model.entities.users.User;
+import model.entities.users.UserLevel;
+
+class TestCatalog {
+
+  /**
+   * Every card has its stats and its animations in the catalog.
+   */
+  @Test
+  void everyCardTest() {
+    final var user = new User("Panini");
+    for (final var type : CardType.values()) {
+      final var stats = CardCatalog.get(type.name());
+      final var card = type.create(user, new Vector2());
+      assertEquals(stats.getCost(), card.getCost());
+      assertEquals(stats.getMaxHP(UserLevel.LVL1), card.getCurrentHP());
+      assertEquals(stats.getDamage(UserLevel.LVL1), card.getDamage());
+      assertEquals(1, card.getAnimationFiles().get("AS_CARD").size());
+    }
+    assertThrows(IllegalArgumentException.class, () -> CardCatalog.get("FIREBALL"));
+  }
+
+  /**
+   * Stats depend on the level of the owner, while animations are shared.
+   */
+  @Test
+  void levelsTest() {
+    final var user = new User("Panini");
+    final var first = Archer.create(user, new Vector2());
+    user.setCurrentLevel(UserLevel.LVL3);
+    final var second = Archer.create(user, new Vector2());
+    assertEquals(200 * 60, first.getCurrentHP());
+    assertEquals(300 * 60, second.getCurrentHP());
+    assertSame(first.getAnimationFiles(), second.getAnimationFiles());
+    assertEquals(60, ((Valkyrie) Valkyrie.create(user, new Vector2())).getSplashRadius());
+    assertEquals(400 * 60, KingTower.create(user, new Vector2()).getCurrentHP());
+    assertEquals(200 * 60, QueenTower.create(user, new Vector2()).getCurrentHP());
+    assertEquals(400, QueenTower.create(user, new Vector2()).getProjectileSpeed());
+  }
+}
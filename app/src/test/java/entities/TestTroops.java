@@ -1,8 +1,11 @@
 package entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 import com.badlogic.gdx.math.Vector2;
@@ -73,4 +76,22 @@ class TestTroops {
     assertEquals(copy.getClass(), myTroop.getClass());
     assertEquals(copy.getOwner(), myTroop.getOwner());
   }
+
+  /**
+   * Check if troops walk toward their waypoint at their own speed.
+   */
+  @Test
+  void walkTroop() {
+    this.myTroop = Giant.create(panini, new Vector2(0, 0));
+    this.myTroop.setWaypoint(new Vector2(0, 100));
+    IntStream.range(0, 60).forEach(i -> this.myTroop.walk(1f / 60));
+
+    assertEquals(this.myTroop.getSpeed().getPixelsPerSecond(), this.myTroop.getPosition().y, 0.01);
+    assertTrue(this.myTroop.hasWaypoint());
+
+    this.myTroop.setWaypoint(new Vector2(0, 10));
+    this.myTroop.walk(1);
+    assertEquals(new Vector2(0, 10), this.myTroop.getPosition());
+    assertFalse(this.myTroop.hasWaypoint());
+  }
 }
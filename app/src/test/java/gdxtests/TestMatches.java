@@ -0,0 +1,80 @@
+package gdxtests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.BotGameModel;
+import model.entities.cards.Card;
+import model.entities.cards.CardType;
+import model.entities.users.Bot;
+import model.entities.users.User;
+
+/**
+ * Matches between a user and a bot shared by the tests of the simulation, which have to extend {@link GdxTest}.
+ */
+public final class TestMatches {
+
+  /**
+   * The deck of the user, unless another one is given.
+   */
+  public static final List<CardType> PLAYER_DECK = List.of(CardType.GIANT, CardType.ARCHER, CardType.BARBARIAN, CardType.WIZARD);
+
+  /**
+   * The deck of the bot, unless another one is given.
+   */
+  public static final List<CardType> BOT_DECK = List.of(CardType.WIZARD, CardType.BARBARIAN, CardType.GIANT, CardType.ARCHER);
+
+  /**
+   * A deck with a building.
+   */
+  public static final List<CardType> BUILDING_DECK = List.of(CardType.GIANT, CardType.GIANT, CardType.BARBARIAN, CardType.INFERNO_TOWER);
+
+  /**
+   * A deck with two splash attackers.
+   */
+  public static final List<CardType> SPLASH_DECK = List.of(CardType.WIZARD, CardType.BARBARIAN, CardType.GIANT, CardType.WIZARD);
+
+  private static final float CARD_SPACING = 100;
+  private static final float PLAYER_HAND_Y = 50;
+  private static final float BOT_HAND_Y = 1000;
+
+  private TestMatches() {
+  }
+
+  /**
+   *
+   * @param seed
+   *              the seed of the match.
+   * @return a new match with the default decks.
+   */
+  public static BotGameModel newMatch(final long seed) {
+    return TestMatches.newMatch(PLAYER_DECK, BOT_DECK, seed);
+  }
+
+  /**
+   *
+   * @param playerDeck
+   *              the card types of the user, in hand order.
+   * @param botDeck
+   *              the card types of the bot, in hand order.
+   * @param seed
+   *              the seed of the match.
+   * @return a new match between a new user and a new bot.
+   */
+  public static BotGameModel newMatch(final List<CardType> playerDeck, final List<CardType> botDeck, final long seed) {
+    final var user = new User("Panini");
+    final var bot = new Bot();
+    return new BotGameModel(TestMatches.deck(playerDeck, user, PLAYER_HAND_Y), TestMatches.deck(botDeck, bot, BOT_HAND_Y),
+        user, bot, seed);
+  }
+
+  private static List<Card> deck(final List<CardType> types, final User owner, final float y) {
+    final List<Card> cards = new ArrayList<>();
+    for (int i = 0; i < types.size(); i++) {
+      cards.add(types.get(i).create(owner, new Vector2(CARD_SPACING * (i + 1), y)));
+    }
+    return cards;
+  }
+}
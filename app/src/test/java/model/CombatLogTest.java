@@ -0,0 +1,70 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.combat.CombatEvent;
+import model.combat.CombatLog;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CombatLogTest extends GdxTest {
+
+  private static final int TICKS = 40 * GameModel.TICKS_PER_SECOND;
+
+  @Test
+  void ringTest() throws IOException {
+    final var log = new CombatLog(4);
+    assertEquals(0, log.size());
+    for (int tick = 0; tick < 6; tick++) {
+      log.setTick(tick);
+      log.record(CombatEvent.HIT, tick, tick + 10, tick * 0.5);
+    }
+    assertEquals(4, log.size());
+    assertEquals(6, log.getRecorded());
+    assertEquals(2, log.getTick(0));
+    assertEquals(5, log.getSource(3));
+    assertEquals(15, log.getTarget(3));
+    assertEquals(2.5f, log.getAmount(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> log.getTick(4));
+    log.record(CombatEvent.DEATH, 15, -1, 0);
+    final var out = new StringBuilder();
+    log.dump(out, id -> "E" + id, 2);
+    assertEquals("5 HIT E5 -> E15 damage=2.5\n5 DEATH E15\n", out.toString());
+  }
+
+  @Test
+  void matchTest() throws IOException {
+    final var model = TestMatches.newMatch(7);
+    while (model.getCurrentTick() < TICKS) {
+      if (model.getCurrentTick() % 150 == 0) {
+        model.deployPlayerCard(model.getPlayerChoosableCards().get(0), new Vector2(300, 420));
+        model.deployBotCard(model.getBotChoosableCards().get(0), new Vector2(400, 600));
+      }
+      model.tick();
+    }
+    final var log = model.getCombatLog();
+    final var events = EnumSet.noneOf(CombatEvent.class);
+    for (int i = 0; i < log.size(); i++) {
+      events.add(log.getEvent(i));
+      assertTrue(log.getTick(i) < TICKS);
+      assertTrue(i == 0 || log.getTick(i - 1) <= log.getTick(i));
+    }
+    assertTrue(events.containsAll(EnumSet.of(CombatEvent.DEPLOY, CombatEvent.TARGET_ACQUIRED, CombatEvent.HIT)));
+    final var out = new StringBuilder();
+    log.dump(out, model::describe);
+    assertEquals(log.size(), out.toString().split("\n").length);
+    assertTrue(out.toString().contains(" TARGET_ACQUIRED PLAYER "));
+  }
+}
@@ -0,0 +1,128 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.ai.BotDifficulty;
+import model.combat.CombatTelemetry;
+import model.combat.DamageBatch;
+import model.entities.cards.CardType;
+import model.entities.cards.troops.Archer;
+import model.entities.cards.troops.Giant;
+import model.entities.towers.QueenTower;
+import model.entities.users.Bot;
+import model.entities.users.User;
+import model.history.CombatStatistics;
+import model.history.MatchHistory;
+import model.history.MatchRecord;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CombatTelemetryTest extends GdxTest {
+
+  private static final int TICKS = 60 * GameModel.TICKS_PER_SECOND;
+
+  @Test
+  void batchTest() {
+    final var telemetry = new CombatTelemetry();
+    final var batch = new DamageBatch(telemetry);
+    final var user = new User("Panini");
+    final var archer = Archer.create(user, new Vector2(300, 300));
+    final var giant = Giant.create(new Bot(), new Vector2(300, 390));
+    final var tower = QueenTower.create(new Bot(), new Vector2(238, 657));
+    final double life = archer.getCurrentHP();
+    archer.setId(0);
+    giant.setId(1);
+    tower.setId(200);
+    batch.add(0, giant, 10);
+    batch.add(0, tower, 5);
+    batch.add(1, archer, life + 100);
+    batch.apply();
+    assertEquals(15, telemetry.getDamageDealt(0));
+    assertEquals(5, telemetry.getTowerDamage(0));
+    assertEquals(10, telemetry.getDamageTaken(1));
+    assertEquals(5, telemetry.getDamageTaken(200));
+    assertEquals(life, telemetry.getDamageDealt(1));
+    assertEquals(0, telemetry.getTowerDamage(1));
+    telemetry.tickAlive(List.of(archer, giant));
+    telemetry.tickAlive(List.of(giant));
+    assertEquals(1, telemetry.getTicksAlive(0));
+    assertEquals(2, telemetry.getTicksAlive(1));
+    assertEquals(0, telemetry.getTicksAlive(500));
+  }
+
+  @Test
+  void matchTest() {
+    final var model = TestMatches.newMatch(7);
+    final List<CardType> deployed = new ArrayList<>();
+    while (model.getCurrentTick() < TICKS) {
+      if (model.getCurrentTick() % 200 == 0) {
+        final var card = model.getPlayerChoosableCards().get(0);
+        if (model.deployPlayerCard(card, new Vector2(300, 420))) {
+          deployed.add(CardType.of(card));
+        }
+      }
+      if (model.getCurrentTick() % 250 == 0) {
+        model.deployBotCard(model.getBotChoosableCards().get(0), new Vector2(400, 600));
+      }
+      model.tick();
+    }
+    final var combat = model.getCombatStatistics(Side.PLAYER);
+    long deploys = 0;
+    long dealt = 0;
+    for (final var type : CardType.values()) {
+      assertEquals(deployed.stream().filter(type::equals).count(), combat.getDeploys(type));
+      deploys += combat.getDeploys(type);
+      dealt += combat.getDamageDealt(type);
+      assertTrue(combat.getTowerDamage(type) <= combat.getDamageDealt(type));
+    }
+    assertEquals(deployed.size(), deploys);
+    assertTrue(dealt > 0);
+    assertTrue(combat.getAverageSecondsAlive(deployed.get(0)) > 0);
+    final var enemy = model.getCombatStatistics(Side.ENEMY);
+    assertTrue(enemy.getDeploys(CardType.WIZARD) > 0);
+  }
+
+  @Test
+  void historyTest(@TempDir final Path directory) throws IOException {
+    final var combat = new CombatStatistics();
+    combat.add(CardType.GIANT, 5, 1200.4, 800, 2000, 300);
+    combat.add(CardType.GIANT, 5, 600, 0, 1000, 150);
+    combat.add(CardType.ARCHER, 3, 300, 0, 250, 90);
+    final var deck = List.of(CardType.GIANT, CardType.ARCHER);
+    final var history = new MatchHistory(directory);
+    history.append(new MatchRecord(1, deck, BotDifficulty.EASY, 1, 0, 60, 13, combat));
+    final List<MatchRecord> read = new ArrayList<>();
+    history.forEach(0, read::add);
+    assertEquals(combat, read.get(0).getCombat());
+    final var totals = history.getTotals().getCombat();
+    assertEquals(2, totals.getDeploys(CardType.GIANT));
+    assertEquals(1800, totals.getDamageDealt(CardType.GIANT));
+    assertEquals(180, totals.getElixirEfficiency(CardType.GIANT));
+    assertEquals(7.5f, totals.getAverageSecondsAlive(CardType.GIANT));
+    assertEquals(0, totals.getDeploys(CardType.WIZARD));
+
+    Files.delete(directory.resolve(MatchHistory.COLUMNS_DIR).resolve("combat.col"));
+    final var older = new MatchHistory(directory);
+    assertEquals(1, older.size());
+    older.append(new MatchRecord(2, deck, BotDifficulty.EASY, 0, 1, 60, 13, combat));
+    final List<MatchRecord> padded = new ArrayList<>();
+    older.forEach(0, padded::add);
+    assertEquals(new CombatStatistics(), padded.get(0).getCombat());
+    assertEquals(combat, padded.get(1).getCombat());
+  }
+}
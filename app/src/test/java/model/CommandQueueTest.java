@@ -0,0 +1,72 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import model.command.CommandQueue;
+
+class CommandQueueTest {
+
+  private static final int PRODUCERS = 4;
+  private static final int COMMANDS = 10_000;
+
+  @Test
+  void orderTest() {
+    final var queue = new CommandQueue();
+    final List<Integer> executed = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      final int n = i;
+      queue.submit(model -> executed.add(n));
+    }
+    assertEquals(3, queue.drain(null));
+    assertEquals(List.of(0, 1, 2), executed);
+    assertTrue(queue.isEmpty());
+    assertEquals(0, queue.drain(null));
+  }
+
+  @Test
+  void concurrentProducersTest() throws InterruptedException {
+    final var queue = new CommandQueue();
+    final var start = new CountDownLatch(1);
+    final List<Thread> producers = new ArrayList<>();
+    final int[] last = new int[PRODUCERS];
+    final boolean[] ordered = {true};
+    for (int p = 0; p < PRODUCERS; p++) {
+      final int producer = p;
+      last[p] = -1;
+      final var thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        for (int i = 0; i < COMMANDS; i++) {
+          final int n = i;
+          queue.submit(model -> {
+            ordered[0] &= last[producer] == n - 1;
+            last[producer] = n;
+          });
+        }
+      });
+      producers.add(thread);
+      thread.start();
+    }
+    start.countDown();
+    int executed = 0;
+    while (producers.stream().anyMatch(Thread::isAlive)) {
+      executed += queue.drain(null);
+    }
+    for (final var thread : producers) {
+      thread.join();
+    }
+    executed += queue.drain(null);
+    assertEquals(PRODUCERS * COMMANDS, executed);
+    assertTrue(ordered[0]);
+  }
+}
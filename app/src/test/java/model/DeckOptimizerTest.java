@@ -0,0 +1,60 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import gdxtests.GdxTest;
+
+import model.entities.cards.CardType;
+import model.tournament.Deck;
+import model.tournament.DeckOptimizer;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DeckOptimizerTest extends GdxTest {
+
+  private static final List<Deck> REFERENCES = List.of(new Deck(List.of(CardType.WIZARD, CardType.BARBARIAN, CardType.GIANT, CardType.WIZARD)));
+  private static final int GAMES = 2;
+
+  private DeckOptimizer newOptimizer() {
+    return new DeckOptimizer(REFERENCES, 4, 4, GAMES, 2, 7);
+  }
+
+  @Test
+  void memoizedTest(@TempDir final Path directory) throws IOException {
+    final var optimizer = this.newOptimizer();
+    final var best = optimizer.run(2, directory.resolve("checkpoint"));
+    assertEquals(2, optimizer.getGeneration());
+    assertEquals(optimizer.getEvaluatedDecks() * GAMES, optimizer.getSimulatedGames());
+    assertTrue(optimizer.getFitness(best).isPresent());
+    optimizer.getPopulation().forEach(deck -> {
+      assertEquals(4, deck.getTypes().size());
+      assertTrue(optimizer.getFitness(deck).isPresent());
+      for (final var type : CardType.values()) {
+        assertTrue(deck.getTypes().stream().filter(type::equals).count() <= DeckOptimizer.MAX_COPIES);
+      }
+    });
+    optimizer.getPopulation().forEach(deck -> assertTrue(optimizer.getFitness(best).getAsDouble() >= optimizer.getFitness(deck).getAsDouble()));
+  }
+
+  @Test
+  void resumeTest(@TempDir final Path directory) throws IOException {
+    final var interrupted = this.newOptimizer();
+    interrupted.run(1, directory.resolve("resumed"));
+    final var resumed = this.newOptimizer();
+    resumed.run(2, directory.resolve("resumed"));
+    assertEquals(2, resumed.getGeneration());
+    assertEquals((resumed.getEvaluatedDecks() - interrupted.getEvaluatedDecks()) * GAMES, resumed.getSimulatedGames());
+
+    final var uninterrupted = this.newOptimizer();
+    uninterrupted.run(2, directory.resolve("uninterrupted"));
+    assertEquals(uninterrupted.getPopulation(), resumed.getPopulation());
+  }
+}
@@ -0,0 +1,87 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.ai.InfluenceMap;
+import model.ai.UtilityBot;
+import model.map.GameMap;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InfluenceMapTest extends GdxTest {
+
+  @Test
+  void incrementalTest() {
+    final var model = TestMatches.newMatch(11);
+    final var influence = new InfluenceMap();
+    influence.update(model);
+    assertEquals(6, influence.getRestamped());
+    influence.update(model);
+    assertEquals(0, influence.getRestamped());
+    int restamped = 0;
+    for (int tick = 1; tick <= 60 * GameModel.TICKS_PER_SECOND; tick++) {
+      if (tick % 200 == 0) {
+        model.deployPlayerCard(model.getPlayerChoosableCards().get(0), new Vector2(300, 420));
+        model.deployBotCard(model.getBotChoosableCards().get(0), new Vector2(400, 600));
+      }
+      model.tick();
+      influence.update(model);
+      restamped += influence.getRestamped();
+    }
+    assertTrue(restamped < 60 * GameModel.TICKS_PER_SECOND);
+    final var rebuilt = new InfluenceMap();
+    rebuilt.update(model);
+    for (final var side : Side.values()) {
+      for (int lane = 0; lane < InfluenceMap.LANES; lane++) {
+        assertEquals(rebuilt.getLanePressure(side, lane), influence.getLanePressure(side, lane));
+      }
+      for (int row = 1; row <= GameMap.ROWS; row++) {
+        for (int column = 1; column <= GameMap.COLUMNS; column++) {
+          assertEquals(rebuilt.getDps(side, column, row), influence.getDps(side, column, row));
+          assertEquals(rebuilt.getPresence(side, column, row), influence.getPresence(side, column, row));
+          assertEquals(rebuilt.getTowerThreat(side, column, row), influence.getTowerThreat(side, column, row));
+        }
+      }
+    }
+  }
+
+  @Test
+  void towerThreatTest() {
+    final var model = TestMatches.newMatch(11);
+    final var influence = new InfluenceMap();
+    influence.update(model);
+    final var tower = model.getPlayerActiveTowers().get(0).getPosition();
+    final int column = GameMap.getColumn(tower.x);
+    final int row = GameMap.getRow(tower.y);
+    assertTrue(influence.getTowerThreat(Side.PLAYER, column, row) > 0);
+    assertEquals(0, influence.getTowerThreat(Side.ENEMY, column, row));
+    assertEquals(0, influence.getPresence(Side.PLAYER, column, row));
+  }
+
+  @Test
+  void utilityBotTest() {
+    final var model = TestMatches.newMatch(11);
+    final var bot = new UtilityBot(model.getGameMap());
+    for (int tick = 0; tick < 5 * GameModel.TICKS_PER_SECOND; tick++) {
+      model.tick();
+    }
+    assertTrue(bot.choose(model).isEmpty());
+    for (int tick = 0; tick < 5 * GameModel.TICKS_PER_SECOND; tick++) {
+      model.tick();
+    }
+    final var decision = bot.choose(model);
+    assertTrue(decision.isPresent());
+    assertTrue(decision.get().getPosition().y > 500);
+    model.submit(decision.get());
+    model.tick();
+    assertEquals(1, model.getBotDeployedCards().size());
+  }
+}
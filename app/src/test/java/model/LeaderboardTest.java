@@ -0,0 +1,142 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.entities.users.User;
+import model.entities.users.UserLevel;
+import model.leaderboard.Leaderboard;
+import model.leaderboard.Ranking;
+import model.leaderboard.Standing;
+
+class LeaderboardTest {
+
+  private static final int USERS = 300;
+
+  private static User user(final String name, final int level, final int xp, final int plays, final int wins) {
+    return new User(name, xp, UserLevel.values()[level], plays, wins, 0);
+  }
+
+  private static List<String> names(final List<Standing> standings) {
+    return standings.stream().map(Standing::getName).collect(Collectors.toList());
+  }
+
+  @Test
+  void rankingTest(@TempDir final Path directory) throws IOException {
+    final var leaderboard = new Leaderboard(directory);
+    leaderboard.update(user("a", 2, 10, 10, 3));
+    leaderboard.update(user("b", 2, 50, 4, 3));
+    leaderboard.update(user("c", 0, 90, 20, 12));
+    leaderboard.update(user("d", 2, 10, 2, 0));
+    assertEquals(List.of("b", "a", "d", "c"), names(leaderboard.getTop(Ranking.XP, 10)));
+    assertEquals(List.of("a", "b", "d", "c"), names(leaderboard.getTop(Ranking.LEVEL, 10)));
+    assertEquals(List.of("c", "a", "b"), names(leaderboard.getTop(Ranking.WINS, 3)));
+    assertEquals(List.of("b", "c"), names(leaderboard.getTop(Ranking.WIN_RATIO, 2)));
+    assertEquals(OptionalInt.of(4), leaderboard.getRank(Ranking.WIN_RATIO, "d"));
+    assertEquals(OptionalInt.empty(), leaderboard.getRank(Ranking.XP, "e"));
+    assertEquals("c", leaderboard.getAt(Ranking.WINS, 1).get().getName());
+    assertEquals(Optional.empty(), leaderboard.getAt(Ranking.WINS, 5));
+    leaderboard.update(user("c", 3, 0, 21, 13));
+    assertEquals(OptionalInt.of(1), leaderboard.getRank(Ranking.XP, "c"));
+    assertEquals(4, leaderboard.size());
+  }
+
+  @Test
+  void randomUpdatesTest(@TempDir final Path directory) throws IOException {
+    final var random = new Random(7);
+    final var leaderboard = new Leaderboard(directory);
+    final List<Standing> expected = new ArrayList<>();
+    for (int i = 0; i < USERS * 5; i++) {
+      final var name = "user" + random.nextInt(USERS);
+      final int plays = random.nextInt(50);
+      final var user = user(name, random.nextInt(5), random.nextInt(100), plays, random.nextInt(plays + 1));
+      leaderboard.update(user);
+      expected.removeIf(standing -> standing.getName().equals(name));
+      expected.add(Standing.of(user));
+    }
+    for (final var ranking : Ranking.values()) {
+      final List<Standing> sorted = new ArrayList<>(expected);
+      sorted.sort(LeaderboardTest.order(ranking));
+      assertEquals(sorted, leaderboard.getTop(ranking, USERS));
+      for (int i = 0; i < sorted.size(); i++) {
+        assertEquals(OptionalInt.of(i + 1), leaderboard.getRank(ranking, sorted.get(i).getName()));
+      }
+    }
+    final var reopened = new Leaderboard(directory);
+    for (final var ranking : Ranking.values()) {
+      assertEquals(leaderboard.getTop(ranking, USERS), reopened.getTop(ranking, USERS));
+    }
+  }
+
+  private static Comparator<Standing> order(final Ranking ranking) {
+    switch (ranking) {
+      case XP:
+        return (a, b) -> a.getLevel() != b.getLevel() ? b.getLevel().compareTo(a.getLevel())
+            : a.getXp() != b.getXp() ? Integer.compare(b.getXp(), a.getXp()) : a.getName().compareTo(b.getName());
+      case LEVEL:
+        return (a, b) -> a.getLevel() != b.getLevel() ? b.getLevel().compareTo(a.getLevel()) : a.getName().compareTo(b.getName());
+      case WINS:
+        return (a, b) -> a.getWins() != b.getWins() ? Integer.compare(b.getWins(), a.getWins()) : a.getName().compareTo(b.getName());
+      default:
+        return (a, b) -> a.getRatio() != b.getRatio() ? Float.compare(b.getRatio(), a.getRatio())
+            : a.getName().compareTo(b.getName());
+    }
+  }
+
+  @Test
+  void persistenceTest(@TempDir final Path directory) throws IOException {
+    final var leaderboard = new Leaderboard(directory);
+    assertFalse(leaderboard.exists());
+    leaderboard.addAll(List.of(user("a", 1, 0, 1, 1), user("b", 0, 5, 1, 0)));
+    assertTrue(Files.exists(directory.resolve(Leaderboard.SNAPSHOT_FILE)));
+    leaderboard.update(user("b", 2, 0, 2, 1));
+    leaderboard.update(user("c", 0, 0, 0, 0));
+    final long complete = Files.size(directory.resolve(Leaderboard.LOG_FILE));
+    leaderboard.update(user("d", 4, 0, 9, 9));
+    try (var channel = FileChannel.open(directory.resolve(Leaderboard.LOG_FILE), StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(directory.resolve(Leaderboard.LOG_FILE)) - 3);
+    }
+    final var reopened = new Leaderboard(directory);
+    assertEquals(List.of("b", "a", "c"), names(reopened.getTop(Ranking.XP, 10)));
+    assertEquals(complete, Files.size(directory.resolve(Leaderboard.LOG_FILE)));
+    reopened.update(user("d", 4, 0, 9, 9));
+    reopened.compact();
+    assertFalse(Files.exists(directory.resolve(Leaderboard.LOG_FILE)));
+    assertEquals(List.of("d", "b", "a", "c"), names(new Leaderboard(directory).getTop(Ranking.XP, 10)));
+  }
+
+  @Test
+  void compactionTest(@TempDir final Path directory) throws IOException {
+    final var leaderboard = new Leaderboard(directory);
+    final var log = directory.resolve(Leaderboard.LOG_FILE);
+    leaderboard.update(new Standing("x0", UserLevel.LVL1, 0, 0, 0));
+    final long first = Files.size(log);
+    leaderboard.update(new Standing("x0", UserLevel.LVL1, 1, 1, 0));
+    final long record = Files.size(log) - first;
+    long longest = 0;
+    for (int i = 0; i < 3000; i++) {
+      leaderboard.update(new Standing("u" + i % 10, UserLevel.LVL1, i, i, 0));
+      longest = Math.max(longest, Files.exists(log) ? Files.size(log) : 0);
+    }
+    assertTrue(Files.exists(directory.resolve(Leaderboard.SNAPSHOT_FILE)));
+    assertTrue(longest <= first + 1024 * record);
+    assertEquals("u9", new Leaderboard(directory).getAt(Ranking.XP, 1).get().getName());
+  }
+}
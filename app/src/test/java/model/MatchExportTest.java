@@ -0,0 +1,129 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.ai.BotDifficulty;
+import model.entities.cards.CardType;
+import model.history.MatchExport;
+import model.history.MatchFilter;
+import model.history.MatchHistory;
+import model.history.MatchRecord;
+import model.history.MatchStatistics;
+
+class MatchExportTest {
+
+  private static final int MATCHES = 5_000;
+  private static final List<List<CardType>> DECKS = List.of(
+      List.of(CardType.ARCHER, CardType.GIANT, CardType.WIZARD, CardType.VALKYRIE),
+      List.of(CardType.BARBARIAN, CardType.GIANT, CardType.INFERNO_TOWER, CardType.WIZARD),
+      List.of(CardType.MINI_PEKKA, CardType.ARCHER, CardType.VALKYRIE, CardType.BARBARIAN));
+
+  private static List<MatchRecord> fill(final MatchHistory history) throws IOException {
+    final List<MatchRecord> matches = new ArrayList<>();
+    for (int i = 0; i < MATCHES; i++) {
+      final var match = new MatchRecord(1000L * i, DECKS.get(i % DECKS.size()), BotDifficulty.values()[i % 7 % 3], i % 4,
+          i % 3, 60 * GameModel.TICKS_PER_SECOND + i, i % 50);
+      matches.add(match);
+    }
+    history.appendAll(matches);
+    return matches;
+  }
+
+  private static List<Long> timestamps(final List<MatchRecord> matches) {
+    final List<Long> timestamps = new ArrayList<>();
+    matches.forEach(match -> timestamps.add(match.getTimestamp()));
+    return timestamps;
+  }
+
+  @Test
+  void filterTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    final var matches = MatchExportTest.fill(history);
+    final var filters = List.of(MatchFilter.all(),
+        MatchFilter.all().between(1_000_000, 4_500_000),
+        MatchFilter.all().withCards(CardType.GIANT),
+        MatchFilter.all().withCards(CardType.ARCHER, CardType.BARBARIAN).against(BotDifficulty.HARD, BotDifficulty.EASY),
+        MatchFilter.all().between(500_000, 4_900_000).against(BotDifficulty.NORMAL),
+        MatchFilter.all().withCards(CardType.INFERNO_TOWER, CardType.ARCHER));
+    for (final var filter : filters) {
+      final List<MatchRecord> expected = new ArrayList<>();
+      final var statistics = new MatchStatistics();
+      for (final var match : matches) {
+        if (filter.test(match)) {
+          expected.add(match);
+          statistics.add(match);
+        }
+      }
+      final List<MatchRecord> read = new ArrayList<>();
+      history.forEach(filter, read::add);
+      assertEquals(timestamps(expected), timestamps(read));
+      final var aggregated = history.getStatistics(filter);
+      assertEquals(statistics.getPlays(), aggregated.getPlays());
+      assertEquals(statistics.getWins(), aggregated.getWins());
+      assertEquals(statistics.getCardPlays(CardType.GIANT), aggregated.getCardPlays(CardType.GIANT));
+      assertEquals(statistics.getAverageElixir(), aggregated.getAverageElixir());
+    }
+  }
+
+  @Test
+  void csvTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    history.append(new MatchRecord(0, DECKS.get(0), BotDifficulty.HARD, 2, 1, 3 * GameModel.TICKS_PER_SECOND, 17));
+    history.append(new MatchRecord(1000, DECKS.get(1), BotDifficulty.EASY, 0, 0, GameModel.TICKS_PER_SECOND, 4));
+    final var csv = new StringWriter();
+    assertEquals(1, MatchExport.writeCsv(history, MatchFilter.all().against(BotDifficulty.HARD), csv));
+    assertEquals("ended,deck,opponent,destroyed_towers,lost_towers,result,seconds,elixir_spent\n"
+        + "1970-01-01T00:00:00Z,ARCHER GIANT WIZARD VALKYRIE,HARD,2,1,WIN,3.0,17\n", csv.toString());
+    final var cards = new StringWriter();
+    MatchExport.writeCardsCsv(history.getTotals(), cards);
+    final var lines = cards.toString().split("\n");
+    assertEquals(CardType.values().length + 1, lines.length);
+    assertEquals("GIANT,2,1,0.5,0,0,0,0,0.0,0.0", lines[1 + CardType.GIANT.ordinal()]);
+  }
+
+  @Test
+  void columnarTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    final var matches = MatchExportTest.fill(history);
+    final var filter = MatchFilter.all().between(0, Long.MAX_VALUE);
+    final var bytes = new ByteArrayOutputStream();
+    final long written = MatchExport.writeColumnar(history, filter, bytes);
+    final List<Long> expected = new ArrayList<>();
+    matches.stream().filter(filter::test).forEach(match -> expected.add(match.getTimestamp()));
+    assertEquals(MATCHES, written);
+    try (var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      in.readInt();
+      assertEquals(1, in.readShort());
+      final int columns = in.readShort();
+      final int[] widths = new int[columns];
+      assertEquals(7, columns);
+      for (int i = 0; i < columns; i++) {
+        in.readUTF();
+        widths[i] = in.readShort();
+      }
+      final List<Long> timestamps = new ArrayList<>();
+      for (int rows = in.readInt(); rows > 0; rows = in.readInt()) {
+        for (int row = 0; row < rows; row++) {
+          timestamps.add(in.readLong());
+        }
+        for (int column = 1; column < columns; column++) {
+          in.skipBytes(rows * widths[column]);
+        }
+      }
+      assertEquals(expected, timestamps);
+      assertEquals(written, in.readLong());
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.ai.BotDifficulty;
+import model.entities.cards.CardType;
+import model.history.MatchHistory;
+import model.history.MatchRecord;
+
+class MatchHistoryTest {
+
+  private static final List<CardType> DECK = List.of(CardType.ARCHER, CardType.GIANT, CardType.WIZARD, CardType.VALKYRIE);
+
+  private static MatchRecord match(final long timestamp, final int destroyed, final int lost) {
+    return new MatchRecord(timestamp, DECK, BotDifficulty.NORMAL, destroyed, lost, 90 * GameModel.TICKS_PER_SECOND, 20);
+  }
+
+  private static List<Long> timestamps(final MatchHistory history, final long from, final long to) throws IOException {
+    final List<Long> timestamps = new ArrayList<>();
+    history.forEachBetween(from, to, r -> timestamps.add(r.getTimestamp()));
+    return timestamps;
+  }
+
+  @Test
+  void recordTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    history.append(new MatchRecord(42, DECK, BotDifficulty.HARD, 2, 1, 1234, 37));
+    final List<MatchRecord> read = new ArrayList<>();
+    new MatchHistory(directory).forEach(0, read::add);
+    assertEquals(1, read.size());
+    final var record = read.get(0);
+    assertEquals(42, record.getTimestamp());
+    assertEquals(DECK, record.getDeck());
+    assertEquals(BotDifficulty.HARD, record.getOpponent());
+    assertEquals(2, record.getDestroyedTowers());
+    assertEquals(1, record.getLostTowers());
+    assertEquals(1234, record.getTicks());
+    assertEquals(37, record.getElixirSpent());
+    final var columns = directory.resolve(MatchHistory.COLUMNS_DIR);
+    assertEquals(8 + 1, Files.size(columns.resolve("destroyed.col")));
+    assertEquals(8 + Long.BYTES, Files.size(columns.resolve("timestamp.col")));
+  }
+
+  @Test
+  void totalsTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    history.append(match(1, 3, 0));
+    history.append(match(2, 1, 1));
+    history.append(match(3, 0, 2));
+    var totals = history.getTotals();
+    assertEquals(3, totals.getPlays());
+    assertEquals(1, totals.getWins());
+    assertEquals(1, totals.getDraws());
+    assertEquals(1, totals.getLosses());
+    assertEquals(4, totals.getDestroyedTowers());
+    assertEquals(3, totals.getLostTowers());
+    assertEquals(90, totals.getAverageSeconds(), 1e-6);
+    assertEquals(20, totals.getAverageElixir(), 1e-6);
+    assertEquals(1 / 3f, totals.getWinRate(), 1e-6);
+    assertEquals(4 / 3f, totals.getAverageDestroyedTowers(), 1e-6);
+    assertEquals(3, totals.getCardPlays(CardType.ARCHER));
+    assertEquals(1, totals.getCardWins(CardType.ARCHER));
+    assertEquals(0, totals.getCardPlays(CardType.BARBARIAN));
+    history.append(match(4, 2, 0));
+    totals = history.getTotals();
+    assertEquals(4, totals.getPlays());
+    assertEquals(2, totals.getWins());
+    assertEquals(4, new MatchHistory(directory).getTotals().getPlays());
+  }
+
+  @Test
+  void rangeTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    final int matches = 323;
+    for (int i = 0; i < matches; i++) {
+      history.append(match(i * 1000L, 1, 0));
+    }
+    final var reopened = new MatchHistory(directory);
+    final var range = MatchHistoryTest.timestamps(reopened, 64_500, 200_000);
+    assertEquals(200 - 65, range.size());
+    assertEquals(65_000, range.get(0));
+    assertEquals(199_000, range.get(range.size() - 1));
+    assertEquals(matches, MatchHistoryTest.timestamps(reopened, Long.MIN_VALUE, Long.MAX_VALUE).size());
+    assertEquals(List.of(0L), MatchHistoryTest.timestamps(reopened, 0, 1));
+    assertEquals(List.of(), MatchHistoryTest.timestamps(reopened, matches * 1000L, Long.MAX_VALUE));
+    assertEquals(10, reopened.getStatistics(10_000, 20_000).getPlays());
+  }
+
+  @Test
+  void clockSetBackTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    history.append(match(5000, 1, 0));
+    history.append(match(3000, 1, 0));
+    assertEquals(List.of(5000L, 5000L), MatchHistoryTest.timestamps(history, 0, Long.MAX_VALUE));
+  }
+
+  @Test
+  void batchTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    history.append(match(1000, 1, 0));
+    history.appendAll(List.of(match(2000, 3, 0), match(1500, 0, 2), match(4000, 1, 1)));
+    history.appendAll(List.of());
+    assertEquals(List.of(1000L, 2000L, 2000L, 4000L), MatchHistoryTest.timestamps(history, 0, Long.MAX_VALUE));
+    final var reopened = new MatchHistory(directory);
+    assertEquals(4, reopened.size());
+    assertEquals(5, reopened.getTotals().getDestroyedTowers());
+  }
+
+  @Test
+  void recoveryTest(@TempDir final Path directory) throws IOException {
+    final var history = new MatchHistory(directory);
+    final int matches = 10;
+    for (int i = 0; i < matches; i++) {
+      history.append(match(i, 0, 1));
+    }
+    try (FileChannel elixir = FileChannel.open(directory.resolve(MatchHistory.COLUMNS_DIR).resolve("elixir.col"),
+        StandardOpenOption.WRITE)) {
+      elixir.truncate(elixir.size() - Integer.BYTES - 2);
+    }
+    final var reopened = new MatchHistory(directory);
+    assertEquals(matches - 2, reopened.size());
+    assertEquals(8 + matches - 2, Files.size(directory.resolve(MatchHistory.COLUMNS_DIR).resolve("lost.col")));
+    reopened.append(match(matches, 1, 0));
+    assertEquals(matches - 1, reopened.getTotals().getPlays());
+    assertEquals(1, reopened.getTotals().getWins());
+    assertEquals(matches - 1, new MatchHistory(directory).size());
+  }
+
+  @Test
+  void migrationTest(@TempDir final Path directory) throws IOException {
+    try (var out = new DataOutputStream(Files.newOutputStream(directory.resolve("matches.log")))) {
+      out.writeInt(0x4352_4d48);
+      out.writeShort(1);
+      out.writeShort(27);
+      for (int i = 0; i < 3; i++) {
+        out.writeLong(1000 + i);
+        out.write(new byte[] {0, 2, 5, 4, -1, -1, -1, -1});
+        out.write(new byte[] {(byte) BotDifficulty.EASY.ordinal(), 2, (byte) i});
+        out.writeInt(2700);
+        out.writeInt(30 + i);
+      }
+      out.write(new byte[] {1, 2, 3});
+    }
+    Files.createFile(directory.resolve("matches.idx"));
+    final var history = new MatchHistory(directory);
+    final List<MatchRecord> read = new ArrayList<>();
+    history.forEach(0, read::add);
+    assertEquals(3, read.size());
+    assertEquals(DECK, read.get(2).getDeck());
+    assertEquals(BotDifficulty.EASY, read.get(2).getOpponent());
+    assertEquals(1002, read.get(2).getTimestamp());
+    assertEquals(2, read.get(2).getLostTowers());
+    assertEquals(32, read.get(2).getElixirSpent());
+    assertFalse(Files.exists(directory.resolve("matches.log")));
+    assertFalse(Files.exists(directory.resolve("matches.idx")));
+    assertEquals(2, new MatchHistory(directory).getTotals().getWins());
+  }
+}
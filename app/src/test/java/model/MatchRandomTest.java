@@ -0,0 +1,60 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+class MatchRandomTest {
+
+  private static final long SEED = 1234;
+
+  @Test
+  void sameSeedTest() {
+    final var first = new MatchRandom(SEED);
+    final var second = new MatchRandom(SEED);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.nextLong(), second.nextLong());
+    }
+    assertNotEquals(new MatchRandom(SEED).nextLong(), new MatchRandom(SEED + 1).nextLong());
+  }
+
+  @Test
+  void boundsTest() {
+    final var random = new MatchRandom(SEED);
+    for (int i = 0; i < 1000; i++) {
+      final int n = random.nextInt(150, 551);
+      assertTrue(n >= 150 && n <= 550);
+      final float f = random.nextFloat();
+      assertTrue(f >= 0 && f < 1);
+    }
+  }
+
+  @Test
+  void splitTest() {
+    final var first = new MatchRandom(SEED);
+    final var second = new MatchRandom(SEED);
+    final var firstSplit = first.split();
+    final var secondSplit = second.split();
+    for (int i = 0; i < 10; i++) {
+      first.nextLong();
+    }
+    assertEquals(firstSplit.nextLong(), secondSplit.nextLong());
+    assertNotEquals(secondSplit.nextLong(), second.nextLong());
+  }
+
+  @Test
+  void stateTest() {
+    final var random = new MatchRandom(SEED);
+    final var buffer = ByteBuffer.allocate(Long.BYTES);
+    random.nextLong();
+    random.saveState(buffer);
+    final long expected = random.nextLong();
+    buffer.flip();
+    random.loadState(buffer);
+    assertEquals(expected, random.nextLong());
+  }
+}
@@ -0,0 +1,69 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.ai.MonteCarloSearch;
+import model.command.DeployCommand;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MonteCarloSearchTest extends GdxTest {
+
+  private static final long BUDGET = 50;
+
+  @Test
+  void noElixirTest() throws InterruptedException, ExecutionException {
+    final var model = TestMatches.newMatch(TestMatches.BUILDING_DECK, TestMatches.SPLASH_DECK, 3);
+    try (var search = new MonteCarloSearch(model, BUDGET, 2)) {
+      final var decision = search.decide(model, () -> false);
+      assertTrue(decision.isDone());
+      assertTrue(decision.get().isEmpty());
+    }
+  }
+
+  @Test
+  void decisionTest() throws InterruptedException, ExecutionException, TimeoutException {
+    final var model = TestMatches.newMatch(TestMatches.BUILDING_DECK, TestMatches.SPLASH_DECK, 3);
+    for (int tick = 0; tick < 10 * GameModel.TICKS_PER_SECOND; tick++) {
+      model.tick();
+    }
+    model.deployPlayerCard(model.getPlayerChoosableCards().get(0), new Vector2(300, 420));
+    final int tick = model.getCurrentTick();
+    final int hp = (int) model.getBotActiveTowers().get(0).getCurrentHP();
+    try (var search = new MonteCarloSearch(model, BUDGET, 2)) {
+      final long start = System.nanoTime();
+      final Optional<DeployCommand> decision = search.decide(model, () -> false).get(BUDGET * 20, TimeUnit.MILLISECONDS);
+      assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(BUDGET * 10));
+      decision.ifPresent(command -> {
+        assertTrue(model.getBotChoosableCards().stream().anyMatch(c -> c.getId() == command.getCardId()));
+        assertTrue(command.getPosition().y > 500);
+      });
+    }
+    assertTrue(tick == model.getCurrentTick() && hp == (int) model.getBotActiveTowers().get(0).getCurrentHP());
+  }
+
+  @Test
+  void cancelTest() throws InterruptedException, ExecutionException, TimeoutException {
+    final var model = TestMatches.newMatch(TestMatches.BUILDING_DECK, TestMatches.SPLASH_DECK, 3);
+    for (int tick = 0; tick < 10 * GameModel.TICKS_PER_SECOND; tick++) {
+      model.tick();
+    }
+    try (var search = new MonteCarloSearch(model, BUDGET * 100, 2)) {
+      final long start = System.nanoTime();
+      search.decide(model, () -> true).get(BUDGET * 20, TimeUnit.MILLISECONDS);
+      assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(BUDGET * 10));
+    }
+  }
+}
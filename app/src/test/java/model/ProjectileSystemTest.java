@@ -0,0 +1,53 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.combat.DamageBatch;
+import model.combat.ProjectileSystem;
+import model.entities.RangedAttacker;
+import model.entities.cards.troops.Archer;
+import model.entities.cards.troops.Giant;
+import model.entities.cards.troops.Troop;
+import model.entities.users.Bot;
+import model.entities.users.User;
+import model.map.SpatialHash;
+
+class ProjectileSystemTest {
+
+  private static final float TICK = GameModel.TICK_DURATION;
+
+  @Test
+  void hitOnArrivalTest() {
+    final var archer = (RangedAttacker) Archer.create(new User("Panini"), new Vector2(300, 300));
+    final Troop giant = Giant.create(new Bot(), new Vector2(300, 390));
+    final double maxHP = giant.getCurrentHP();
+    final var projectiles = new ProjectileSystem();
+    final var batch = new DamageBatch();
+
+    projectiles.fire(archer, giant, new SpatialHash(64));
+    assertEquals(1, projectiles.getActive().size);
+    final var fired = projectiles.getActive().get(0);
+    final var origin = new Vector2(fired.getPosition());
+    assertEquals(origin, fired.getPreviousPosition());
+    projectiles.update(TICK, batch);
+    batch.apply();
+    assertEquals(maxHP, giant.getCurrentHP());
+    assertEquals(origin, fired.getPreviousPosition());
+    assertTrue(fired.getPosition().y > origin.y);
+    final var moved = new Vector2(fired.getPosition());
+    projectiles.update(TICK, batch);
+    assertEquals(moved, fired.getPreviousPosition());
+
+    for (int i = 0; i < 60 && projectiles.getActive().size > 0; i++) {
+      projectiles.update(TICK, batch);
+      batch.apply();
+    }
+    assertEquals(0, projectiles.getActive().size);
+    assertEquals(maxHP - archer.getDamage() * GameModel.HITS_PER_TICK * archer.getReload().getTicks(), giant.getCurrentHP());
+  }
+}
@@ -0,0 +1,107 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.command.DeployCommand;
+import model.entities.cards.CardType;
+import model.replay.Replay;
+import model.replay.ReplayPlayer;
+import model.replay.ReplayReader;
+import model.replay.ReplayWriter;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplayTest extends GdxTest {
+
+  private static final long SEED = 42;
+  private static final int TICKS = 50 * GameModel.TICKS_PER_SECOND;
+  private static final int LAST_DEPLOY = 1200;
+
+  @TempDir
+  File directory;
+
+  private MatchResult record(final File file, final boolean end) throws IOException {
+    final var model = TestMatches.newMatch(TestMatches.BUILDING_DECK, TestMatches.SPLASH_DECK, SEED);
+    final var writer = ReplayWriter.create(file, model);
+    model.setRecorder(writer);
+    for (int tick = 0; tick < TICKS; tick++) {
+      if (tick % 150 == 0 && tick > 0 && tick <= LAST_DEPLOY) {
+        model.deployPlayerCard(model.getPlayerChoosableCards().get(0), new Vector2(300, 420));
+      }
+      if (tick % 300 == 0 && tick >= 900 && tick <= LAST_DEPLOY) {
+        model.deployBotCard(model.getBotChoosableCards().get(1), new Vector2(400, 600));
+      }
+      model.tick();
+    }
+    if (end) {
+      writer.end(model.getCurrentTick());
+    } else {
+      writer.close();
+    }
+    return model.getResult();
+  }
+
+  @Test
+  void recordTest() throws IOException {
+    final var file = new File(this.directory, "record.replay");
+    this.record(file, true);
+    final Replay replay = ReplayReader.read(file);
+    assertEquals(SEED, replay.getSeed());
+    assertEquals(CardType.INFERNO_TOWER, CardType.of(replay.getPlayerDeck().get(3)));
+    assertEquals(new Vector2(200, 1000), replay.getBotDeck().get(1).getPosition());
+    assertEquals(10, replay.getDeploys().size());
+    assertEquals(TICKS, replay.getEndTick().getAsInt());
+    assertEquals(Side.ENEMY, replay.getDeploys().get(9).getSide());
+    assertEquals(LAST_DEPLOY, replay.getDeploys().get(9).getTick());
+    assertTrue(file.length() < 1024);
+  }
+
+  @Test
+  void playbackTest() throws IOException {
+    final var file = new File(this.directory, "playback.replay");
+    final var result = this.record(file, true);
+    assertTrue(result.getEnemyDestroyedTowers() > 0);
+    assertEquals(result, new ReplayPlayer(ReplayReader.read(file)).play());
+  }
+
+  @Test
+  void submittedDeployTest() {
+    final var model = TestMatches.newMatch(TestMatches.BUILDING_DECK, TestMatches.SPLASH_DECK, SEED);
+    for (int tick = 0; tick < 150; tick++) {
+      model.tick();
+    }
+    final var card = model.getPlayerChoosableCards().get(0);
+    model.submit(new DeployCommand(Side.PLAYER, card.getId(), new Vector2(300, 420)));
+    assertTrue(model.getPlayerDeployedCards().isEmpty());
+    model.tick();
+    assertEquals(List.of(card), model.getPlayerDeployedCards());
+    assertFalse(model.getPlayerChoosableCards().contains(card));
+  }
+
+  @Test
+  void interruptedRecordingTest() throws IOException {
+    final var file = new File(this.directory, "interrupted.replay");
+    this.record(file, false);
+    try (var raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(raf.length() - 3);
+    }
+    final Replay replay = ReplayReader.read(file);
+    assertFalse(replay.getEndTick().isPresent());
+    assertEquals(9, replay.getDeploys().size());
+  }
+}
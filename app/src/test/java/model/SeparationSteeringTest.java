@@ -0,0 +1,85 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.entities.cards.troops.Barbarian;
+import model.entities.cards.troops.Troop;
+import model.entities.users.User;
+import model.map.SeparationSteering;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SeparationSteeringTest extends GdxTest {
+
+  private static final float RADIUS = 16;
+  private static final int TROOPS = 500;
+  private static final long BUDGET_NANOS = 1_000_000;
+
+  private final User panini = new User("Panini");
+
+  @Test
+  void stackedTroopsTest() {
+    final var position = new Vector2(300, 300);
+    final List<Troop> troops = List.of(Barbarian.create(panini, position), Barbarian.create(panini, position), Barbarian.create(panini, position));
+    final var steering = new SeparationSteering(RADIUS);
+    steering.resolve(troops);
+    final var first = steering.getOffset(0, new Vector2());
+    final var second = steering.getOffset(1, new Vector2());
+    assertTrue(first.len() > 0);
+    assertTrue(second.len() > 0);
+    assertTrue(!first.epsilonEquals(second));
+  }
+
+  @Test
+  void farTroopsTest() {
+    final List<Troop> troops = List.of(Barbarian.create(panini, new Vector2(100, 100)), Barbarian.create(panini, new Vector2(300, 300)));
+    final var steering = new SeparationSteering(RADIUS);
+    steering.resolve(troops);
+    assertEquals(new Vector2(), steering.getOffset(0, new Vector2()));
+    assertEquals(new Vector2(), steering.getOffset(1, new Vector2()));
+  }
+
+  @Test
+  void crowdedMatchTest() {
+    final var model = TestMatches.newMatch(TestMatches.BUILDING_DECK, TestMatches.SPLASH_DECK, 3);
+    while (model.getPlayerElixir() < Elixir.MAX) {
+      model.tick();
+    }
+    final var first = model.getPlayerChoosableCards().get(0);
+    final var second = model.getPlayerChoosableCards().get(1);
+    final var position = new Vector2(300, 420);
+    assertTrue(model.deployPlayerCard(first, position) && model.deployPlayerCard(second, position));
+    for (int tick = 0; tick < 2 * GameModel.TICKS_PER_SECOND; tick++) {
+      model.tick();
+    }
+    assertTrue(first.getPosition().dst(second.getPosition()) > RADIUS * 0.9f);
+  }
+
+  @Test
+  void budgetTest() {
+    final var random = new Random(0);
+    final List<Troop> troops = new ArrayList<>();
+    IntStream.range(0, TROOPS).forEach(i -> troops.add(Barbarian.create(panini, new Vector2(175 + random.nextInt(340), 255 + random.nextInt(465)))));
+    final var steering = new SeparationSteering(RADIUS);
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < 200; i++) {
+      final long start = System.nanoTime();
+      steering.resolve(troops);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    assertTrue(best < BUDGET_NANOS, "separation pass took " + best / 1000 + " us");
+  }
+}
@@ -0,0 +1,96 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.badlogic.gdx.math.Vector2;
+
+import gdxtests.GdxTest;
+import gdxtests.TestMatches;
+
+import model.entities.Attackable;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SnapshotTest extends GdxTest {
+
+  private static final int SNAPSHOT_TICK = 40 * GameModel.TICKS_PER_SECOND;
+  private static final int TICKS = 60 * GameModel.TICKS_PER_SECOND;
+
+  private void play(final BotGameModel model, final int until) {
+    while (model.getCurrentTick() < until) {
+      final int tick = model.getCurrentTick();
+      if (tick % 200 == 0) {
+        model.deployPlayerCard(model.getPlayerChoosableCards().get(0), new Vector2(300, 420));
+      }
+      if (tick % 250 == 0) {
+        model.deployBotCard(model.getBotChoosableCards().get(0), new Vector2(400, 600));
+      }
+      model.tick();
+    }
+  }
+
+  private double totalHP(final BotGameModel model) {
+    return Stream.concat(model.getPlayerAttackable().stream(), model.getBotAttackable().stream())
+        .mapToDouble(Attackable::getCurrentHP)
+        .sum();
+  }
+
+  @Test
+  void rollbackTest() {
+    final var model = TestMatches.newMatch(7);
+    final var ring = new SnapshotRing(4);
+    this.play(model, SNAPSHOT_TICK);
+    final long id = ring.save(model);
+    final int elixir = model.getPlayerElixir();
+    final double hp = this.totalHP(model);
+    this.play(model, TICKS);
+    final var result = model.getResult();
+    final double finalHP = this.totalHP(model);
+    assertNotEquals(hp, finalHP);
+    assertTrue(ring.restore(model, id));
+    assertEquals(SNAPSHOT_TICK, model.getCurrentTick());
+    assertEquals(elixir, model.getPlayerElixir());
+    assertEquals(hp, this.totalHP(model));
+    this.play(model, TICKS);
+    assertEquals(result, model.getResult());
+    assertEquals(finalHP, this.totalHP(model));
+  }
+
+  @Test
+  void restoreInAnotherMatchTest() {
+    final var model = TestMatches.newMatch(7);
+    final var ring = new SnapshotRing(4);
+    this.play(model, SNAPSHOT_TICK);
+    final long id = ring.save(model);
+    this.play(model, TICKS);
+    final var other = TestMatches.newMatch(7);
+    other.loadState(ring.get(id));
+    this.play(other, TICKS);
+    assertEquals(model.getResult(), other.getResult());
+    assertEquals(this.totalHP(model), this.totalHP(other));
+  }
+
+  @Test
+  void evictionTest() {
+    final var model = TestMatches.newMatch(7);
+    final var ring = new SnapshotRing(2, 16);
+    final long first = ring.save(model);
+    model.tick();
+    final long second = ring.save(model);
+    model.tick();
+    final long third = ring.save(model);
+    assertEquals(2, ring.size());
+    assertFalse(ring.contains(first));
+    assertFalse(ring.restore(model, first));
+    assertTrue(ring.restore(model, second));
+    assertEquals(1, model.getCurrentTick());
+    assertFalse(ring.contains(third));
+  }
+}
@@ -0,0 +1,55 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import model.entities.Attackable;
+import model.entities.cards.troops.Barbarian;
+import model.entities.users.User;
+import model.map.SpatialHash;
+
+class SpatialHashTest {
+
+  private final User panini = new User("Panini");
+  private SpatialHash hash;
+
+  @BeforeEach
+  void setUp() {
+    this.hash = new SpatialHash(64);
+  }
+
+  @Test
+  void rangeQueryTest() {
+    final Attackable near = Barbarian.create(panini, new Vector2(300, 300));
+    final Attackable border = Barbarian.create(panini, new Vector2(340, 300));
+    final Attackable far = Barbarian.create(panini, new Vector2(500, 500));
+    this.hash.rebuild(List.of(near, border, far));
+    assertEquals(3, this.hash.size());
+
+    final int found = this.hash.query(new Vector2(300, 300), 40);
+    final Set<Attackable> results = new HashSet<>();
+    IntStream.range(0, found).forEach(i -> results.add(this.hash.getResult(i)));
+    assertEquals(2, found);
+    assertTrue(results.contains(near));
+    assertTrue(results.contains(border));
+  }
+
+  @Test
+  void growAndClearTest() {
+    IntStream.range(0, 200).forEach(i -> this.hash.insert(Barbarian.create(panini, new Vector2(i * 3, i * 3))));
+    assertEquals(200, this.hash.size());
+    assertEquals(200, this.hash.query(new Vector2(300, 300), 900));
+    this.hash.clear();
+    assertEquals(0, this.hash.query(new Vector2(300, 300), 900));
+  }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import gdxtests.GdxTest;
+
+import model.entities.cards.CardType;
+import model.tournament.Deck;
+import model.tournament.EloRatings;
+import model.tournament.Standings;
+import model.tournament.Tournament;
+import model.tournament.TournamentFormat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TournamentTest extends GdxTest {
+
+  private static final List<Deck> DECKS = List.of(
+      new Deck(List.of(CardType.GIANT, CardType.WIZARD, CardType.ARCHER, CardType.BARBARIAN)),
+      new Deck(List.of(CardType.MINI_PEKKA, CardType.VALKYRIE, CardType.ARCHER, CardType.WIZARD)),
+      new Deck(List.of(CardType.BARBARIAN, CardType.VALKYRIE, CardType.GIANT, CardType.MINI_PEKKA)));
+
+  @Test
+  void roundRobinTest(@TempDir final Path directory) throws IOException {
+    final var standings = new Tournament(DECKS, TournamentFormat.ROUND_ROBIN, 1, 2, 2, 42).run(directory.resolve("parallel"));
+    assertEquals(6, standings.getGames());
+    double ratings = 0;
+    for (int deck = 0; deck < DECKS.size(); deck++) {
+      ratings += standings.getRatings().get(deck);
+      for (int opponent = 0; opponent < DECKS.size(); opponent++) {
+        if (deck != opponent) {
+          assertEquals(2, standings.getGamesBetween(deck, opponent));
+        }
+      }
+    }
+    assertEquals(DECKS.size() * EloRatings.INITIAL_RATING, ratings, 1e-6);
+    assertEquals(8, standings.getCardGames(CardType.ARCHER));
+    assertEquals(7, Files.readAllLines(directory.resolve("parallel").resolve(Tournament.GAMES_FILE)).size());
+    assertEquals(4, Files.readAllLines(directory.resolve("parallel").resolve(Tournament.RATINGS_FILE)).size());
+    assertEquals(4, Files.readAllLines(directory.resolve("parallel").resolve(Tournament.MATRIX_FILE)).size());
+    assertEquals(CardType.values().length + 1, Files.readAllLines(directory.resolve("parallel").resolve(Tournament.CARDS_FILE)).size());
+
+    new Tournament(DECKS, TournamentFormat.ROUND_ROBIN, 1, 2, 1, 42).run(directory.resolve("sequential"));
+    assertEquals(Files.readAllLines(directory.resolve("parallel").resolve(Tournament.GAMES_FILE)),
+        Files.readAllLines(directory.resolve("sequential").resolve(Tournament.GAMES_FILE)));
+    assertEquals(Files.readAllLines(directory.resolve("parallel").resolve(Tournament.RATINGS_FILE)),
+        Files.readAllLines(directory.resolve("sequential").resolve(Tournament.RATINGS_FILE)));
+  }
+
+  @Test
+  void swissPairingTest() {
+    final var decks = Deck.combinations(4);
+    assertEquals(35, decks.size());
+    assertEquals(35, new HashSet<>(decks).size());
+    final var pairings = TournamentFormat.SWISS.pair(new Standings(decks));
+    assertEquals(17, pairings.size());
+    final var paired = new HashSet<Integer>();
+    pairings.forEach(p -> {
+      assertNotEquals(p[0], p[1]);
+      assertTrue(paired.add(p[0]));
+      assertTrue(paired.add(p[1]));
+    });
+  }
+
+  @Test
+  void eloTest() {
+    final var ratings = new EloRatings(2);
+    assertEquals(0.5, ratings.expectedScore(0, 1), 1e-9);
+    ratings.update(0, 1, 1);
+    assertEquals(EloRatings.INITIAL_RATING + EloRatings.K_FACTOR / 2, ratings.get(0), 1e-9);
+    assertTrue(ratings.expectedScore(0, 1) > 0.5);
+  }
+}